@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.opentelemetry.context.Context;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.contract.generated.rest.model.CodecType;
+import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
+import io.pravega.schemaregistry.contract.v1.ApiV1;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.AsyncInvoker;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterparts of the {@link ApiV1} client interfaces. Each method sends the same request as the method with
+ * the same name and parameters in {@link ApiV1.GroupsApi} or {@link ApiV1.SchemasApi} using the JAX-RS async invoker and
+ * returns a future which is completed with the response.
+ */
+final class AsyncApiV1 {
+    private static final String NAMESPACE = "namespace";
+    private static final String GROUP_NAME = "groupName";
+
+    private AsyncApiV1() {
+    }
+
+    /**
+     * Async group apis. Identical to {@link ApiV1.GroupsApi}.
+     */
+    interface GroupsApi {
+        CompletableFuture<Response> addCodecType(String namespace, String groupName, CodecType codecType);
+
+        CompletableFuture<Response> addSchema(String namespace, String groupName, SchemaInfo schemaInfo);
+
+        CompletableFuture<Response> canRead(String namespace, String groupName, SchemaInfo schemaInfo);
+
+        CompletableFuture<Response> createGroup(String namespace, CreateGroupRequest createGroupRequest);
+
+        CompletableFuture<Response> deleteGroup(String namespace, String groupName);
+
+        CompletableFuture<Response> getCodecTypesList(String namespace, String groupName);
+
+        CompletableFuture<Response> getEncodingInfo(String namespace, String groupName, Integer encodingId);
+
+        CompletableFuture<Response> getGroupProperties(String namespace, String groupName);
+
+        CompletableFuture<Response> getGroupHistory(String namespace, String groupName);
+
+        CompletableFuture<Response> getSchemaVersions(String namespace, String groupName, String type);
+
+        CompletableFuture<Response> getSchemas(String namespace, String groupName, String type);
+
+        CompletableFuture<Response> getEncodingId(String namespace, String groupName, GetEncodingIdRequest getEncodingIdRequest);
+
+        CompletableFuture<Response> deleteSchemaForId(String namespace, String groupName, Integer version);
+
+        CompletableFuture<Response> getSchemaForId(String namespace, String groupName, Integer schemaId);
+
+        CompletableFuture<Response> getSchemaVersion(String namespace, String groupName, SchemaInfo schemaInfo);
+
+        CompletableFuture<Response> listGroups(String namespace, String continuationToken, Integer limit);
+
+        CompletableFuture<Response> updateCompatibility(String namespace, String groupName, UpdateCompatibilityRequest updateCompatibilityRequest);
+
+        CompletableFuture<Response> validate(String namespace, String groupName, ValidateRequest validateRequest);
+
+        CompletableFuture<Response> watchGroup(String namespace, String groupName, String etag, Integer timeoutMillis);
+    }
+
+    /**
+     * Async schemas apis. Identical to {@link ApiV1.SchemasApi}.
+     */
+    interface SchemasApi {
+        CompletableFuture<Response> getSchemaReferences(SchemaInfo schemaInfo, String namespace);
+    }
+
+    /**
+     * Creates group apis which send requests to the given target.
+     *
+     * @param target target for the registry service uri.
+     * @return Group apis.
+     */
+    static GroupsApi newGroupsApi(WebTarget target) {
+        return new GroupsApiImpl(target.path("v1/groups"));
+    }
+
+    /**
+     * Creates schemas apis which send requests to the given target.
+     *
+     * @param target target for the registry service uri.
+     * @return Schemas apis.
+     */
+    static SchemasApi newSchemasApi(WebTarget target) {
+        WebTarget schemas = target.path("v1/schemas");
+        return (schemaInfo, namespace) -> invoke(withNamespace(schemas.path("addedTo"), namespace), HttpMethod.POST, schemaInfo);
+    }
+
+    /**
+     * Adapts a synchronous api, such as a proxy or a mock of {@link ApiV1.GroupsApi}, to its async counterpart. The
+     * synchronous methods are invoked on the calling thread.
+     *
+     * @param asyncApi async interface.
+     * @param syncApi synchronous api with methods with same names and parameters as the async interface.
+     * @param <T> Type of async interface.
+     * @return Async api which delegates to the synchronous api.
+     */
+    @VisibleForTesting
+    static <T> T fromSync(Class<T> asyncApi, Object syncApi) {
+        return asyncApi.cast(Proxy.newProxyInstance(asyncApi.getClassLoader(), new Class<?>[]{asyncApi}, (proxy, method, args) -> {
+            Method syncMethod = method.getDeclaringClass().equals(Object.class) ? method :
+                    syncApi.getClass().getMethod(method.getName(), method.getParameterTypes());
+            try {
+                Object result = syncMethod.invoke(syncApi, args);
+                return method.getDeclaringClass().equals(Object.class) ? result : CompletableFuture.completedFuture(result);
+            } catch (InvocationTargetException e) {
+                return Futures.failedFuture(e.getCause());
+            }
+        }));
+    }
+
+    private static WebTarget withNamespace(WebTarget target, @Nullable String namespace) {
+        return namespace == null ? target : target.queryParam(NAMESPACE, namespace);
+    }
+
+    private static CompletableFuture<Response> invoke(WebTarget target, String method, @Nullable Object entity) {
+        return invoke(target.request(MediaType.APPLICATION_JSON_TYPE), method, entity);
+    }
+
+    private static CompletableFuture<Response> invoke(Invocation.Builder request, String method, @Nullable Object entity) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        InvocationCallback<Response> callback = new InvocationCallback<Response>() {
+            @Override
+            public void completed(Response response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void failed(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+        };
+        // request filters run on the threads of the client, so the trace context of the caller is passed to the 
+        // tracing filter as a property of the request.
+        AsyncInvoker invoker = request.property(TracingFilter.CONTEXT_PROPERTY, Context.current()).async();
+        if (entity == null) {
+            invoker.method(method, callback);
+        } else {
+            invoker.method(method, Entity.entity(entity, MediaType.APPLICATION_JSON_TYPE), callback);
+        }
+        return result;
+    }
+
+    private static class GroupsApiImpl implements GroupsApi {
+        private final WebTarget groups;
+
+        GroupsApiImpl(WebTarget groups) {
+            this.groups = groups;
+        }
+
+        @Override
+        public CompletableFuture<Response> addCodecType(String namespace, String groupName, CodecType codecType) {
+            return invoke(group(namespace, groupName).path("codecTypes"), HttpMethod.POST, codecType);
+        }
+
+        @Override
+        public CompletableFuture<Response> addSchema(String namespace, String groupName, SchemaInfo schemaInfo) {
+            return invoke(group(namespace, groupName).path("schemas"), HttpMethod.POST, schemaInfo);
+        }
+
+        @Override
+        public CompletableFuture<Response> canRead(String namespace, String groupName, SchemaInfo schemaInfo) {
+            return invoke(group(namespace, groupName).path("schemas/versions/canRead"), HttpMethod.POST, schemaInfo);
+        }
+
+        @Override
+        public CompletableFuture<Response> createGroup(String namespace, CreateGroupRequest createGroupRequest) {
+            return invoke(withNamespace(groups, namespace), HttpMethod.POST, createGroupRequest);
+        }
+
+        @Override
+        public CompletableFuture<Response> deleteGroup(String namespace, String groupName) {
+            return invoke(group(namespace, groupName), HttpMethod.DELETE, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getCodecTypesList(String namespace, String groupName) {
+            return invoke(group(namespace, groupName).path("codecTypes"), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getEncodingInfo(String namespace, String groupName, Integer encodingId) {
+            return invoke(group(namespace, groupName).path("encodings").path(encodingId.toString()), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getGroupProperties(String namespace, String groupName) {
+            return invoke(group(namespace, groupName), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getGroupHistory(String namespace, String groupName) {
+            return invoke(group(namespace, groupName).path("history"), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getSchemaVersions(String namespace, String groupName, String type) {
+            return invoke(withType(group(namespace, groupName).path("schemas/versions"), type), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getSchemas(String namespace, String groupName, String type) {
+            return invoke(withType(group(namespace, groupName).path("schemas"), type), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getEncodingId(String namespace, String groupName, GetEncodingIdRequest getEncodingIdRequest) {
+            return invoke(group(namespace, groupName).path("encodings"), HttpMethod.PUT, getEncodingIdRequest);
+        }
+
+        @Override
+        public CompletableFuture<Response> deleteSchemaForId(String namespace, String groupName, Integer version) {
+            return invoke(group(namespace, groupName).path("schemas/schema").path(version.toString()), HttpMethod.DELETE, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getSchemaForId(String namespace, String groupName, Integer schemaId) {
+            return invoke(group(namespace, groupName).path("schemas/schema").path(schemaId.toString()), HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> getSchemaVersion(String namespace, String groupName, SchemaInfo schemaInfo) {
+            return invoke(group(namespace, groupName).path("schemas/versions/find"), HttpMethod.POST, schemaInfo);
+        }
+
+        @Override
+        public CompletableFuture<Response> listGroups(String namespace, String continuationToken, Integer limit) {
+            WebTarget target = withNamespace(groups, namespace).queryParam("limit", limit);
+            if (continuationToken != null) {
+                target = target.queryParam("continuationToken", continuationToken);
+            }
+            return invoke(target, HttpMethod.GET, null);
+        }
+
+        @Override
+        public CompletableFuture<Response> updateCompatibility(String namespace, String groupName, UpdateCompatibilityRequest updateCompatibilityRequest) {
+            return invoke(group(namespace, groupName).path("compatibility"), HttpMethod.PUT, updateCompatibilityRequest);
+        }
+
+        @Override
+        public CompletableFuture<Response> validate(String namespace, String groupName, ValidateRequest validateRequest) {
+            return invoke(group(namespace, groupName).path("schemas/versions/validate"), HttpMethod.POST, validateRequest);
+        }
+
+        @Override
+        public CompletableFuture<Response> watchGroup(String namespace, String groupName, String etag, Integer timeoutMillis) {
+            Invocation.Builder request = group(namespace, groupName).path("watch").queryParam("timeoutMillis", timeoutMillis)
+                                                                    .request(MediaType.APPLICATION_JSON_TYPE);
+            if (etag != null) {
+                request = request.header(HttpHeaders.IF_NONE_MATCH, new EntityTag(etag));
+            }
+            return invoke(request, HttpMethod.GET, null);
+        }
+
+        private WebTarget group(String namespace, String groupName) {
+            // the group name is resolved as a template so that it is encoded as a single path segment.
+            return withNamespace(groups, namespace).path("{" + GROUP_NAME + "}").resolveTemplate(GROUP_NAME, groupName);
+        }
+
+        private WebTarget withType(WebTarget target, @Nullable String type) {
+            return type == null ? target : target.queryParam("type", type);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.Beta;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Defines an asynchronous registry client for interacting with schema registry service.
+ * Each method has the same semantics as the method with same name in {@link SchemaRegistryClient}. Instead of blocking
+ * the calling thread, the methods return a future which is completed with the result once the service responds.
+ * The futures are completed exceptionally with the exceptions that the corresponding {@link SchemaRegistryClient}
+ * method throws. Retries on connection failures are scheduled without blocking any thread.
+ */
+@Beta
+public interface AsyncSchemaRegistryClient extends AutoCloseable {
+    /**
+     * Adds a new group. See {@link SchemaRegistryClient#addGroup}.
+     *
+     * @param groupId Id for the group that uniquely identifies the group.
+     * @param groupProperties groupProperties Group properties for the group.
+     * @return CompletableFuture which is completed with true if the group was added successfully, false if it exists.
+     */
+    CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties);
+
+    /**
+     * Removes a group identified by the groupId. See {@link SchemaRegistryClient#removeGroup}.
+     *
+     * @param groupId Id for the group that uniquely identifies the group.
+     * @return CompletableFuture which is completed when the group is removed.
+     */
+    CompletableFuture<Void> removeGroup(String groupId);
+
+    /**
+     * Gets a page of groups that the user is authorized on. See {@link SchemaRegistryClient#listGroups}.
+     *
+     * @param continuationToken continuation token returned with the previous page. Null to get the first page.
+     * @return CompletableFuture which is completed with the continuation token for the next page and the names of groups
+     * in this page with corresponding group properties.
+     */
+    CompletableFuture<Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>>> listGroups(@Nullable String continuationToken);
+
+    /**
+     * Gets group properties for the group identified by the group id. See {@link SchemaRegistryClient#getGroupProperties}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which is completed with the group properties.
+     */
+    CompletableFuture<GroupProperties> getGroupProperties(String groupId);
+
+    /**
+     * Updates group's schema validation policy. See {@link SchemaRegistryClient#updateCompatibility}.
+     *
+     * @param groupId Id for the group.
+     * @param compatibility New Compatibility for the group.
+     * @param previous Previous compatibility.
+     * @return CompletableFuture which is completed with true if the update was accepted by the service, false if it was
+     * rejected because of precondition failure.
+     */
+    CompletableFuture<Boolean> updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous);
+
+    /**
+     * Gets list of latest schemas for each object types registered under the group. See {@link SchemaRegistryClient#getSchemas}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which is completed with unordered list of different objects within the group.
+     */
+    CompletableFuture<List<SchemaWithVersion>> getSchemas(String groupId);
+
+    /**
+     * Registers schema to the group. See {@link SchemaRegistryClient#addSchema}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to add.
+     * @return CompletableFuture which is completed with the version info which uniquely identifies where the schema is
+     * added in the group.
+     */
+    CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * Deletes the schema associated to the given version. See {@link SchemaRegistryClient#deleteSchemaVersion}.
+     *
+     * @param groupId Id for the group.
+     * @param versionInfo Version which uniquely identifies schema within a group.
+     * @return CompletableFuture which is completed when the schema is deleted.
+     */
+    CompletableFuture<Void> deleteSchemaVersion(String groupId, VersionInfo versionInfo);
+
+    /**
+     * Gets schema corresponding to the version. See {@link SchemaRegistryClient#getSchemaForVersion}.
+     *
+     * @param groupId Id for the group.
+     * @param versionInfo Version which uniquely identifies schema within a group.
+     * @return CompletableFuture which is completed with schema info corresponding to the version info.
+     */
+    CompletableFuture<SchemaInfo> getSchemaForVersion(String groupId, VersionInfo versionInfo);
+
+    /**
+     * Gets encoding info against the requested encoding Id. See {@link SchemaRegistryClient#getEncodingInfo}.
+     *
+     * @param groupId Id for the group.
+     * @param encodingId Encoding id that uniquely identifies a schema within a group.
+     * @return CompletableFuture which is completed with encoding info corresponding to the encoding id.
+     */
+    CompletableFuture<EncodingInfo> getEncodingInfo(String groupId, EncodingId encodingId);
+
+    /**
+     * Gets an encoding id that uniquely identifies a combination of Schema version and codec type.
+     * See {@link SchemaRegistryClient#getEncodingId}.
+     *
+     * @param groupId Id for the group.
+     * @param versionInfo version of schema
+     * @param codecType codec type
+     * @return CompletableFuture which is completed with encoding id for the pair of version and codec type.
+     */
+    CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType);
+
+    /**
+     * Gets latest schema and version for the group (or type, if specified). See {@link SchemaRegistryClient#getLatestSchemaVersion}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaType Type of object identified by {@link SchemaInfo#type}.
+     * @return CompletableFuture which is completed with schema with version for the last schema that was added to the
+     * group (or type).
+     */
+    CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String groupId, @Nullable String schemaType);
+
+    /**
+     * Gets version corresponding to the schema. See {@link SchemaRegistryClient#getVersionForSchema}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo SchemaInfo that describes format and structure.
+     * @return CompletableFuture which is completed with VersionInfo corresponding to schema.
+     */
+    CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * Gets all schemas with corresponding versions for the group (or type, if specified).
+     * See {@link SchemaRegistryClient#getSchemaVersions}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaType type of object identified by {@link SchemaInfo#type}.
+     * @return CompletableFuture which is completed with ordered list of schemas with versions for all schemas in the group.
+     */
+    CompletableFuture<List<SchemaWithVersion>> getSchemaVersions(String groupId, @Nullable String schemaType);
+
+    /**
+     * Checks whether given schema is valid by applying compatibility policy against previous schemas in the group.
+     * See {@link SchemaRegistryClient#validateSchema}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to check for validity.
+     * @return CompletableFuture which is completed with true if the schema is valid, false otherwise.
+     */
+    CompletableFuture<Boolean> validateSchema(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * Checks whether given schema can be used to read. See {@link SchemaRegistryClient#canReadUsing}.
+     *
+     * @param groupId Id for the group.
+     * @param schemaInfo Schema to check to be used for reads.
+     * @return CompletableFuture which is completed with true if it can be used to read, false otherwise.
+     */
+    CompletableFuture<Boolean> canReadUsing(String groupId, SchemaInfo schemaInfo);
+
+    /**
+     * List of codec types used for encoding in the group. See {@link SchemaRegistryClient#getCodecTypes}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which is completed with list of codec types used for encoding in the group.
+     */
+    CompletableFuture<List<CodecType>> getCodecTypes(String groupId);
+
+    /**
+     * Add new codec type to be used in encoding in the group. See {@link SchemaRegistryClient#addCodecType}.
+     *
+     * @param groupId Id for the group.
+     * @param codecType codec type.
+     * @return CompletableFuture which is completed when the codec type is added.
+     */
+    CompletableFuture<Void> addCodecType(String groupId, CodecType codecType);
+
+    /**
+     * Gets complete schema evolution history of the group. See {@link SchemaRegistryClient#getGroupHistory}.
+     *
+     * @param groupId Id for the group.
+     * @return CompletableFuture which is completed with ordered list of schemas with versions and compatibility policy
+     * for all schemas in the group.
+     */
+    CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String groupId);
+
+    /**
+     * Finds all groups and corresponding version info for the groups where the supplied schema has been registered.
+     * See {@link SchemaRegistryClient#getSchemaReferences}.
+     *
+     * @param schemaInfo Schema info to find references for.
+     * @return CompletableFuture which is completed with map of group Id to versionInfo identifier for the schema in that group.
+     */
+    CompletableFuture<Map<String, VersionInfo>> getSchemaReferences(SchemaInfo schemaInfo);
+
+    /**
+     * Waits for the group to change. The entity tag of a group changes with every update to the group. The service 
+     * responds as soon as the entity tag of the group differs from the supplied entity tag, or when the timeout elapses.
+     *
+     * @param groupId Id for the group.
+     * @param etag Entity tag of the group last seen by the caller. If null, the current entity tag is returned immediately.
+     * @param timeoutMillis Maximum time the service waits for a change. The service caps it at 60 seconds.
+     * @return CompletableFuture which is completed with the current entity tag of the group. It is equal to the supplied
+     * entity tag if the group did not change before the timeout elapsed.
+     */
+    CompletableFuture<String> watchGroupEtag(String groupId, @Nullable String etag, long timeoutMillis);
+
+    /**
+     * Starts watching the group in the background. The listener is invoked with a snapshot of the group, once the 
+     * first snapshot is taken and then whenever the group changes. The watch uses a long poll on the service instead 
+     * of repeatedly polling for the latest schemas. The watch stops if the group does not exist or is removed, see 
+     * {@link GroupWatcher#getStopped()}.
+     *
+     * @param groupId Id for the group.
+     * @param listener Listener invoked with new snapshots of the group. It should not block.
+     * @return Group watcher which holds the latest snapshot. Closing it stops the watch.
+     */
+    GroupWatcher watchGroup(String groupId, Consumer<GroupSnapshot> listener);
+}
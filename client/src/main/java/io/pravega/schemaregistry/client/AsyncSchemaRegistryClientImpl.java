@@ -0,0 +1,777 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.opentelemetry.context.Context;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.CertificateUtils;
+import io.pravega.common.util.Retry;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.contract.generated.rest.model.CanRead;
+import io.pravega.schemaregistry.contract.generated.rest.model.CodecTypes;
+import io.pravega.schemaregistry.contract.generated.rest.model.CreateGroupRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.GetEncodingIdRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.ListGroupsResponse;
+import io.pravega.schemaregistry.contract.generated.rest.model.SchemaVersionsList;
+import io.pravega.schemaregistry.contract.generated.rest.model.UpdateCompatibilityRequest;
+import io.pravega.schemaregistry.contract.generated.rest.model.Valid;
+import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
+import io.pravega.schemaregistry.contract.transform.ModelHelper;
+import lombok.SneakyThrows;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+
+import javax.annotation.Nullable;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.security.KeyManagementException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.BadArgumentException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.SchemaValidationFailedException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.SerializationMismatchException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.UnauthorizedException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.CodecTypeNotRegisteredException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.MalformedSchemaException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ConnectionException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.InternalServerError;
+
+public class AsyncSchemaRegistryClientImpl implements AsyncSchemaRegistryClient {
+    private static final Retry.RetryAndThrowConditionally RETRY = Retry
+            .withExpBackoff(100, 2, 10, 1000)
+            .retryWhen(x -> Exceptions.unwrap(x) instanceof ConnectionException);
+    private static final int GROUP_LIMIT = 100;
+    private static final long ENDPOINT_COOL_DOWN_MILLIS = 10000L;
+    private static final int CONNECTION_LEASE_TIMEOUT_MILLIS = 10000;
+    private static final String HTTPS = "https";
+    private static final String TLS = "TLS";
+    // retries, hedges and group watches of all clients are scheduled on one scheduler. The scheduled tasks only send 
+    // requests and do not block, so a thread is shared by all clients instead of each client starting its own thread.
+    private static final Supplier<ScheduledExecutorService> SCHEDULER = 
+            Suppliers.memoize(() -> ExecutorServiceHelpers.newScheduledThreadPool(1, "registry-client-retry"));
+
+    private final Endpoints endpoints;
+    private final long hedgeDelayMillis;
+    private final int listGroupsPageSize;
+    private final String namespace;
+    private final Client client;
+    private final Client watchClient;
+    private final ClientMetrics metrics;
+    // retries and group watches are scheduled on the shared scheduler. Requests and responses are processed on the 
+    // threads of the jersey client.
+    private final ScheduledExecutorService executor;
+
+    AsyncSchemaRegistryClientImpl(SchemaRegistryClientConfig config, String namespace) {
+        Preconditions.checkNotNull(config);
+        Preconditions.checkArgument(!config.getEndpoints().isEmpty(), "schemaRegistryUri should be set");
+        // calls fail instead of queueing indefinitely if all connections of the pool are taken.
+        this.client = newClient(config, RequestConfig.custom().setConnectionRequestTimeout(CONNECTION_LEASE_TIMEOUT_MILLIS).build());
+        // long polls hold a connection and a thread until the group changes or the poll times out, so they are sent 
+        // with a client of their own whose connections and threads cannot be taken from the other calls. 
+        this.watchClient = newClient(config, RequestConfig.DEFAULT);
+        this.namespace = namespace;
+        List<Endpoints.Endpoint> endpointList = config.getEndpoints().stream().map(uri -> {
+            WebTarget target = client.target(uri);
+            return new Endpoints.Endpoint(uri, AsyncApiV1.newGroupsApi(target), AsyncApiV1.newSchemasApi(target),
+                    AsyncApiV1.newGroupsApi(watchClient.target(uri)));
+        }).collect(Collectors.toList());
+        this.endpoints = new Endpoints(endpointList, ENDPOINT_COOL_DOWN_MILLIS, System::nanoTime);
+        this.hedgeDelayMillis = config.getHedgeDelayMillis();
+        this.listGroupsPageSize = config.getListGroupsPageSize();
+        this.metrics = new ClientMetrics(config.getMeterRegistry());
+        this.executor = SCHEDULER.get();
+    }
+
+    @VisibleForTesting
+    AsyncSchemaRegistryClientImpl(AsyncApiV1.GroupsApi groupProxy, AsyncApiV1.SchemasApi schemaProxy) {
+        this(new Endpoints(Collections.singletonList(new Endpoints.Endpoint(null, groupProxy, schemaProxy)), 
+                ENDPOINT_COOL_DOWN_MILLIS, System::nanoTime), 0L);
+    }
+
+    @VisibleForTesting
+    AsyncSchemaRegistryClientImpl(Endpoints endpoints, long hedgeDelayMillis) {
+        this(endpoints, hedgeDelayMillis, Metrics.globalRegistry);
+    }
+
+    @VisibleForTesting
+    AsyncSchemaRegistryClientImpl(Endpoints endpoints, long hedgeDelayMillis, MeterRegistry meterRegistry) {
+        this.endpoints = endpoints;
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        this.listGroupsPageSize = GROUP_LIMIT;
+        this.namespace = null;
+        this.client = null;
+        this.watchClient = null;
+        this.metrics = new ClientMetrics(meterRegistry);
+        this.executor = SCHEDULER.get();
+    }
+
+    private Client newClient(SchemaRegistryClientConfig config, RequestConfig requestConfig) {
+        ClientConfig clientConfig = new ClientConfig().connectorProvider(new ApacheConnectorProvider());
+        RegistryBuilder<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory());
+        if (config.getEndpoints().stream().anyMatch(x -> HTTPS.equalsIgnoreCase(x.getScheme()))) {
+            // host name verification is done by default. To disable it we will use a no-op verifier
+            HostnameVerifier hostnameVerifier = config.isValidateHostName() ? null : NoopHostnameVerifier.INSTANCE;
+            socketFactories.register(HTTPS, new SSLConnectionSocketFactory(getSSLContext(config), hostnameVerifier));
+        }
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactories.build());
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        clientConfig.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
+        clientConfig.property(ApacheClientProperties.REQUEST_CONFIG, requestConfig);
+        // the apache connector completes async requests on the client's async thread pool. It is bounded by the number 
+        // of connections as a request cannot make progress without a connection. 
+        clientConfig.property(ClientProperties.ASYNC_THREADPOOL_SIZE, config.getMaxConnections());
+        Client newClient = ClientBuilder.newBuilder().withConfig(clientConfig).build();
+        newClient.register(new EntityBufferingFilter());
+        newClient.register(new TracingFilter());
+        if (config.isAuthEnabled()) {
+            newClient.register(new AuthFilter(config.getCredentialProvider()));
+        }
+        return newClient;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties) {
+        CreateGroupRequest request = new CreateGroupRequest().groupName(groupId).groupProperties(ModelHelper.encode(groupProperties));
+        return withRetryIfNotSent("addGroup", endpoint -> endpoint.getGroupsApi().createGroup(namespace, request), response -> {
+            Response.Status status = Response.Status.fromStatusCode(response.getStatus());
+            switch (status) {
+                case CREATED:
+                    return true;
+                case CONFLICT:
+                    return false;
+                case BAD_REQUEST:
+                    throw new BadArgumentException("Group properties invalid.");
+                default:
+                    return handleResponse(status, "Internal Service error. Failed to add the group.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeGroup(String groupId) {
+        return withRetry("removeGroup", endpoint -> endpoint.getGroupsApi().deleteGroup(namespace, groupId), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case NO_CONTENT:
+                    return null;
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to remove the group.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map.Entry<String, Collection<Map.Entry<String, GroupProperties>>>> listGroups(@Nullable String continuationToken) {
+        return withRetry("listGroups", endpoint -> endpoint.getGroupsApi().listGroups(namespace, continuationToken, listGroupsPageSize), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    ListGroupsResponse entity = response.readEntity(ListGroupsResponse.class);
+                    List<Map.Entry<String, GroupProperties>> map = new LinkedList<>();
+                    for (Map.Entry<String, io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties> entry : entity.getGroups().entrySet()) {
+                        ModelHelper.decode(entry.getValue().getSerializationFormat());
+                        map.add(new AbstractMap.SimpleEntry<>(entry.getKey(), ModelHelper.decode(entry.getValue())));
+                    }
+                    return new AbstractMap.SimpleEntry<>(entity.getContinuationToken(), map);
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to list groups.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<GroupProperties> getGroupProperties(String groupId) {
+        return withRetry("getGroupProperties", endpoint -> endpoint.getGroupsApi().getGroupProperties(namespace, groupId), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to list groups.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
+        UpdateCompatibilityRequest request = new UpdateCompatibilityRequest()
+                .compatibility(ModelHelper.encode(compatibility));
+        if (previous != null) {
+            request.setPreviousCompatibility(ModelHelper.encode(previous));
+        }
+
+        return withRetry("updateCompatibility", endpoint -> endpoint.getGroupsApi().updateCompatibility(namespace, groupId, request), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case CONFLICT:
+                    return false;
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                case OK:
+                    return true;
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to update compatibility.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<SchemaWithVersion>> getSchemas(String groupId) {
+        return latestSchemas(groupId, null);
+    }
+
+    private CompletableFuture<List<SchemaWithVersion>> latestSchemas(String groupId, String type) {
+        return withRetry("getSchemas", endpoint -> endpoint.getGroupsApi().getSchemas(namespace, groupId, type), response -> {
+            SchemaVersionsList objectsList = response.readEntity(SchemaVersionsList.class);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return objectsList.getSchemas().stream().map(ModelHelper::decode).collect(Collectors.toList());
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get object types.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo) {
+        return withRetryIfNotSent("addSchema", endpoint -> endpoint.getGroupsApi().addSchema(namespace, groupId, ModelHelper.encode(schemaInfo)), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case CREATED:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                case CONFLICT:
+                    throw new SchemaValidationFailedException("Schema is incompatible.");
+                case EXPECTATION_FAILED:
+                    throw new SerializationMismatchException("Serialization format disallowed.");
+                case BAD_REQUEST:
+                    throw new MalformedSchemaException("Schema is malformed. Verify the schema data and type");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to addSchema.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+        return withRetry("deleteSchemaVersion", endpoint -> endpoint.getGroupsApi().deleteSchemaForId(namespace, groupId, versionInfo.getId()), response -> {
+            if (response.getStatus() == Response.Status.NOT_FOUND.getStatusCode()) {
+                throw new ResourceNotFoundException("Group not found.");
+            } else if (response.getStatus() != Response.Status.NO_CONTENT.getStatusCode()) {
+                handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                        "Internal Service error. Failed to get schema.");
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<SchemaInfo> getSchemaForVersion(String groupId, VersionInfo versionInfo) {
+        return withHedging("getSchemaForVersion", endpoint -> endpoint.getGroupsApi().getSchemaForId(namespace, groupId, versionInfo.getId()), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Schema not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get schema.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<EncodingInfo> getEncodingInfo(String groupId, EncodingId encodingId) {
+        return withHedging("getEncodingInfo", endpoint -> endpoint.getGroupsApi().getEncodingInfo(namespace, groupId, encodingId.getId()), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Encoding not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get encoding info.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+        GetEncodingIdRequest getEncodingIdRequest = new GetEncodingIdRequest();
+        getEncodingIdRequest.codecType(codecType)
+                            .versionInfo(ModelHelper.encode(versionInfo));
+        return withRetryIfNotSent("getEncodingId", endpoint -> endpoint.getGroupsApi().getEncodingId(namespace, groupId, getEncodingIdRequest), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingId.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("getEncodingId failed. Either Group or Version does not exist.");
+                case PRECONDITION_FAILED:
+                    throw new CodecTypeNotRegisteredException(String.format("Codec type %s not registered.", codecType));
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get encoding info.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<SchemaWithVersion> getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
+        return latestSchemas(groupId, schemaType).thenApply(list -> {
+            if (schemaType == null) {
+                return list.stream().max(Comparator.comparingInt(x -> x.getVersionInfo().getId())).orElse(null);
+            } else {
+                return list.get(0);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<SchemaWithVersion>> getSchemaVersions(String groupId, @Nullable String schemaType) {
+        return withRetry("getSchemaVersions", endpoint -> endpoint.getGroupsApi().getSchemaVersions(namespace, groupId, schemaType), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    SchemaVersionsList schemaList = response.readEntity(SchemaVersionsList.class);
+                    return schemaList.getSchemas().stream().map(ModelHelper::decode).collect(Collectors.toList());
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("getSchemaVersions failed. Group does not exist.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get schema versions for group.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<GroupHistoryRecord>> getGroupHistory(String groupId) {
+        return withRetry("getGroupHistory", endpoint -> endpoint.getGroupsApi().getGroupHistory(namespace, groupId), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory history = response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupHistory.class);
+                    return history.getHistory().stream().map(ModelHelper::decode).collect(Collectors.toList());
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("getGroupHistory failed. Either Group or Version does not exist.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get schema evolution history for group.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, VersionInfo>> getSchemaReferences(SchemaInfo schemaInfo) {
+        return withRetry("getSchemaReferences", endpoint -> endpoint.getSchemasApi().getSchemaReferences(ModelHelper.encode(schemaInfo), namespace), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    io.pravega.schemaregistry.contract.generated.rest.model.AddedTo addedTo = response
+                            .readEntity(io.pravega.schemaregistry.contract.generated.rest.model.AddedTo.class);
+                    return addedTo.getGroups().entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, x -> ModelHelper.decode(x.getValue())));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("getSchemaReferences failed. Either Group or Version does not exist.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get schema evolution history for group.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schema) {
+        io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo schemaInfo = ModelHelper.encode(schema);
+        return withRetry("getVersionForSchema", endpoint -> endpoint.getGroupsApi().getSchemaVersion(namespace, groupId, schemaInfo), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return ModelHelper.decode(response.readEntity(io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo.class));
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Schema not registered.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error. Failed to get schema version.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> validateSchema(String groupId, SchemaInfo schemaInfo) {
+        ValidateRequest validateRequest = new ValidateRequest()
+                .schemaInfo(ModelHelper.encode(schemaInfo));
+        return withRetry("validateSchema", endpoint -> endpoint.getGroupsApi().validate(namespace, groupId, validateRequest), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return response.readEntity(Valid.class).isValid();
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> canReadUsing(String groupId, SchemaInfo schemaInfo) {
+        io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo request = ModelHelper.encode(schemaInfo);
+        return withRetry("canReadUsing", endpoint -> endpoint.getGroupsApi().canRead(namespace, groupId, request), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return response.readEntity(CanRead.class).isCompatible();
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Schema not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Internal Service error.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<CodecType>> getCodecTypes(String groupId) {
+        return withRetry("getCodecTypes", endpoint -> endpoint.getGroupsApi().getCodecTypesList(namespace, groupId), response -> {
+            CodecTypes list = response.readEntity(CodecTypes.class);
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return list.getCodecTypes().stream().map(ModelHelper::decode).collect(Collectors.toList());
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Failed to get codecTypes. Internal server error.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> addCodecType(String groupId, CodecType codecType) {
+        return withRetry("addCodecType", endpoint -> endpoint.getGroupsApi().addCodecType(namespace, groupId, ModelHelper.encode(codecType)), response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case CREATED:
+                    return null;
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()),
+                            "Failed to add codec type. Internal server error.");
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> watchGroupEtag(String groupId, @Nullable String etag, long timeoutMillis) {
+        int timeout = (int) Math.min(timeoutMillis, Integer.MAX_VALUE);
+        // long polls are neither retried nor recorded as request latency, as they are held by the service until the 
+        // group changes. the watcher retries failed polls itself.
+        return withFailover(endpoints.ordered().iterator(), 
+                Context.current().wrapFunction(endpoint -> endpoint.getWatchApi().watchGroup(namespace, groupId, etag, timeout)), 
+                this::isConnectionFailure).thenApply(response -> {
+            switch (Response.Status.fromStatusCode(response.getStatus())) {
+                case OK:
+                    return response.getEntityTag().getValue();
+                case NOT_MODIFIED:
+                    return etag;
+                case NOT_FOUND:
+                    throw new ResourceNotFoundException("Group not found.");
+                default:
+                    return handleResponse(Response.Status.fromStatusCode(response.getStatus()), "Internal Service error. Failed to watch the group.");
+            }
+        });
+    }
+
+    @Override
+    public GroupWatcher watchGroup(String groupId, Consumer<GroupSnapshot> listener) {
+        GroupWatcher watcher = new GroupWatcher(this, groupId, listener, executor);
+        watcher.start();
+        return watcher;
+    }
+
+    /**
+     * Sends the request and processes its response. Requests that fail with a retryable exception are sent again after 
+     * a backoff which is scheduled on the executor rather than slept on. Within an attempt, the request fails over to 
+     * the other endpoints if an endpoint cannot be connected to.
+     */
+    private <T> CompletableFuture<T> withRetry(String api, Function<Endpoints.Endpoint, CompletableFuture<Response>> request, 
+                                               Function<Response, T> responseHandler) {
+        return withRetry(api, request, responseHandler, this::isConnectionFailure);
+    }
+
+    /**
+     * Sends a request which is not idempotent, like creating a group, a schema version or an encoding id, with retries. 
+     * Within an attempt, the request fails over to the other endpoints only if an endpoint could not be connected to. 
+     * Other failures, like read timeouts, may happen after the service processed the request, so the request is not 
+     * sent to another endpoint.
+     */
+    private <T> CompletableFuture<T> withRetryIfNotSent(String api, Function<Endpoints.Endpoint, CompletableFuture<Response>> request,
+                                                        Function<Response, T> responseHandler) {
+        return withRetry(api, request, responseHandler, this::isConnectFailure);
+    }
+
+    private <T> CompletableFuture<T> withRetry(String api, Function<Endpoints.Endpoint, CompletableFuture<Response>> request,
+                                               Function<Response, T> responseHandler, Predicate<Throwable> failoverOn) {
+        ClientMetrics.Request metricsRequest = metrics.start(api);
+        Function<Endpoints.Endpoint, CompletableFuture<Response>> traced = Context.current().wrapFunction(request);
+        return recorded(metricsRequest, RETRY.runAsync(() -> {
+            metricsRequest.attempt();
+            return withFailover(endpoints.ordered().iterator(), traced, failoverOn).thenApply(responseHandler);
+        }, executor));
+    }
+
+    /**
+     * Sends an idempotent read request with retries. If there is more than one endpoint and hedging is enabled, the 
+     * request is also sent to another endpoint if the first endpoint has not responded within the hedge delay, and 
+     * the first response is used.
+     */
+    private <T> CompletableFuture<T> withHedging(String api, Function<Endpoints.Endpoint, CompletableFuture<Response>> request,
+                                                 Function<Response, T> responseHandler) {
+        if (hedgeDelayMillis == 0L || endpoints.size() < 2) {
+            return withRetry(api, request, responseHandler);
+        }
+        ClientMetrics.Request metricsRequest = metrics.start(api);
+        Function<Endpoints.Endpoint, CompletableFuture<Response>> traced = Context.current().wrapFunction(request);
+        return recorded(metricsRequest, RETRY.runAsync(() -> {
+            metricsRequest.attempt();
+            return hedged(traced).thenApply(responseHandler);
+        }, executor));
+    }
+
+    private <T> CompletableFuture<T> recorded(ClientMetrics.Request metricsRequest, CompletableFuture<T> result) {
+        result.whenComplete((r, e) -> metricsRequest.complete(e));
+        return result;
+    }
+
+    private CompletableFuture<Response> hedged(Function<Endpoints.Endpoint, CompletableFuture<Response>> request) {
+        List<Endpoints.Endpoint> ordered = endpoints.ordered();
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        // number of requests that have not completed. The result fails only once all requests have failed.
+        AtomicInteger outstanding = new AtomicInteger(1);
+        ScheduledFuture<?> hedge = executor.schedule(() -> {
+            if (!result.isDone()) {
+                outstanding.incrementAndGet();
+                // the hedged request starts with the second endpoint in the order.
+                List<Endpoints.Endpoint> rotated = new ArrayList<>(ordered.subList(1, ordered.size()));
+                rotated.add(ordered.get(0));
+                completeWith(result, withFailover(rotated.iterator(), request, this::isConnectionFailure), outstanding);
+            }
+        }, hedgeDelayMillis, TimeUnit.MILLISECONDS);
+        completeWith(result, withFailover(ordered.iterator(), request, this::isConnectionFailure), outstanding);
+        result.whenComplete((r, e) -> hedge.cancel(false));
+        return result;
+    }
+
+    private void completeWith(CompletableFuture<Response> result, CompletableFuture<Response> attempt, AtomicInteger outstanding) {
+        attempt.whenComplete((r, e) -> {
+            if (e == null) {
+                if (!result.complete(r)) {
+                    // the other request completed first. 
+                    r.close();
+                }
+            } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Sends the request to the first endpoint and fails over to the next endpoint if the request fails with a failure
+     * that the predicate accepts.
+     */
+    private CompletableFuture<Response> withFailover(Iterator<Endpoints.Endpoint> ordered,
+                                                     Function<Endpoints.Endpoint, CompletableFuture<Response>> request,
+                                                     Predicate<Throwable> failoverOn) {
+        Endpoints.Endpoint endpoint = ordered.next();
+        return send(endpoint, request).handle((r, e) -> {
+            if (e == null) {
+                return CompletableFuture.completedFuture(r);
+            } else if (failoverOn.test(e) && ordered.hasNext()) {
+                return withFailover(ordered, request, failoverOn);
+            } else {
+                return Futures.<Response>failedFuture(Exceptions.unwrap(e));
+            }
+        }).thenCompose(x -> x);
+    }
+
+    private CompletableFuture<Response> send(Endpoints.Endpoint endpoint, Function<Endpoints.Endpoint, CompletableFuture<Response>> request) {
+        CompletableFuture<Response> future;
+        try {
+            future = request.apply(endpoint);
+        } catch (Exception e) {
+            future = Futures.failedFuture(e);
+        }
+        return future.whenComplete((r, e) -> {
+            if (e == null) {
+                endpoints.markSucceeded(endpoint);
+            } else if (isConnectionFailure(e)) {
+                endpoints.markFailed(endpoint);
+            }
+        });
+    }
+
+    private boolean isConnectionFailure(Throwable e) {
+        // jersey fails requests which could not be sent or whose response could not be received with a processing exception.
+        Throwable unwrap = Exceptions.unwrap(e);
+        return unwrap instanceof ProcessingException || unwrap instanceof ConnectionException;
+    }
+
+    private boolean isConnectFailure(Throwable e) {
+        // the request was not sent if no connection could be established to the endpoint. 
+        Throwable unwrap = Exceptions.unwrap(e);
+        if (unwrap instanceof ConnectionException) {
+            return true;
+        }
+        for (Throwable cause = unwrap; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof NoRouteToHostException 
+                    || cause instanceof UnknownHostException || cause instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> T handleResponse(Response.Status status, String errorMessage) {
+        switch (status) {
+            case UNAUTHORIZED:
+            case FORBIDDEN:
+                throw new UnauthorizedException("User not authorized.");
+            default:
+                throw new InternalServerError(errorMessage);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        // the scheduler is shared by all clients and is not shut down.
+        if (client != null) {
+            client.close();
+            watchClient.close();
+        }
+    }
+
+    @SneakyThrows(IOException.class)
+    private SSLContext getSSLContext(SchemaRegistryClientConfig config) {
+        try {
+            // If trust store is specified, use it. 
+            // Else check if certificate is provided. 
+            // Else use default SSL context.
+            KeyStore trustStore;
+            if (config.getTrustStore() != null) {
+                trustStore = getTrustStore(config);
+            } else if (config.getCertificate() != null) {
+                trustStore = CertificateUtils.createTrustStore(config.getCertificate());
+            } else {
+                return SSLContext.getDefault();
+            }
+            TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            factory.init(trustStore);
+            SSLContext tlsContext = SSLContext.getInstance(TLS);
+            tlsContext.init(null, factory.getTrustManagers(), null);
+            return tlsContext;
+        } catch (KeyManagementException | KeyStoreException | NoSuchAlgorithmException |
+                CertificateException e) {
+            throw new IllegalStateException("Failure initializing trust store", e);
+        } 
+    }
+
+    private KeyStore getTrustStore(SchemaRegistryClientConfig config) throws KeyStoreException, 
+            IOException, NoSuchAlgorithmException, CertificateException {
+        KeyStore trustStore;
+        trustStore = KeyStore.getInstance(config.getTrustStoreType());
+        try (FileInputStream fin = new FileInputStream(config.getTrustStore())) {
+            String trustStorePassword = config.getTrustStorePassword();
+            if (trustStorePassword != null) {
+                trustStore.load(fin, trustStorePassword.toCharArray());
+            } else {
+                trustStore.load(fin, null);
+            }
+        }
+        return trustStore;
+    }
+
+    /**
+     * Reads the response entity fully so that the pooled connection is released even if the response is discarded 
+     * without reading its entity, as is the case for most error responses. 
+     */
+    private static class EntityBufferingFilter implements ClientResponseFilter {
+        @Override
+        public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+            if (responseContext.hasEntity()) {
+                try (InputStream entityStream = responseContext.getEntityStream()) {
+                    responseContext.setEntityStream(new ByteArrayInputStream(IOUtils.toByteArray(entityStream)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import io.pravega.schemaregistry.client.exceptions.RegistryExceptions;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import lombok.Data;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Registry client decorator which caches the results of the wrapped client.
+ *
+ * Results that never change once the service has returned them are cached until they are evicted by size. These are
+ * encoding infos, schemas for versions, encoding ids for a version and codec type and versions for schemas.
+ *
+ * Results that describe the current state of a group, like its properties, latest schemas, schema versions and codec
+ * types, are cached only if a ttl is configured and are served from the cache until the ttl expires. Updates to a group
+ * made through this client invalidate the cached state of the group, so the client reads its own writes. Updates made
+ * by other clients become visible once the ttl expires.
+ *
+ * Ids are reassigned if a group is removed and created again, so all results cached for a group are dropped when the
+ * group is removed through this client or when the service reports that the group or a resource in it does not exist.
+ *
+ * The client is thread safe and can be shared by all serializers of an application.
+ */
+public class CachingSchemaRegistryClient implements SchemaRegistryClient {
+    private final SchemaRegistryClient delegate;
+    private final Cache<EncodingKey, EncodingInfo> encodingInfos;
+    private final Cache<VersionKey, SchemaInfo> schemas;
+    private final Cache<EncodingIdKey, EncodingId> encodingIds;
+    private final Cache<SchemaKey, VersionInfo> versions;
+    @Nullable
+    private final Cache<GroupKey, Object> groupState;
+
+    /**
+     * Creates a caching client.
+     *
+     * @param delegate client that is invoked on cache misses.
+     * @param maximumSize maximum number of entries in each cache of immutable results.
+     * @param groupStateTtlMillis time for which the state of a group is cached. 0 to not cache the state of groups.
+     */
+    public CachingSchemaRegistryClient(SchemaRegistryClient delegate, int maximumSize, long groupStateTtlMillis) {
+        Preconditions.checkNotNull(delegate);
+        Preconditions.checkArgument(maximumSize > 0, "maximumSize should be positive");
+        Preconditions.checkArgument(groupStateTtlMillis >= 0, "groupStateTtlMillis should not be negative");
+        this.delegate = delegate;
+        this.encodingInfos = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.schemas = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.encodingIds = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.versions = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.groupState = groupStateTtlMillis == 0 ? null :
+                CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(groupStateTtlMillis, TimeUnit.MILLISECONDS).build();
+    }
+
+    @Override
+    public boolean addGroup(String groupId, GroupProperties groupProperties) {
+        boolean added = delegate.addGroup(groupId, groupProperties);
+        invalidateGroupState(groupId);
+        return added;
+    }
+
+    @Override
+    public void removeGroup(String groupId) {
+        delegate.removeGroup(groupId);
+        // ids are reassigned if a group with same name is created again, so even the immutable results are dropped.
+        invalidateGroup(groupId);
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, GroupProperties>> listGroups() {
+        return delegate.listGroups();
+    }
+
+    @Override
+    public GroupProperties getGroupProperties(String groupId) {
+        return getGroupState(new GroupKey(groupId, GroupKey.Type.Properties, null), () -> delegate.getGroupProperties(groupId));
+    }
+
+    @Override
+    public boolean updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
+        boolean updated = delegate.updateCompatibility(groupId, compatibility, previous);
+        invalidateGroupState(groupId);
+        return updated;
+    }
+
+    @Override
+    public List<SchemaWithVersion> getSchemas(String groupId) {
+        // lists are copied so that callers cannot modify the cached state.
+        return getGroupState(new GroupKey(groupId, GroupKey.Type.Schemas, null),
+                () -> ImmutableList.copyOf(delegate.getSchemas(groupId)));
+    }
+
+    @Override
+    public VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) {
+        VersionInfo versionInfo = delegate.addSchema(groupId, schemaInfo);
+        invalidateGroupState(groupId);
+        versions.put(new SchemaKey(groupId, schemaInfo), versionInfo);
+        return versionInfo;
+    }
+
+    @Override
+    public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+        delegate.deleteSchemaVersion(groupId, versionInfo);
+        invalidateGroupState(groupId);
+        // the schema for the version can still be read after delete, but the schema will be assigned a new version
+        // if it is added again.
+        versions.asMap().entrySet().removeIf(x -> x.getKey().getGroupId().equals(groupId) && x.getValue().equals(versionInfo));
+    }
+
+    @Override
+    public SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) {
+        return get(groupId, schemas, new VersionKey(groupId, versionInfo), () -> delegate.getSchemaForVersion(groupId, versionInfo));
+    }
+
+    @Override
+    public EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) {
+        return get(groupId, encodingInfos, new EncodingKey(groupId, encodingId), () -> delegate.getEncodingInfo(groupId, encodingId));
+    }
+
+    @Override
+    public EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+        return get(groupId, encodingIds, new EncodingIdKey(groupId, versionInfo, codecType), () -> delegate.getEncodingId(groupId, versionInfo, codecType));
+    }
+
+    @Override
+    public SchemaWithVersion getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
+        return getGroupState(new GroupKey(groupId, GroupKey.Type.LatestSchemaVersion, schemaType),
+                () -> delegate.getLatestSchemaVersion(groupId, schemaType));
+    }
+
+    @Override
+    public VersionInfo getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+        return get(groupId, versions, new SchemaKey(groupId, schemaInfo), () -> delegate.getVersionForSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public List<SchemaWithVersion> getSchemaVersions(String groupId, @Nullable String schemaType) {
+        return getGroupState(new GroupKey(groupId, GroupKey.Type.SchemaVersions, schemaType),
+                () -> ImmutableList.copyOf(delegate.getSchemaVersions(groupId, schemaType)));
+    }
+
+    @Override
+    public boolean validateSchema(String groupId, SchemaInfo schemaInfo) {
+        return delegate.validateSchema(groupId, schemaInfo);
+    }
+
+    @Override
+    public boolean canReadUsing(String groupId, SchemaInfo schemaInfo) {
+        return delegate.canReadUsing(groupId, schemaInfo);
+    }
+
+    @Override
+    public List<CodecType> getCodecTypes(String groupId) {
+        return getGroupState(new GroupKey(groupId, GroupKey.Type.CodecTypes, null),
+                () -> ImmutableList.copyOf(delegate.getCodecTypes(groupId)));
+    }
+
+    @Override
+    public void addCodecType(String groupId, CodecType codecType) {
+        delegate.addCodecType(groupId, codecType);
+        invalidateGroupState(groupId);
+    }
+
+    @Override
+    public List<GroupHistoryRecord> getGroupHistory(String groupId) {
+        return delegate.getGroupHistory(groupId);
+    }
+
+    @Override
+    public Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) {
+        return delegate.getSchemaReferences(schemaInfo);
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    @VisibleForTesting
+    long size() {
+        return encodingInfos.size() + schemas.size() + encodingIds.size() + versions.size() +
+                (groupState == null ? 0 : groupState.size());
+    }
+
+    /**
+     * Gets the value from the cache or from the supplier on a miss. Failures are not cached. Concurrent misses on a key
+     * may each call the supplier, which is harmless as the calls are idempotent reads.
+     */
+    private <K, V> V get(String groupId, Cache<K, V> cache, K key, Supplier<V> supplier) {
+        V value = cache.getIfPresent(key);
+        if (value == null) {
+            value = invalidateIfNotFound(groupId, supplier);
+            if (value != null) {
+                cache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getGroupState(GroupKey key, Supplier<V> supplier) {
+        if (groupState == null) {
+            return invalidateIfNotFound(key.getGroupId(), supplier);
+        }
+        return (V) get(key.getGroupId(), groupState, key, supplier::get);
+    }
+
+    /**
+     * Calls the supplier and drops the cached results of the group if the group or a resource in it does not exist, 
+     * as the group may have been removed by another client.
+     */
+    private <V> V invalidateIfNotFound(String groupId, Supplier<V> supplier) {
+        try {
+            return supplier.get();
+        } catch (RegistryExceptions.ResourceNotFoundException e) {
+            invalidateGroup(groupId);
+            throw e;
+        }
+    }
+
+    private void invalidateGroupState(String groupId) {
+        if (groupState != null) {
+            groupState.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        }
+    }
+
+    private void invalidateGroup(String groupId) {
+        invalidateGroupState(groupId);
+        encodingInfos.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        schemas.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        encodingIds.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+        versions.asMap().keySet().removeIf(x -> x.getGroupId().equals(groupId));
+    }
+
+    @Data
+    private static class EncodingKey {
+        private final String groupId;
+        private final EncodingId encodingId;
+    }
+
+    @Data
+    private static class VersionKey {
+        private final String groupId;
+        private final VersionInfo versionInfo;
+    }
+
+    @Data
+    private static class EncodingIdKey {
+        private final String groupId;
+        private final VersionInfo versionInfo;
+        private final String codecType;
+    }
+
+    @Data
+    private static class SchemaKey {
+        private final String groupId;
+        private final SchemaInfo schemaInfo;
+    }
+
+    @Data
+    private static class GroupKey {
+        private final String groupId;
+        private final Type type;
+        @Nullable
+        private final String schemaType;
+
+        private enum Type {
+            Properties,
+            Schemas,
+            LatestSchemaVersion,
+            SchemaVersions,
+            CodecTypes
+        }
+    }
+}
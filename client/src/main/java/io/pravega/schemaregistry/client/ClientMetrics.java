@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pravega.common.Exceptions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meters of the registry client. Each request to the registry service is recorded with the name of the api it calls:
+ * the latency of the request including its retries, the number of retries and whether it failed.
+ */
+class ClientMetrics {
+    static final String REQUEST_LATENCY = "schemaregistry.client.request.latency";
+    static final String REQUEST_RETRIES = "schemaregistry.client.request.retries";
+    static final String REQUEST_FAILURES = "schemaregistry.client.request.failures";
+    private static final String API_TAG = "api";
+    private static final String EXCEPTION_TAG = "exception";
+
+    private final MeterRegistry registry;
+
+    ClientMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts recording a request.
+     *
+     * @param api name of the api.
+     * @return Request on which the attempts and the completion of the request are recorded.
+     */
+    Request start(String api) {
+        return new Request(api, System.nanoTime());
+    }
+
+    class Request {
+        private final String api;
+        private final long startNanos;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private Request(String api, long startNanos) {
+            this.api = api;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Records an attempt to send the request. All attempts after the first are counted as retries.
+         */
+        void attempt() {
+            if (attempts.getAndIncrement() > 0) {
+                Counter.builder(REQUEST_RETRIES).tag(API_TAG, api).register(registry).increment();
+            }
+        }
+
+        /**
+         * Records the completion of the request.
+         *
+         * @param e exception with which the request failed or null if it succeeded.
+         */
+        void complete(Throwable e) {
+            Timer.builder(REQUEST_LATENCY).tag(API_TAG, api).publishPercentileHistogram()
+                 .register(registry).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                Counter.builder(REQUEST_FAILURES).tag(API_TAG, api)
+                       .tag(EXCEPTION_TAG, Exceptions.unwrap(e).getClass().getSimpleName())
+                       .register(registry).increment();
+            }
+        }
+    }
+}
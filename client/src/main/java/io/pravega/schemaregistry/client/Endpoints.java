@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry service endpoints that a client sends its requests to.
+ * Requests are balanced across healthy endpoints in round robin order. An endpoint which fails with a connection error
+ * is marked unhealthy and is tried only after all healthy endpoints until its cool down period has elapsed.
+ */
+@Slf4j
+class Endpoints {
+    private final List<Endpoint> endpoints;
+    private final long coolDownNanos;
+    private final LongSupplier clock;
+    private final AtomicInteger next = new AtomicInteger();
+
+    Endpoints(List<Endpoint> endpoints, long coolDownMillis, LongSupplier clock) {
+        Preconditions.checkArgument(!endpoints.isEmpty(), "at least one endpoint is required");
+        this.endpoints = ImmutableList.copyOf(endpoints);
+        this.coolDownNanos = coolDownMillis * 1_000_000L;
+        this.clock = clock;
+    }
+
+    int size() {
+        return endpoints.size();
+    }
+
+    /**
+     * Gets all endpoints in the order in which a request should try them. Healthy endpoints come first starting with the
+     * next endpoint in round robin order, followed by unhealthy endpoints in the order in which they become healthy.
+     *
+     * @return Endpoints in the order in which they should be tried.
+     */
+    List<Endpoint> ordered() {
+        if (endpoints.size() == 1) {
+            return endpoints;
+        }
+        long now = clock.getAsLong();
+        int start = Math.floorMod(next.getAndIncrement(), endpoints.size());
+        List<Endpoint> healthy = new ArrayList<>(endpoints.size());
+        List<Endpoint> unhealthy = new ArrayList<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            Endpoint endpoint = endpoints.get((start + i) % endpoints.size());
+            if (endpoint.isHealthy(now)) {
+                healthy.add(endpoint);
+            } else {
+                unhealthy.add(endpoint);
+            }
+        }
+        unhealthy.sort(Comparator.comparingLong(x -> x.unhealthyUntil));
+        healthy.addAll(unhealthy);
+        return healthy;
+    }
+
+    void markFailed(Endpoint endpoint) {
+        if (endpoints.size() > 1) {
+            log.info("Registry endpoint {} failed. Marking it unhealthy.", endpoint.getUri());
+            endpoint.unhealthyUntil = clock.getAsLong() + coolDownNanos;
+        }
+    }
+
+    void markSucceeded(Endpoint endpoint) {
+        endpoint.unhealthyUntil = 0L;
+    }
+
+    /**
+     * A registry service endpoint with the apis to send requests to it.
+     */
+    static class Endpoint {
+        @Getter
+        private final URI uri;
+        @Getter
+        private final AsyncApiV1.GroupsApi groupsApi;
+        @Getter
+        private final AsyncApiV1.SchemasApi schemasApi;
+        // groups api on which long polls are sent, so that they do not hold the connections of the other calls.
+        @Getter
+        private final AsyncApiV1.GroupsApi watchApi;
+        // time in nanos until which the endpoint is considered unhealthy. 0 if the endpoint is healthy.
+        private volatile long unhealthyUntil = 0L;
+
+        Endpoint(URI uri, AsyncApiV1.GroupsApi groupsApi, AsyncApiV1.SchemasApi schemasApi) {
+            this(uri, groupsApi, schemasApi, groupsApi);
+        }
+
+        Endpoint(URI uri, AsyncApiV1.GroupsApi groupsApi, AsyncApiV1.SchemasApi schemasApi, AsyncApiV1.GroupsApi watchApi) {
+            this.uri = uri;
+            this.groupsApi = groupsApi;
+            this.schemasApi = schemasApi;
+            this.watchApi = watchApi;
+        }
+
+        private boolean isHealthy(long now) {
+            long until = unhealthyUntil;
+            return until == 0L || until - now <= 0;
+        }
+    }
+}
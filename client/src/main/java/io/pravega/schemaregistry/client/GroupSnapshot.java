@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * State of a group as observed by a {@link GroupWatcher}.
+ */
+@Data
+public class GroupSnapshot {
+    /**
+     * Entity tag of the group when the snapshot was taken. It changes with every update to the group.
+     */
+    private final String etag;
+    /**
+     * Properties of the group.
+     */
+    private final GroupProperties groupProperties;
+    /**
+     * Latest schemas for each object type in the group. See {@link SchemaRegistryClient#getSchemas}.
+     */
+    private final List<SchemaWithVersion> latestSchemas;
+    /**
+     * Codec types registered with the group.
+     */
+    private final List<CodecType> codecTypes;
+}
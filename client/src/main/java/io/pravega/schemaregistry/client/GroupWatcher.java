@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.pravega.common.Exceptions;
+import io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Watches a group in the background and keeps a snapshot of its state fresh.
+ * The watcher long polls the registry service for changes to the group's entity tag. Whenever the group changes, the 
+ * snapshot is refreshed and the listener is invoked with the new snapshot. The listener is invoked on a client thread, 
+ * one snapshot at a time, and should not block. Failures are logged and the watch is retried after a delay, except
+ * if the group does not exist, which stops the watch and fails {@link #getStopped()}.
+ */
+@Slf4j
+public class GroupWatcher implements AutoCloseable {
+    private static final long WATCH_TIMEOUT_MILLIS = 30000L;
+    private static final long RETRY_DELAY_MILLIS = 1000L;
+
+    private final AsyncSchemaRegistryClient client;
+    private final String groupId;
+    private final Consumer<GroupSnapshot> listener;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<GroupSnapshot> snapshot;
+    private final AtomicBoolean closed;
+    private final CompletableFuture<Void> stopped;
+
+    GroupWatcher(AsyncSchemaRegistryClient client, String groupId, Consumer<GroupSnapshot> listener, 
+                 ScheduledExecutorService executor) {
+        this.client = client;
+        this.groupId = groupId;
+        this.listener = listener;
+        this.executor = executor;
+        this.snapshot = new AtomicReference<>();
+        this.closed = new AtomicBoolean(false);
+        this.stopped = new CompletableFuture<>();
+    }
+
+    /**
+     * Latest snapshot of the group.
+     *
+     * @return Latest snapshot of the group, or null if the first snapshot has not been taken yet.
+     */
+    @Nullable
+    public GroupSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Future which is completed once the watch stops. It is completed when the watcher is closed, or completed 
+     * exceptionally with {@link ResourceNotFoundException} if the group does not exist or is removed.
+     *
+     * @return Future which is completed once the watch stops.
+     */
+    public CompletableFuture<Void> getStopped() {
+        return stopped;
+    }
+
+    void start() {
+        executor.execute(() -> watch(null));
+    }
+
+    private void watch(@Nullable String etag) {
+        if (closed.get()) {
+            return;
+        }
+        client.watchGroupEtag(groupId, etag, WATCH_TIMEOUT_MILLIS)
+              .thenCompose(current -> current.equals(etag) ? CompletableFuture.completedFuture(current) : 
+                      refresh(current).thenApply(v -> current))
+              .whenComplete((current, e) -> {
+                  if (e == null) {
+                      // the next watch is started on the executor so that the stack does not grow with each change.
+                      executor.execute(() -> watch(current));
+                  } else if (Exceptions.unwrap(e) instanceof ResourceNotFoundException) {
+                      log.info("Group {} does not exist. Stopping the watch.", groupId);
+                      closed.set(true);
+                      stopped.completeExceptionally(Exceptions.unwrap(e));
+                  } else if (!closed.get()) {
+                      log.warn("Watch on group {} failed. Retrying.", groupId, e);
+                      executor.schedule(() -> watch(etag), RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                  }
+              });
+    }
+
+    private CompletableFuture<Void> refresh(String etag) {
+        CompletableFuture<GroupProperties> properties = client.getGroupProperties(groupId);
+        CompletableFuture<List<SchemaWithVersion>> schemas = client.getSchemas(groupId);
+        CompletableFuture<List<CodecType>> codecTypes = client.getCodecTypes(groupId);
+        return CompletableFuture.allOf(properties, schemas, codecTypes).thenRun(() -> {
+            GroupSnapshot newSnapshot = new GroupSnapshot(etag, properties.join(), schemas.join(), codecTypes.join());
+            snapshot.set(newSnapshot);
+            if (!closed.get()) {
+                listener.accept(newSnapshot);
+            }
+        });
+    }
+
+    /**
+     * Stops watching the group. An outstanding long poll is not interrupted but its result is ignored.
+     */
+    @Override
+    public void close() {
+        closed.set(true);
+        stopped.complete(null);
+    }
+}
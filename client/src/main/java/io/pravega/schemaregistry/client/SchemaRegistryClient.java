@@ -24,6 +24,10 @@ import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
 import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.BadArgumentException;
@@ -81,6 +85,17 @@ public interface SchemaRegistryClient extends AutoCloseable {
      * @throws UnauthorizedException if the user is unauthorized.
      */
     Iterator<Map.Entry<String, GroupProperties>> listGroups() throws UnauthorizedException;
+
+    /**
+     * Stream view of {@link #listGroups()} with the same consistency guarantees. Groups are fetched page by page as the
+     * stream is consumed.
+     * 
+     * @return sequential stream of names of groups with corresponding group properties for all groups. 
+     * @throws UnauthorizedException if the user is unauthorized.
+     */
+    default Stream<Map.Entry<String, GroupProperties>> streamGroups() throws UnauthorizedException {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(listGroups(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
         
     /**
      * Get group properties for the group identified by the group id. 
@@ -9,11 +9,16 @@
  */
 package io.pravega.schemaregistry.client;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.pravega.schemaregistry.common.CredentialProvider;
 import lombok.Builder;
 import lombok.Data;
 
 import java.net.URI;
+import java.util.List;
 
 /**
  * Registry client configuration used to create registry client. 
@@ -25,6 +30,19 @@ public class SchemaRegistryClientConfig {
      * URI for connecting with registry client.
      */
     private final URI schemaRegistryUri;
+
+    /**
+     * URIs of additional registry service replicas. Requests are balanced across {@link #schemaRegistryUri} and these
+     * endpoints, and fail over to another endpoint if an endpoint cannot be connected to.
+     */
+    private final List<URI> failoverUris;
+
+    /**
+     * Delay in milliseconds after which an idempotent read, like getting the encoding info or the schema for a version, 
+     * is also sent to another endpoint if the first endpoint has not responded. The first response is used. 
+     * Typically set to the p99 latency of these reads. Defaults to 0 which disables hedging.
+     */
+    private final long hedgeDelayMillis;
     
     /**
      * Flag to indicate if authentication is enabled.
@@ -62,10 +80,57 @@ public class SchemaRegistryClientConfig {
      */
     private final boolean validateHostName;
 
-    private SchemaRegistryClientConfig(URI schemaRegistryUri, boolean authEnabled, CredentialProvider credentialProvider,
+    /**
+     * Maximum number of pooled connections the client keeps open to the registry service. 
+     */
+    private final int maxConnections;
+
+    /**
+     * Maximum number of pooled connections the client keeps open to a single registry service endpoint.
+     */
+    private final int maxConnectionsPerRoute;
+
+    /**
+     * Maximum number of immutable results, like encoding infos and schemas for versions, that the client caches per
+     * type of result. Defaults to 0 which disables caching. See {@link CachingSchemaRegistryClient}.
+     */
+    private final int cacheMaximumSize;
+
+    /**
+     * Time in milliseconds for which the client caches the state of a group, like its properties and latest schemas. 
+     * Defaults to 0 which means the state of groups is not cached and every call reads the latest state from the service.
+     */
+    private final long groupStateCacheTtlMillis;
+
+    /**
+     * Number of groups the client requests per page when listing groups. Defaults to 100.
+     */
+    private final int listGroupsPageSize;
+
+    /**
+     * Meter registry with which the client records request latencies, retries and failures. Defaults to the global 
+     * Micrometer registry, on which meters are no-ops until the application adds a backing registry to it.
+     */
+    private final MeterRegistry meterRegistry;
+
+    private SchemaRegistryClientConfig(URI schemaRegistryUri, List<URI> failoverUris, long hedgeDelayMillis, 
+                                       boolean authEnabled, CredentialProvider credentialProvider,
                                        String trustStore, String trustStoreType, String trustStorePassword, 
-                                       String certificate, boolean validateHostName) {
+                                       String certificate, boolean validateHostName, int maxConnections, 
+                                       int maxConnectionsPerRoute, int cacheMaximumSize, long groupStateCacheTtlMillis,
+                                       int listGroupsPageSize, MeterRegistry meterRegistry) {
+        Preconditions.checkArgument(maxConnections > 0, "maxConnections should be positive");
+        Preconditions.checkArgument(maxConnectionsPerRoute > 0 && maxConnectionsPerRoute <= maxConnections, 
+                "maxConnectionsPerRoute should be positive and not more than maxConnections");
+        Preconditions.checkArgument(cacheMaximumSize >= 0, "cacheMaximumSize should not be negative");
+        Preconditions.checkArgument(groupStateCacheTtlMillis >= 0, "groupStateCacheTtlMillis should not be negative");
+        Preconditions.checkArgument(listGroupsPageSize > 0, "listGroupsPageSize should be positive");
+        Preconditions.checkNotNull(failoverUris);
+        Preconditions.checkArgument(hedgeDelayMillis >= 0, "hedgeDelayMillis should not be negative");
+        Preconditions.checkNotNull(meterRegistry);
         this.schemaRegistryUri = schemaRegistryUri;
+        this.failoverUris = ImmutableList.copyOf(failoverUris);
+        this.hedgeDelayMillis = hedgeDelayMillis;
         this.authEnabled = authEnabled;
         this.credentialProvider = credentialProvider;
         this.trustStore = trustStore;
@@ -73,15 +138,42 @@ public class SchemaRegistryClientConfig {
         this.trustStoreType = trustStoreType;
         this.trustStorePassword = trustStorePassword;
         this.validateHostName = validateHostName;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.cacheMaximumSize = cacheMaximumSize;
+        this.groupStateCacheTtlMillis = groupStateCacheTtlMillis;
+        this.listGroupsPageSize = listGroupsPageSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * All registry service endpoints that the client sends requests to. 
+     * 
+     * @return {@link #schemaRegistryUri} followed by {@link #failoverUris}.
+     */
+    public List<URI> getEndpoints() {
+        ImmutableList.Builder<URI> endpoints = ImmutableList.builder();
+        if (schemaRegistryUri != null) {
+            endpoints.add(schemaRegistryUri);
+        }
+        return endpoints.addAll(failoverUris).build();
     }
 
     public static final class SchemaRegistryClientConfigBuilder {
+        private List<URI> failoverUris = ImmutableList.of();
+        private long hedgeDelayMillis = 0L;
         private boolean authEnabled = false;
         private boolean validateHostName = false;
         private String trustStore = null;
         private String trustStoreType = null;
         private String trustStorePassword = null;
         private String certificate = null;
+        private int maxConnections = 100;
+        private int maxConnectionsPerRoute = 20;
+        private int cacheMaximumSize = 0;
+        private long groupStateCacheTtlMillis = 0L;
+        private int listGroupsPageSize = 100;
+        private MeterRegistry meterRegistry = Metrics.globalRegistry;
 
         public SchemaRegistryClientConfigBuilder certificate(String certificate) {
             this.certificate = certificate;
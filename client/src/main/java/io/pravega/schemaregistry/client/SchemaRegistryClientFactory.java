@@ -21,7 +21,7 @@ public class SchemaRegistryClientFactory {
      * @return SchemaRegistry client implementation
      */
     public static SchemaRegistryClient withDefaultNamespace(SchemaRegistryClientConfig config) {
-        return new SchemaRegistryClientImpl(config, null);
+        return withCache(new SchemaRegistryClientImpl(config, null), config);
     }
     
     /**
@@ -33,6 +33,49 @@ public class SchemaRegistryClientFactory {
      * @return SchemaRegistry client implementation
      */
     public static SchemaRegistryClient withNamespace(String namespace, SchemaRegistryClientConfig config) {
-        return new SchemaRegistryClientImpl(config, namespace);
+        return withCache(new SchemaRegistryClientImpl(config, namespace), config);
+    }
+
+    /**
+     * Factory method to create asynchronous Schema Registry Client with default namespace.
+     * This sets the namespace context to use the default namespace (no namespace). 
+     * 
+     * @param config Configuration for creating registry client. 
+     * @return Async SchemaRegistry client implementation
+     */
+    public static AsyncSchemaRegistryClient asyncWithDefaultNamespace(SchemaRegistryClientConfig config) {
+        return new AsyncSchemaRegistryClientImpl(config, null);
+    }
+
+    /**
+     * Factory method to create asynchronous Schema Registry Client with namespace. 
+     * This sets the namespace context for all calls to registry service. 
+     * 
+     * @param config Configuration for creating registry client. 
+     * @param namespace Namespace 
+     * @return Async SchemaRegistry client implementation
+     */
+    public static AsyncSchemaRegistryClient asyncWithNamespace(String namespace, SchemaRegistryClientConfig config) {
+        return new AsyncSchemaRegistryClientImpl(config, namespace);
+    }
+
+    /**
+     * Factory method to create Schema Registry Client which makes its calls through the asynchronous client, so that
+     * both clients share the connections to the registry service. Closing the returned client closes the asynchronous
+     * client.
+     *
+     * @param asyncClient Asynchronous client created with the config.
+     * @param config Configuration with which the asynchronous client was created.
+     * @return SchemaRegistry client implementation
+     */
+    public static SchemaRegistryClient fromAsync(AsyncSchemaRegistryClient asyncClient, SchemaRegistryClientConfig config) {
+        return withCache(new SchemaRegistryClientImpl(asyncClient), config);
+    }
+
+    private static SchemaRegistryClient withCache(SchemaRegistryClient client, SchemaRegistryClientConfig config) {
+        if (config.getCacheMaximumSize() == 0) {
+            return client;
+        }
+        return new CachingSchemaRegistryClient(client, config.getCacheMaximumSize(), config.getGroupStateCacheTtlMillis());
     }
 }
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+/**
+ * Tracing filter for the client. This intercepts requests and adds the trace context of the caller's current span 
+ * to the request headers so that the spans of the registry service are attached to the caller's trace. 
+ * Nothing is added unless an OpenTelemetry SDK is installed by the application. 
+ */
+public class TracingFilter implements ClientRequestFilter {
+    /**
+     * Request property with the trace context of the caller. Async requests are filtered on the threads of the client, 
+     * where the caller's context is not current.
+     */
+    static final String CONTEXT_PROPERTY = "io.pravega.schemaregistry.client.traceContext";
+    private static final TextMapSetter<ClientRequestContext> SETTER = (carrier, key, value) -> carrier.getHeaders().putSingle(key, value);
+
+    @Override
+    public void filter(ClientRequestContext context) {
+        Object caller = context.getProperty(CONTEXT_PROPERTY);
+        Context traceContext = caller instanceof Context ? (Context) caller : Context.current();
+        GlobalOpenTelemetry.getPropagators().getTextMapPropagator().inject(traceContext, context, SETTER);
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.contract.transform.ModelHelper;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ConnectionException;
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AsyncSchemaRegistryClientTest {
+    @Test
+    public void testResponseHandling() throws Exception {
+        AsyncApiV1.GroupsApi proxy = mock(AsyncApiV1.GroupsApi.class);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(proxy, null)) {
+            CompletableFuture<Response> responseFuture = new CompletableFuture<>();
+            doReturn(responseFuture).when(proxy).getGroupProperties(any(), any());
+            CompletableFuture<GroupProperties> result = client.getGroupProperties("grp");
+            // the future is completed only when the response is received.
+            assertFalse(result.isDone());
+
+            GroupProperties groupProperties = new GroupProperties(SerializationFormat.Avro, Compatibility.backward(), false);
+            Response response = mock(Response.class);
+            doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+            doReturn(ModelHelper.encode(groupProperties)).when(response).readEntity(io.pravega.schemaregistry.contract.generated.rest.model.GroupProperties.class);
+            responseFuture.complete(response);
+            assertEquals(groupProperties, result.join());
+
+            Response notFound = mock(Response.class);
+            doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(notFound).getStatus();
+            doReturn(CompletableFuture.completedFuture(notFound)).when(proxy).getGroupProperties(any(), any());
+            AssertExtensions.assertFutureThrows("", client.getGroupProperties("grp"), 
+                    e -> e instanceof ResourceNotFoundException);
+        }
+    }
+
+    @Test
+    public void testRetry() throws Exception {
+        AsyncApiV1.GroupsApi proxy = mock(AsyncApiV1.GroupsApi.class);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(proxy, null)) {
+            Response response = mock(Response.class);
+            doReturn(Response.Status.NO_CONTENT.getStatusCode()).when(response).getStatus();
+            doReturn(Futures.failedFuture(new ConnectionException("connection failed")))
+                    .doReturn(CompletableFuture.completedFuture(response))
+                    .when(proxy).deleteGroup(any(), any());
+            client.removeGroup("grp").join();
+            verify(proxy, times(2)).deleteGroup(any(), any());
+        }
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        AsyncApiV1.GroupsApi proxy = mock(AsyncApiV1.GroupsApi.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Endpoints endpoints = new Endpoints(Collections.singletonList(new Endpoints.Endpoint(null, proxy, null)), 1000L, 
+                System::nanoTime);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(endpoints, 0L, registry)) {
+            Response response = mock(Response.class);
+            doReturn(Response.Status.NO_CONTENT.getStatusCode()).when(response).getStatus();
+            doReturn(Futures.failedFuture(new ConnectionException("connection failed")))
+                    .doReturn(CompletableFuture.completedFuture(response))
+                    .when(proxy).deleteGroup(any(), any());
+            client.removeGroup("grp").join();
+            // metrics are recorded once the request completes. 
+            AssertExtensions.assertEventuallyEquals(1L, () -> {
+                Timer timer = registry.find(ClientMetrics.REQUEST_LATENCY).tag("api", "removeGroup").timer();
+                return timer == null ? 0L : timer.count();
+            }, 10000L);
+            assertEquals(1.0, registry.get(ClientMetrics.REQUEST_RETRIES).tag("api", "removeGroup").counter().count(), 0.0);
+            assertTrue(registry.find(ClientMetrics.REQUEST_FAILURES).counters().isEmpty());
+
+            Response notFound = mock(Response.class);
+            doReturn(Response.Status.NOT_FOUND.getStatusCode()).when(notFound).getStatus();
+            doReturn(CompletableFuture.completedFuture(notFound)).when(proxy).getGroupProperties(any(), any());
+            AssertExtensions.assertFutureThrows("", client.getGroupProperties("grp"), 
+                    e -> e instanceof ResourceNotFoundException);
+            AssertExtensions.assertEventuallyEquals(1.0, () -> {
+                Counter counter = registry.find(ClientMetrics.REQUEST_FAILURES)
+                                          .tags("api", "getGroupProperties", "exception", "ResourceNotFoundException").counter();
+                return counter == null ? 0.0 : counter.count();
+            }, 10000L);
+            assertTrue(registry.find(ClientMetrics.REQUEST_RETRIES).tag("api", "getGroupProperties").counters().isEmpty());
+        }
+    }
+
+    @Test
+    public void testFailover() throws Exception {
+        AsyncApiV1.GroupsApi proxy1 = mock(AsyncApiV1.GroupsApi.class);
+        AsyncApiV1.GroupsApi proxy2 = mock(AsyncApiV1.GroupsApi.class);
+        AtomicLong clock = new AtomicLong();
+        Endpoints endpoints = new Endpoints(Arrays.asList(new Endpoints.Endpoint(URI.create("http://host1"), proxy1, null),
+                new Endpoints.Endpoint(URI.create("http://host2"), proxy2, null)), 1000L, clock::get);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(endpoints, 0L)) {
+            Response response = mock(Response.class);
+            doReturn(Response.Status.NO_CONTENT.getStatusCode()).when(response).getStatus();
+            doReturn(Futures.failedFuture(new ProcessingException("connection refused"))).when(proxy1).deleteGroup(any(), any());
+            doReturn(CompletableFuture.completedFuture(response)).when(proxy2).deleteGroup(any(), any());
+
+            // the first endpoint fails and the request fails over to the second endpoint without a retry backoff.
+            client.removeGroup("grp").join();
+            verify(proxy1, times(1)).deleteGroup(any(), any());
+            verify(proxy2, times(1)).deleteGroup(any(), any());
+
+            // the failed endpoint is not tried again until its cool down period elapses.
+            client.removeGroup("grp").join();
+            client.removeGroup("grp").join();
+            verify(proxy1, times(1)).deleteGroup(any(), any());
+            verify(proxy2, times(3)).deleteGroup(any(), any());
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001L));
+            client.removeGroup("grp").join();
+            client.removeGroup("grp").join();
+            verify(proxy1, times(2)).deleteGroup(any(), any());
+        }
+    }
+
+    @Test
+    public void testNoFailoverAfterSend() throws Exception {
+        AsyncApiV1.GroupsApi proxy1 = mock(AsyncApiV1.GroupsApi.class);
+        AsyncApiV1.GroupsApi proxy2 = mock(AsyncApiV1.GroupsApi.class);
+        AtomicLong clock = new AtomicLong();
+        Endpoints endpoints = new Endpoints(Arrays.asList(new Endpoints.Endpoint(URI.create("http://host1"), proxy1, null),
+                new Endpoints.Endpoint(URI.create("http://host2"), proxy2, null)), 1000L, clock::get);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(endpoints, 0L)) {
+            Response response = mock(Response.class);
+            doReturn(Response.Status.CREATED.getStatusCode()).when(response).getStatus();
+            doReturn(CompletableFuture.completedFuture(response)).when(proxy2).createGroup(any(), any());
+            GroupProperties properties = GroupProperties.builder().serializationFormat(SerializationFormat.Avro).build();
+
+            // the request timed out after it was sent, so it is not sent again to the other endpoint.
+            doReturn(Futures.failedFuture(new ProcessingException(new SocketTimeoutException("Read timed out"))))
+                    .when(proxy1).createGroup(any(), any());
+            AssertExtensions.assertThrows("", () -> client.addGroup("grp", properties).join(), 
+                    e -> Exceptions.unwrap(e) instanceof ProcessingException);
+            verify(proxy1, times(1)).createGroup(any(), any());
+            verify(proxy2, times(0)).createGroup(any(), any());
+
+            // the first endpoint could not be connected to, so the request fails over to the second endpoint.
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001L));
+            doReturn(Futures.failedFuture(new ProcessingException(new ConnectException("Connection refused"))))
+                    .when(proxy1).createGroup(any(), any());
+            assertTrue(client.addGroup("grp", properties).join());
+            verify(proxy1, times(2)).createGroup(any(), any());
+            verify(proxy2, times(1)).createGroup(any(), any());
+        }
+    }
+
+    @Test
+    public void testHedging() throws Exception {
+        AsyncApiV1.GroupsApi proxy1 = mock(AsyncApiV1.GroupsApi.class);
+        AsyncApiV1.GroupsApi proxy2 = mock(AsyncApiV1.GroupsApi.class);
+        Endpoints endpoints = new Endpoints(Arrays.asList(new Endpoints.Endpoint(URI.create("http://host1"), proxy1, null),
+                new Endpoints.Endpoint(URI.create("http://host2"), proxy2, null)), 1000L, System::nanoTime);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(endpoints, 10L)) {
+            EncodingInfo encodingInfo = new EncodingInfo(new VersionInfo("type", 0, 0), 
+                    new SchemaInfo("type", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()), new CodecType(""));
+            Response response = mock(Response.class);
+            doReturn(Response.Status.OK.getStatusCode()).when(response).getStatus();
+            doReturn(ModelHelper.encode(encodingInfo)).when(response)
+                    .readEntity(io.pravega.schemaregistry.contract.generated.rest.model.EncodingInfo.class);
+            // neither endpoint responds to the first request, so the second request is hedged and its response is used.
+            CompletableFuture<Response> slow = new CompletableFuture<>();
+            doReturn(slow).when(proxy1).getEncodingInfo(any(), any(), any());
+            doReturn(slow).when(proxy2).getEncodingInfo(any(), any(), any());
+            CompletableFuture<EncodingInfo> result = client.getEncodingInfo("grp", new EncodingId(0));
+            verify(proxy1, timeout(5000L)).getEncodingInfo(any(), any(), any());
+            verify(proxy2, timeout(5000L)).getEncodingInfo(any(), any(), any());
+            assertFalse(result.isDone());
+            slow.complete(response);
+            assertEquals(encodingInfo, result.join());
+        }
+    }
+
+    @Test
+    public void testTraceContextPropagation() throws Exception {
+        GlobalOpenTelemetry.resetForTest();
+        GlobalOpenTelemetry.set(OpenTelemetry.propagating(ContextPropagators.create(W3CTraceContextPropagator.getInstance())));
+        BlockingQueue<String> traceParents = new LinkedBlockingQueue<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            traceParents.add(String.valueOf(exchange.getRequestHeaders().getFirst("traceparent")));
+            exchange.sendResponseHeaders(Response.Status.NO_CONTENT.getStatusCode(), -1);
+            exchange.close();
+        });
+        server.start();
+        SchemaRegistryClientConfig config = SchemaRegistryClientConfig.builder()
+                .schemaRegistryUri(URI.create("http://localhost:" + server.getAddress().getPort())).build();
+        SpanContext spanContext = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", 
+                TraceFlags.getSampled(), TraceState.getDefault());
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(config, null)) {
+            // the request is filtered on a thread of the client, where the caller's context is not current.
+            CompletableFuture<Void> removed;
+            try (Scope scope = Context.root().with(Span.wrap(spanContext)).makeCurrent()) {
+                removed = client.removeGroup("grp");
+            }
+            removed.join();
+            assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", traceParents.poll(5, TimeUnit.SECONDS));
+        } finally {
+            server.stop(0);
+            GlobalOpenTelemetry.resetForTest();
+        }
+    }
+
+    @Test
+    public void testWatchGroup() throws Exception {
+        AsyncApiV1.GroupsApi proxy = mock(AsyncApiV1.GroupsApi.class);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(proxy, null)) {
+            Response changed = mock(Response.class);
+            doReturn(Response.Status.OK.getStatusCode()).when(changed).getStatus();
+            doReturn(new EntityTag("2")).when(changed).getEntityTag();
+            Response notModified = mock(Response.class);
+            doReturn(Response.Status.NOT_MODIFIED.getStatusCode()).when(notModified).getStatus();
+            doReturn(CompletableFuture.completedFuture(changed)).when(proxy).watchGroup(any(), any(), eq("1"), any());
+            doReturn(CompletableFuture.completedFuture(notModified)).when(proxy).watchGroup(any(), any(), eq("2"), any());
+            assertEquals("2", client.watchGroupEtag("grp", "1", 1000L).join());
+            assertEquals("2", client.watchGroupEtag("grp", "2", 1000L).join());
+        }
+
+        // the watcher refreshes the snapshot and notifies the listener only when the etag changes.
+        AsyncSchemaRegistryClient client = mock(AsyncSchemaRegistryClient.class);
+        GroupProperties groupProperties = new GroupProperties(SerializationFormat.Avro, Compatibility.backward(), false);
+        CompletableFuture<String> nextChange = new CompletableFuture<>();
+        doReturn(CompletableFuture.completedFuture("1")).when(client).watchGroupEtag(any(), isNull(), anyLong());
+        doReturn(nextChange).when(client).watchGroupEtag(any(), eq("1"), anyLong());
+        doReturn(new CompletableFuture<>()).when(client).watchGroupEtag(any(), eq("2"), anyLong());
+        doReturn(CompletableFuture.completedFuture(groupProperties)).when(client).getGroupProperties(any());
+        doReturn(CompletableFuture.completedFuture(Collections.emptyList())).when(client).getSchemas(any());
+        doReturn(CompletableFuture.completedFuture(Collections.emptyList())).when(client).getCodecTypes(any());
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        BlockingQueue<GroupSnapshot> snapshots = new LinkedBlockingQueue<>();
+        try (GroupWatcher watcher = new GroupWatcher(client, "grp", snapshots::add, executor)) {
+            watcher.start();
+            GroupSnapshot snapshot = snapshots.poll(5, TimeUnit.SECONDS);
+            assertEquals("1", snapshot.getEtag());
+            assertEquals(groupProperties, snapshot.getGroupProperties());
+            assertEquals(snapshot, watcher.getSnapshot());
+            assertTrue(snapshots.isEmpty());
+
+            nextChange.complete("2");
+            assertEquals("2", snapshots.poll(5, TimeUnit.SECONDS).getEtag());
+            verify(client, times(2)).getGroupProperties("grp");
+            assertFalse(watcher.getStopped().isDone());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWatchOnSeparateConnections() throws Exception {
+        AsyncApiV1.GroupsApi groupsProxy = mock(AsyncApiV1.GroupsApi.class);
+        AsyncApiV1.GroupsApi watchProxy = mock(AsyncApiV1.GroupsApi.class);
+        Endpoints endpoints = new Endpoints(Collections.singletonList(
+                new Endpoints.Endpoint(URI.create("http://host1"), groupsProxy, null, watchProxy)), 1000L, System::nanoTime);
+        try (AsyncSchemaRegistryClientImpl client = new AsyncSchemaRegistryClientImpl(endpoints, 0L)) {
+            doReturn(new CompletableFuture<>()).when(watchProxy).watchGroup(any(), any(), any(), any());
+            Response response = mock(Response.class);
+            doReturn(Response.Status.NO_CONTENT.getStatusCode()).when(response).getStatus();
+            doReturn(CompletableFuture.completedFuture(response)).when(groupsProxy).deleteGroup(any(), any());
+
+            // long polls are sent with the watch client and do not hold the connections used by the other calls. 
+            CompletableFuture<String> watch = client.watchGroupEtag("grp", "1", 30000L);
+            client.removeGroup("grp").join();
+            assertFalse(watch.isDone());
+            verify(watchProxy, times(1)).watchGroup(any(), any(), eq("1"), any());
+            verify(groupsProxy, times(0)).watchGroup(any(), any(), any(), any());
+        }
+    }
+
+    @Test
+    public void testWatchMissingGroup() {
+        // the watch on a group that does not exist stops instead of being retried.
+        AsyncSchemaRegistryClient client = mock(AsyncSchemaRegistryClient.class);
+        doReturn(Futures.failedFuture(new ResourceNotFoundException("Group not found."))).when(client).watchGroupEtag(any(), any(), anyLong());
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try (GroupWatcher watcher = new GroupWatcher(client, "grp", snapshot -> { }, executor)) {
+            watcher.start();
+            AssertExtensions.assertThrows("", () -> watcher.getStopped().join(), 
+                    e -> Exceptions.unwrap(e) instanceof ResourceNotFoundException);
+            verify(client, times(1)).watchGroupEtag(any(), any(), anyLong());
+            assertNull(watcher.getSnapshot());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.client;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingSchemaRegistryClientTest {
+    private final SchemaInfo schemaInfo = new SchemaInfo("type", SerializationFormat.Avro, ByteBuffer.wrap(new byte[]{1}), ImmutableMap.of());
+    private final VersionInfo versionInfo = new VersionInfo("type", 0, 0);
+
+    @Test
+    public void testImmutableResults() {
+        SchemaRegistryClient delegate = mock(SchemaRegistryClient.class);
+        CachingSchemaRegistryClient client = new CachingSchemaRegistryClient(delegate, 10, 0L);
+        EncodingId encodingId = new EncodingId(0);
+        EncodingInfo encodingInfo = new EncodingInfo(versionInfo, schemaInfo, new CodecType(""));
+        doReturn(encodingInfo).when(delegate).getEncodingInfo(eq("grp"), eq(encodingId));
+        doReturn(schemaInfo).when(delegate).getSchemaForVersion(eq("grp"), eq(versionInfo));
+        doReturn(encodingId).when(delegate).getEncodingId(eq("grp"), eq(versionInfo), eq(""));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(encodingInfo, client.getEncodingInfo("grp", encodingId));
+            assertEquals(schemaInfo, client.getSchemaForVersion("grp", versionInfo));
+            assertEquals(encodingId, client.getEncodingId("grp", versionInfo, ""));
+        }
+        verify(delegate, times(1)).getEncodingInfo(any(), any());
+        verify(delegate, times(1)).getSchemaForVersion(any(), any());
+        verify(delegate, times(1)).getEncodingId(any(), any(), any());
+
+        // versions returned by add schema are cached.
+        doReturn(versionInfo).when(delegate).addSchema(eq("grp"), eq(schemaInfo));
+        client.addSchema("grp", schemaInfo);
+        assertEquals(versionInfo, client.getVersionForSchema("grp", schemaInfo));
+        verify(delegate, times(0)).getVersionForSchema(any(), any());
+
+        // failures are not cached.
+        doThrow(new ResourceNotFoundException("not found")).when(delegate).getEncodingInfo(eq("grp"), eq(new EncodingId(1)));
+        AssertExtensions.assertThrows("", () -> client.getEncodingInfo("grp", new EncodingId(1)), e -> e instanceof ResourceNotFoundException);
+        AssertExtensions.assertThrows("", () -> client.getEncodingInfo("grp", new EncodingId(1)), e -> e instanceof ResourceNotFoundException);
+        verify(delegate, times(2)).getEncodingInfo(eq("grp"), eq(new EncodingId(1)));
+        // resources that are not found drop everything cached for the group, as it may have been removed and created again.
+        assertEquals(0L, client.size());
+        client.getEncodingInfo("grp", encodingId);
+        verify(delegate, times(2)).getEncodingInfo(eq("grp"), eq(encodingId));
+
+        // removing the group drops everything cached for it.
+        client.addSchema("grp", schemaInfo);
+        client.removeGroup("grp");
+        assertEquals(0L, client.size());
+    }
+
+    @Test
+    public void testGroupState() {
+        SchemaRegistryClient delegate = mock(SchemaRegistryClient.class);
+        GroupProperties groupProperties = new GroupProperties(SerializationFormat.Avro, Compatibility.backward(), false);
+        doReturn(groupProperties).when(delegate).getGroupProperties(eq("grp"));
+        List<CodecType> codecTypes = new ArrayList<>(Collections.singletonList(new CodecType("")));
+        doReturn(codecTypes).when(delegate).getCodecTypes(eq("grp"));
+
+        // without ttl, group state is always read from the delegate.
+        CachingSchemaRegistryClient client = new CachingSchemaRegistryClient(delegate, 10, 0L);
+        client.getGroupProperties("grp");
+        client.getGroupProperties("grp");
+        verify(delegate, times(2)).getGroupProperties(any());
+
+        client = new CachingSchemaRegistryClient(delegate, 10, 60000L);
+        client.getGroupProperties("grp");
+        client.getGroupProperties("grp");
+        client.getCodecTypes("grp");
+        client.getCodecTypes("grp");
+        verify(delegate, times(3)).getGroupProperties(any());
+        verify(delegate, times(1)).getCodecTypes(any());
+
+        // the cached state cannot be modified through the lists of the delegate or the lists returned to callers.
+        codecTypes.add(new CodecType("gzip"));
+        List<CodecType> cached = client.getCodecTypes("grp");
+        assertEquals(1, cached.size());
+        AssertExtensions.assertThrows(UnsupportedOperationException.class, () -> cached.add(new CodecType("gzip")));
+        verify(delegate, times(1)).getCodecTypes(any());
+
+        // updates through the client invalidate the state of the group.
+        client.addCodecType("grp", new CodecType("gzip"));
+        client.getCodecTypes("grp");
+        client.updateCompatibility("grp", Compatibility.forward(), null);
+        client.getGroupProperties("grp");
+        verify(delegate, times(2)).getCodecTypes(any());
+        verify(delegate, times(4)).getGroupProperties(any());
+    }
+}
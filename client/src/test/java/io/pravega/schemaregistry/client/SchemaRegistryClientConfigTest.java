@@ -10,6 +10,7 @@
 package io.pravega.schemaregistry.client;
 
 import io.pravega.schemaregistry.common.CredentialProvider;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -62,4 +63,20 @@ public class SchemaRegistryClientConfigTest {
         assertEquals("method", config.getCredentialProvider().getMethod());
         assertEquals("token", config.getCredentialProvider().getToken());
     }
+
+    @Test
+    public void testConnectionPoolConfig() {
+        SchemaRegistryClientConfig config = SchemaRegistryClientConfig.builder().build();
+        assertEquals(100, config.getMaxConnections());
+        assertEquals(20, config.getMaxConnectionsPerRoute());
+
+        config = SchemaRegistryClientConfig.builder().maxConnections(10).maxConnectionsPerRoute(10).build();
+        assertEquals(10, config.getMaxConnections());
+        assertEquals(10, config.getMaxConnectionsPerRoute());
+
+        AssertExtensions.assertThrows(IllegalArgumentException.class, 
+                () -> SchemaRegistryClientConfig.builder().maxConnections(0).build());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, 
+                () -> SchemaRegistryClientConfig.builder().maxConnections(10).maxConnectionsPerRoute(20).build());
+    }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.common;
+
+import io.pravega.common.concurrent.Futures;
+import lombok.Synchronized;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Continuation token iterator which loads pages of values asynchronously using the loading function. The first page is
+ * requested when the iterator is first used. As soon as a page is received, the next page is requested using the
+ * continuation token of the page, so that it is fetched while the caller consumes the current page.
+ * Iteration ends when the loading function returns an empty page.
+ *
+ * @param <T> Type of value.
+ * @param <Token> Type of continuation token.
+ */
+public class PrefetchingContinuationTokenIterator<T, Token> implements Iterator<T> {
+    private final Function<Token, CompletableFuture<Map.Entry<Token, Collection<T>>>> loadingFunction;
+    private final Token tokenIdentity;
+    @GuardedBy("$lock")
+    private Iterator<T> current;
+    @GuardedBy("$lock")
+    private boolean started;
+    // future for the next page. null once the last page has been received.
+    @GuardedBy("$lock")
+    private CompletableFuture<Map.Entry<Token, Collection<T>>> nextPage;
+
+    public PrefetchingContinuationTokenIterator(Function<Token, CompletableFuture<Map.Entry<Token, Collection<T>>>> loadingFunction,
+                                                Token tokenIdentity) {
+        this.loadingFunction = loadingFunction;
+        this.tokenIdentity = tokenIdentity;
+        this.current = Collections.emptyIterator();
+        this.started = false;
+        this.nextPage = null;
+    }
+
+    @Synchronized
+    private void load() {
+        if (!started) {
+            started = true;
+            nextPage = loadingFunction.apply(tokenIdentity);
+        }
+        while (!current.hasNext() && nextPage != null) {
+            Map.Entry<Token, Collection<T>> page = Futures.getThrowingException(nextPage);
+            if (page.getValue().isEmpty()) {
+                nextPage = null;
+            } else {
+                current = page.getValue().iterator();
+                nextPage = loadingFunction.apply(page.getKey());
+            }
+        }
+    }
+
+    @Synchronized
+    @Override
+    public boolean hasNext() {
+        load();
+        return current.hasNext();
+    }
+
+    @Synchronized
+    @Override
+    public T next() {
+        load();
+        if (current.hasNext()) {
+            return current.next();
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Sequential stream over the remaining values of this iterator.
+     *
+     * @return Stream of values.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
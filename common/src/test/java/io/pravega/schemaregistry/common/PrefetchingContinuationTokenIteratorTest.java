@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.common;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrefetchingContinuationTokenIteratorTest {
+    @Test
+    public void testPrefetch() {
+        List<CompletableFuture<Map.Entry<Integer, Collection<Integer>>>> pages = Lists.newArrayList(
+                new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>());
+        List<Integer> requestedTokens = Collections.synchronizedList(Lists.newArrayList());
+        Function<Integer, CompletableFuture<Map.Entry<Integer, Collection<Integer>>>> func = token -> {
+            requestedTokens.add(token);
+            return pages.get(token);
+        };
+        PrefetchingContinuationTokenIterator<Integer, Integer> iterator = new PrefetchingContinuationTokenIterator<>(func, 0);
+        // nothing is requested until the iterator is used.
+        assertTrue(requestedTokens.isEmpty());
+
+        pages.get(0).complete(new AbstractMap.SimpleEntry<>(1, Lists.newArrayList(1, 2)));
+        assertTrue(iterator.hasNext());
+        // the second page is requested as soon as the first page is received.
+        assertEquals(Lists.newArrayList(0, 1), requestedTokens);
+        assertEquals(1, iterator.next().intValue());
+        assertEquals(2, iterator.next().intValue());
+
+        pages.get(1).complete(new AbstractMap.SimpleEntry<>(2, Lists.newArrayList(3)));
+        pages.get(2).complete(new AbstractMap.SimpleEntry<>(3, Collections.emptyList()));
+        assertEquals(Lists.newArrayList(3), iterator.stream().collect(Collectors.toList()));
+        assertFalse(iterator.hasNext());
+        assertEquals(Lists.newArrayList(0, 1, 2), requestedTokens);
+    }
+}
@@ -32,6 +32,7 @@ import io.swagger.annotations.ApiParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -41,6 +42,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
@@ -129,6 +131,19 @@ public class ApiV1 {
         Response getCodecTypesList(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
                                    @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName);
 
+        @GET
+        @Path("/{groupName}/watch")
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Long polls for a change to the group.", response = Void.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Group has changed", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Group has not changed before the timeout elapsed", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while watching the group", response = Void.class)})
+        Response watchGroup(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                            @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                            @ApiParam(value = "Entity tag of the group last seen by the caller") @HeaderParam(HttpHeaders.IF_NONE_MATCH) String etag,
+                            @ApiParam(value = "Maximum time to wait for a change in milliseconds") @QueryParam("timeoutMillis") Integer timeoutMillis);
+
         @GET
         @Path("/{groupName}/encodings/{encodingId}")
         @Produces({"application/json"})
@@ -385,6 +400,20 @@ public class ApiV1 {
                                @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
                                @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
 
+        @GET
+        @Path("/{groupName}/watch")
+        @io.swagger.annotations.ApiOperation(value = "", notes = "Long polls for a change to the group.", response = Void.class, tags = {"Group", })
+        @io.swagger.annotations.ApiResponses(value = {
+                @io.swagger.annotations.ApiResponse(code = 200, message = "Group has changed", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 304, message = "Group has not changed before the timeout elapsed", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 404, message = "Group with given name not found", response = Void.class),
+                @io.swagger.annotations.ApiResponse(code = 500, message = "Internal server error while watching the group", response = Void.class)})
+        void watchGroup(@ApiParam(value = "namespace") @QueryParam("namespace") String namespace,
+                        @ApiParam(value = "Group name", required = true) @PathParam("groupName") String groupName,
+                        @ApiParam(value = "Entity tag of the group last seen by the caller") @HeaderParam(HttpHeaders.IF_NONE_MATCH) String etag,
+                        @ApiParam(value = "Maximum time to wait for a change in milliseconds") @QueryParam("timeoutMillis") Integer timeoutMillis,
+                        @Context SecurityContext securityContext, @Suspended AsyncResponse asyncResponse);
+
         @GET
         @Path("/{groupName}/encodings/{encodingId}")
         @Produces({"application/json"})
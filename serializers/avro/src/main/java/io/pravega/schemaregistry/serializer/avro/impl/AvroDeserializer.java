@@ -19,9 +19,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.AbstractDeserializer;
 import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import org.apache.avro.Schema;
-import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.DatumReader;
-import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.reflect.ReflectDatumReader;
 import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificRecordBase;
@@ -50,14 +48,37 @@ class AvroDeserializer<T> extends AbstractDeserializer<T> {
 
     @Override
     public final T deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        return getDatumReader(writerSchemaInfo).read(null, BinaryDecoders.of(inputStream));
+    }
+
+    @Override
+    public final T deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        return getDatumReader(writerSchemaInfo).read(null, BinaryDecoders.of(payload));
+    }
+
+    @Override
+    public PayloadReader<T> createReader(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
+        DatumReader<T> datumReader = getDatumReader(writerSchemaInfo);
+        return new PayloadReader<T>() {
+            @Override
+            public T read(ByteBuffer payload) throws IOException {
+                return datumReader.read(null, BinaryDecoders.of(payload));
+            }
+
+            @Override
+            public T read(InputStream payload) throws IOException {
+                return datumReader.read(null, BinaryDecoders.of(payload));
+            }
+        };
+    }
+
+    private DatumReader<T> getDatumReader(SchemaInfo writerSchemaInfo) {
         Preconditions.checkNotNull(writerSchemaInfo);
         final ByteBuffer writerSchemaData = writerSchemaInfo.getSchemaData();
-        DatumReader<T> datumReader = knownSchemaReaders.computeIfAbsent(writerSchemaData, key -> {
+        return knownSchemaReaders.computeIfAbsent(writerSchemaData, key -> {
             Schema writerSchema = AvroSchema.from(writerSchemaInfo).getSchema();
             return createDatumReader(writerSchema, this.readerSchema, specific);
         });
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        return datumReader.read(null, decoder);
     }
 
     @VisibleForTesting
@@ -20,12 +20,11 @@ import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumReader;
-import org.apache.avro.io.BinaryDecoder;
-import org.apache.avro.io.DecoderFactory;
 import org.apache.commons.lang3.tuple.Pair;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class AvroGenericDeserializer extends AbstractDeserializer<Object> {
@@ -39,15 +38,38 @@ public class AvroGenericDeserializer extends AbstractDeserializer<Object> {
 
     @Override
     public final Object deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        return getDatumReader(writerSchemaInfo, readerSchemaInfo).read(null, BinaryDecoders.of(inputStream));
+    }
+
+    @Override
+    public final Object deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        return getDatumReader(writerSchemaInfo, readerSchemaInfo).read(null, BinaryDecoders.of(payload));
+    }
+
+    @Override
+    public PayloadReader<Object> createReader(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
+        GenericDatumReader<Object> datumReader = getDatumReader(writerSchemaInfo, readerSchemaInfo);
+        return new PayloadReader<Object>() {
+            @Override
+            public Object read(ByteBuffer payload) throws IOException {
+                return datumReader.read(null, BinaryDecoders.of(payload));
+            }
+
+            @Override
+            public Object read(InputStream payload) throws IOException {
+                return datumReader.read(null, BinaryDecoders.of(payload));
+            }
+        };
+    }
+
+    private GenericDatumReader<Object> getDatumReader(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
         Preconditions.checkNotNull(writerSchemaInfo);
         final Pair<SchemaInfo, SchemaInfo> keyPair = Pair.of(writerSchemaInfo, readerSchemaInfo);
-        GenericDatumReader<Object> genericDatumReader = knownSchemaReaders.computeIfAbsent(keyPair, key -> {
+        return knownSchemaReaders.computeIfAbsent(keyPair, key -> {
             Schema writerSchema = AvroSchema.from(writerSchemaInfo).getSchema();
             Schema readerSchema = AvroSchema.from(readerSchemaInfo).getSchema();
             return new GenericDatumReader<>(writerSchema, readerSchema);
         });
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(inputStream, null);
-        return genericDatumReader.read(null, decoder);
     }
 
     @VisibleForTesting
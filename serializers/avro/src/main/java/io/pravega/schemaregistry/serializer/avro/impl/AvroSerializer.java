@@ -23,8 +23,11 @@ import org.apache.avro.reflect.ReflectDatumWriter;
 import org.apache.avro.specific.SpecificDatumWriter;
 import org.apache.avro.specific.SpecificRecord;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class AvroSerializer<T> extends AbstractSerializer<T> {
 
@@ -34,7 +37,13 @@ public class AvroSerializer<T> extends AbstractSerializer<T> {
 
     public AvroSerializer(String groupId, SchemaRegistryClient client, AvroSchema<T> schema,
                           Encoder encoder, boolean registerSchema) {
-        super(groupId, client, schema, encoder, registerSchema, true);
+        this(groupId, client, schema, encoder, registerSchema, null, null);
+    }
+
+    public AvroSerializer(String groupId, SchemaRegistryClient client, AvroSchema<T> schema,
+                          Encoder encoder, boolean registerSchema, @Nullable CompletableFuture<Void> ready, 
+                          @Nullable Executor executor) {
+        super(groupId, client, schema, encoder, registerSchema, true, ready, executor);
         Schema avroSchema = schema.getSchema();
         this.specificDatumWriter = new SpecificDatumWriter<>(avroSchema);
         this.genericDatumWriter = new GenericDatumWriter<>(avroSchema);
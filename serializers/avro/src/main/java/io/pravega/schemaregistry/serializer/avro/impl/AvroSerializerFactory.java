@@ -29,10 +29,16 @@ import org.apache.avro.generic.GenericRecord;
 import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getClientForSerializer;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getEncodingCache;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializer;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializerAsync;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForSerializer;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForSerializerAsync;
 
 /**
  * Internal Factory class for Avro serializers and deserializers. 
@@ -77,11 +83,77 @@ public class AvroSerializerFactory {
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
         String groupId = config.getGroupId();
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         return new AvroDeserializer<>(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache);
     }
 
+    /**
+     * Creates a typed Avro serializer for the schema without waiting on the registry service. The group is created, 
+     * the codec and the schema are registered and the encoding id is resolved in the background on the executor. 
+     * {@link Serializer#serialize(Object)} waits for the encoding id if it has not been resolved yet.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates an Avro schema.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return A Serializer Implementation that can be used in {@link io.pravega.client.stream.EventStreamWriter} or
+     * {@link io.pravega.client.stream.TransactionalEventStreamWriter}.
+     */
+    public static <T> Serializer<T> deferredSerializer(@NonNull SerializerConfig config,
+                                                       @NonNull AvroSchema<T> schema,
+                                                       @NonNull Executor executor) {
+        return createDeferredSerializer(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed Avro serializer for the schema asynchronously. The calls to the registry service are made on the 
+     * executor and the returned future is completed once the serializer is ready to serialize events.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates an Avro schema.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the serializer.
+     */
+    public static <T> CompletableFuture<Serializer<T>> serializerAsync(@NonNull SerializerConfig config,
+                                                                       @NonNull AvroSchema<T> schema,
+                                                                       @NonNull Executor executor) {
+        AbstractSerializer<T> serializer = createDeferredSerializer(config, schema, executor);
+        return serializer.getInitialization().thenApply(v -> serializer);
+    }
+
+    private static <T> AbstractSerializer<T> createDeferredSerializer(SerializerConfig config,
+                                                                      AvroSchema<T> schema,
+                                                                      Executor executor) {
+        Preconditions.checkArgument(config.isWriteEncodingHeader(), "Events should be tagged with encoding ids.");
+        String groupId = config.getGroupId();
+        SchemaRegistryClient schemaRegistryClient = getClientForSerializer(config);
+        CompletableFuture<Void> ready = initForSerializerAsync(schemaRegistryClient, config, executor);
+        return new AvroSerializer<>(groupId, schemaRegistryClient, schema, config.getEncoder(),
+                config.isRegisterSchema(), ready, executor);
+    }
+
+    /**
+     * Creates a typed Avro deserializer for the schema asynchronously. The calls to the registry service are made on the
+     * executor and the returned future is completed once the deserializer is created.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates an Avro schema.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the deserializer.
+     */
+    public static <T> CompletableFuture<Serializer<T>> deserializerAsync(@NonNull SerializerConfig config,
+                                                                         @NonNull AvroSchema<T> schema,
+                                                                         @NonNull Executor executor) {
+        Preconditions.checkArgument(config.isWriteEncodingHeader(), "Events should be tagged with encoding ids.");
+        String groupId = config.getGroupId();
+        return initForDeserializerAsync(config, executor)
+                .thenApplyAsync(schemaRegistryClient -> new AvroDeserializer<>(groupId, schemaRegistryClient, schema,
+                        config.getDecoders(), getEncodingCache(config, schemaRegistryClient)), executor);
+    }
+
     /**
      * Creates a generic avro deserializer. It has the optional parameter for schema.
      * If the schema is not supplied, the writer schema is used for deserialization into {@link GenericRecord}.
@@ -98,7 +170,7 @@ public class AvroSerializerFactory {
         Preconditions.checkArgument(config.isWriteEncodingHeader(), "Events should be tagged with encoding ids.");
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         return new AvroGenericDeserializer(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache);
     }
@@ -144,7 +216,7 @@ public class AvroSerializerFactory {
 
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         return new MultiplexedDeserializer<>(groupId, schemaRegistryClient, deserializerMap, config.getDecoders(),
@@ -176,7 +248,7 @@ public class AvroSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         AbstractDeserializer<Object> genericDeserializer = new AvroGenericDeserializer(groupId, schemaRegistryClient,
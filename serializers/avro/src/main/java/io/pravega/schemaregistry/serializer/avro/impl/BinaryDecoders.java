@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.avro.impl;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.util.ByteBufferInputStream;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+/**
+ * Binary decoders that are reused by the deserializers of a thread, so that a decoder and its read buffer are not 
+ * allocated for every event. A decoder is only valid until the next decoder is requested by the same thread.
+ */
+final class BinaryDecoders {
+    private static final ThreadLocal<BinaryDecoder> DECODER = new ThreadLocal<>();
+
+    private BinaryDecoders() {
+    }
+
+    /**
+     * Gets a decoder which reads the remaining bytes in the buffer. Bytes of heap buffers are read without copying them.
+     * The position of the buffer is not changed.
+     *
+     * @param payload buffer to read.
+     * @return Decoder for the buffer.
+     */
+    static BinaryDecoder of(ByteBuffer payload) {
+        BinaryDecoder decoder;
+        if (payload.hasArray()) {
+            decoder = DecoderFactory.get().binaryDecoder(payload.array(), payload.arrayOffset() + payload.position(),
+                    payload.remaining(), DECODER.get());
+        } else {
+            decoder = DecoderFactory.get().binaryDecoder(
+                    new ByteBufferInputStream(Collections.singletonList(payload.duplicate())), DECODER.get());
+        }
+        DECODER.set(decoder);
+        return decoder;
+    }
+
+    /**
+     * Gets a decoder which reads from the input stream.
+     *
+     * @param inputStream input stream to read.
+     * @return Decoder for the input stream.
+     */
+    static BinaryDecoder of(InputStream inputStream) {
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(inputStream, DECODER.get());
+        DECODER.set(decoder);
+        return decoder;
+    }
+}
@@ -17,9 +17,11 @@ import io.pravega.schemaregistry.serializer.avro.schemas.AvroSchema;
 import io.pravega.schemaregistry.serializer.avro.testobjs.generated.avro.AddressEntry;
 import io.pravega.schemaregistry.serializer.avro.testobjs.generated.avro.User;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
+import io.pravega.schemaregistry.serializer.shared.impl.EncodingCache;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.DatumReader;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
@@ -28,6 +30,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doAnswer;
@@ -40,17 +43,19 @@ public class AvroDeserializerTest {
     private AvroDeserializer<User> avroDeserializer;
     private AvroGenericDeserializer  genericDeserializer;
     private User user;
+    private SchemaRegistryClient client;
+    private SerializerConfig serializerConfig;
 
     @Before
     public void init() {
         AvroSchema<User> userAvroSchema = AvroSchema.of(User.class);
         log.info("Aliases: {}", userAvroSchema.getSchema().getAliases());
         VersionInfo versionInfo1 = new VersionInfo("avroUser1", 0, 0);
-        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        this.client = mock(SchemaRegistryClient.class);
         doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
         doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), any(), any());
         doAnswer(x -> new EncodingInfo(versionInfo1, userAvroSchema.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
-        SerializerConfig serializerConfig = SerializerConfig.builder().registryClient(client).groupId("avroUser1")
+        this.serializerConfig = SerializerConfig.builder().registryClient(client).groupId("avroUser1")
                 .createGroup(SerializationFormat.Avro).registerSchema(true).build();
         this.serializer = AvroSerializerFactory
                 .serializer(serializerConfig, userAvroSchema);
@@ -120,4 +125,24 @@ public class AvroDeserializerTest {
         Mockito.verify(avroDeserializer, Mockito.times(0)).createDatumReader(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
     }
 
+    @Test
+    public void testCreatingReaderOncePerEncoding() {
+        AtomicInteger readersCreated = new AtomicInteger();
+        AvroGenericDeserializer deserializer = new AvroGenericDeserializer("avroUser1", client, null, 
+                serializerConfig.getDecoders(), new EncodingCache("avroUser1", client)) {
+            @Override
+            public PayloadReader<Object> createReader(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
+                readersCreated.incrementAndGet();
+                return super.createReader(writerSchemaInfo, readerSchemaInfo);
+            }
+        };
+
+        ByteBuffer serialized = serializer.serialize(user);
+        for (int i = 0; i < 3; i++) {
+            Object deserialized = deserializer.deserialize(serialized.duplicate());
+            Assert.assertEquals("Greg Egan", ((GenericRecord) deserialized).get("name").toString());
+        }
+        // the reader is created for the first event with the encoding id and reused for the following events. 
+        Assert.assertEquals(1, readersCreated.get());
+    }
 }
@@ -10,20 +10,26 @@
 package io.pravega.schemaregistry.serializer.avro.impl;
 
 
+import com.google.common.base.Strings;
 import io.pravega.client.stream.Serializer;
 import io.pravega.schemaregistry.serializer.avro.schemas.AvroSchema;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.serializer.shared.codec.Codec;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
 import io.pravega.schemaregistry.common.Either;
+import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
 import io.pravega.schemaregistry.contract.data.GroupProperties;
 import io.pravega.schemaregistry.contract.data.SerializationFormat;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.serializer.shared.EventDeserializer;
+import io.pravega.schemaregistry.serializer.shared.EventSerializer;
 import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 import io.pravega.schemaregistry.serializer.avro.testobjs.SchemaDefinitions;
 import io.pravega.schemaregistry.serializer.avro.testobjs.generated.Test1;
 import io.pravega.schemaregistry.serializer.avro.testobjs.generated.Test2;
+import io.pravega.test.common.AssertExtensions;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
@@ -32,9 +38,14 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -152,6 +163,153 @@ public class SerializerTest {
         assertEquals(deserialized, test1);
     }
 
+    @Test
+    public void testSerializeIntoBuffer() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        AvroSchema<Test1> schema1 = AvroSchema.of(Test1.class);
+        VersionInfo versionInfo1 = new VersionInfo("name", 0, 0);
+        doAnswer(x -> versionInfo1).when(client).getVersionForSchema(anyString(), eq(schema1.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo1), any());
+        doAnswer(x -> new EncodingInfo(versionInfo1, schema1.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        EventSerializer<Test1> serializer = (EventSerializer<Test1>) AvroSerializerFactory.serializer(config, schema1);
+        Serializer<Test1> deserializer = AvroSerializerFactory.deserializer(config, schema1);
+        Test1 test1 = new Test1("name", 1);
+        ByteBuffer serialized = serializer.serialize(test1);
+        assertEquals(serialized.remaining(), serialized.capacity());
+
+        // events are written at the position of heap and direct buffers. 
+        for (ByteBuffer target : new ByteBuffer[]{ByteBuffer.allocate(100), ByteBuffer.allocateDirect(100)}) {
+            target.position(10);
+            int size = serializer.serialize(test1, target);
+            assertEquals(serialized.remaining(), size);
+            assertEquals(10 + size, target.position());
+            target.flip().position(10);
+            assertEquals(serialized, target);
+        }
+        assertEquals(test1, deserializer.deserialize(serialized));
+
+        // the position is not changed if the event does not fit. 
+        ByteBuffer small = ByteBuffer.allocate(serialized.remaining() - 1);
+        AssertExtensions.assertThrows(BufferOverflowException.class, () -> serializer.serialize(test1, small));
+        assertEquals(0, small.position());
+
+        // encoded events are the same whether serialized into a new or supplied buffer. 
+        SerializerConfig snappyConfig = SerializerConfig.builder().registryClient(client).groupId("groupId")
+                                                        .encoder(Codecs.SnappyCompressor.getCodec()).build();
+        EventSerializer<Test1> snappySerializer = (EventSerializer<Test1>) AvroSerializerFactory.serializer(snappyConfig, schema1);
+        ByteBuffer encoded = snappySerializer.serialize(test1);
+        ByteBuffer target = ByteBuffer.allocate(100);
+        assertEquals(encoded.remaining(), snappySerializer.serialize(test1, target));
+        target.flip();
+        assertEquals(encoded, target);
+    }
+
+    @Test
+    public void testDeserializeFromBuffer() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        AvroSchema<Test1> schema1 = AvroSchema.of(Test1.class);
+        VersionInfo versionInfo1 = new VersionInfo("name", 0, 0);
+        doAnswer(x -> versionInfo1).when(client).getVersionForSchema(anyString(), eq(schema1.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo1), any());
+        doAnswer(x -> new EncodingInfo(versionInfo1, schema1.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        Serializer<Test1> serializer = AvroSerializerFactory.serializer(config, schema1);
+        Serializer<Test1> deserializer = AvroSerializerFactory.deserializer(config, schema1);
+        Serializer<Object> genericDeserializer = AvroSerializerFactory.genericDeserializer(config, null);
+        Test1 test1 = new Test1("name", 1);
+        ByteBuffer serialized = serializer.serialize(test1);
+
+        // events are read from the position of heap buffers and from direct buffers.
+        ByteBuffer heap = ByteBuffer.allocate(serialized.remaining() + 10);
+        heap.position(10);
+        heap.put(serialized.duplicate()).position(10);
+        ByteBuffer direct = ByteBuffer.allocateDirect(serialized.remaining());
+        direct.put(serialized.duplicate()).flip();
+        for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+            assertEquals(test1, deserializer.deserialize(buffer.duplicate()));
+            Object generic = genericDeserializer.deserialize(buffer.duplicate());
+            assertEquals("name", ((GenericRecord) generic).get("name").toString());
+            assertEquals(1, ((GenericRecord) generic).get("field1"));
+        }
+    }
+
+    @Test
+    public void testBatch() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        AvroSchema<Test1> schema1 = AvroSchema.of(Test1.class);
+        VersionInfo versionInfo1 = new VersionInfo("name", 0, 0);
+        doAnswer(x -> versionInfo1).when(client).getVersionForSchema(anyString(), eq(schema1.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo1), any());
+        doAnswer(x -> new EncodingInfo(versionInfo1, schema1.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        EventSerializer<Test1> serializer = (EventSerializer<Test1>) AvroSerializerFactory.serializer(config, schema1);
+        EventDeserializer<Test1> deserializer = (EventDeserializer<Test1>) AvroSerializerFactory.deserializer(config, schema1);
+        List<Test1> events = Arrays.asList(new Test1("a", 1), new Test1("bb", 2), new Test1("ccc", 3));
+        
+        // each event in the batch is serialized in the same format as a single event. 
+        List<ByteBuffer> serialized = serializer.serializeBatch(events);
+        assertEquals(events.size(), serialized.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(serializer.serialize(events.get(i)), serialized.get(i));
+            assertEquals(events.get(i), deserializer.deserialize(serialized.get(i).duplicate()));
+        }
+        assertEquals(events, deserializer.deserializeBatch(serialized));
+        assertTrue(serializer.serializeBatch(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void testAdaptiveCodec() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        AvroSchema<Test1> schema1 = AvroSchema.of(Test1.class);
+        VersionInfo versionInfo1 = new VersionInfo("name", 0, 0);
+        Codec gzip = Codecs.GzipCompressor.getCodec();
+        doAnswer(x -> versionInfo1).when(client).getVersionForSchema(anyString(), eq(schema1.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo1), eq(CodecType.NONE.getName()));
+        doAnswer(x -> new EncodingId(1)).when(client).getEncodingId(anyString(), eq(versionInfo1), eq(gzip.getName()));
+        doAnswer(x -> new EncodingInfo(versionInfo1, schema1.getSchemaInfo(), CodecType.NONE)).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> new EncodingInfo(versionInfo1, schema1.getSchemaInfo(), gzip.getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(1)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId")
+                                                  .encoder(Codecs.adaptive(gzip, 100, 0.5)).build();
+        EventSerializer<Test1> serializer = (EventSerializer<Test1>) AvroSerializerFactory.serializer(config, schema1);
+        EventDeserializer<Test1> deserializer = (EventDeserializer<Test1>) AvroSerializerFactory.deserializer(config, schema1);
+
+        // small events are not compressed
+        Test1 small = new Test1("small", 1);
+        ByteBuffer serialized = serializer.serialize(small);
+        assertEquals(0, serialized.getInt(1));
+        assertEquals(small, deserializer.deserialize(serialized));
+
+        // compressible events above the minimum size are compressed
+        Test1 large = new Test1(Strings.repeat("compressible", 100), 2);
+        serialized = serializer.serialize(large);
+        assertEquals(1, serialized.getInt(1));
+        assertTrue(serialized.remaining() < 1200);
+        assertEquals(large, deserializer.deserialize(serialized));
+
+        // events that do not compress well are not compressed
+        Random random = new Random(0);
+        char[] chars = new char[200];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('!' + random.nextInt(90));
+        }
+        Test1 incompressible = new Test1(new String(chars), 3);
+        serialized = serializer.serialize(incompressible);
+        assertEquals(0, serialized.getInt(1));
+        assertEquals(incompressible, deserializer.deserialize(serialized));
+        
+        List<ByteBuffer> batch = serializer.serializeBatch(Arrays.asList(small, large, incompressible));
+        assertEquals(Arrays.asList(small, large, incompressible), deserializer.deserializeBatch(batch));
+    }
+
     @Data
     @NoArgsConstructor
     public static class TestClass {
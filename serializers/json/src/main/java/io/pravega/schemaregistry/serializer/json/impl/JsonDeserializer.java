@@ -21,6 +21,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 
@@ -42,4 +43,13 @@ public class JsonDeserializer<T> extends AbstractDeserializer<T> {
     public final T deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
         return objectMapper.readValue(inputStream, jsonSchema.getDerived());
     }
+
+    @Override
+    public final T deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        if (payload.hasArray()) {
+            return objectMapper.readValue(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining(), 
+                    jsonSchema.getDerived());
+        }
+        return super.deserialize(payload, writerSchemaInfo, readerSchemaInfo);
+    }
 }
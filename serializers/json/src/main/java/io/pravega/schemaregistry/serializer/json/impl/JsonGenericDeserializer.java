@@ -21,6 +21,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 public class JsonGenericDeserializer extends AbstractDeserializer<JsonNode> {
     private final ObjectMapper objectMapper;
@@ -36,4 +37,12 @@ public class JsonGenericDeserializer extends AbstractDeserializer<JsonNode> {
     public final JsonNode deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
         return objectMapper.readTree(inputStream);
     }
+
+    @Override
+    public final JsonNode deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        if (payload.hasArray()) {
+            return objectMapper.readTree(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        }
+        return super.deserialize(payload, writerSchemaInfo, readerSchemaInfo);
+    }
 }
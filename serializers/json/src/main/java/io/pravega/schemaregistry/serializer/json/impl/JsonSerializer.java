@@ -18,14 +18,23 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.json.schemas.JSONSchema;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractSerializer;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class JsonSerializer<T> extends AbstractSerializer<T> {
     private final ObjectMapper objectMapper;
     public JsonSerializer(String groupId, SchemaRegistryClient client, JSONSchema<T> schema,
                    Encoder encoder, boolean registerSchema, boolean encodeHeader) {
-        super(groupId, client, schema, encoder, registerSchema, encodeHeader);
+        this(groupId, client, schema, encoder, registerSchema, encodeHeader, null, null);
+    }
+
+    public JsonSerializer(String groupId, SchemaRegistryClient client, JSONSchema<T> schema,
+                   Encoder encoder, boolean registerSchema, boolean encodeHeader, 
+                   @Nullable CompletableFuture<Void> ready, @Nullable Executor executor) {
+        super(groupId, client, schema, encoder, registerSchema, encodeHeader, ready, executor);
         objectMapper = new ObjectMapper();
         objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
     }
@@ -20,6 +20,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 class JsonStringDeserializer extends AbstractDeserializer<String> {
     private final ObjectMapper objectMapper;
@@ -38,4 +39,14 @@ class JsonStringDeserializer extends AbstractDeserializer<String> {
         Object obj = objectMapper.readValue(inputStream, Object.class);
         return objectMapper.writeValueAsString(obj);
     }
+
+    @Override
+    public final String deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        if (payload.hasArray()) {
+            Object obj = objectMapper.readValue(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining(), 
+                    Object.class);
+            return objectMapper.writeValueAsString(obj);
+        }
+        return super.deserialize(payload, writerSchemaInfo, readerSchemaInfo);
+    }
 }
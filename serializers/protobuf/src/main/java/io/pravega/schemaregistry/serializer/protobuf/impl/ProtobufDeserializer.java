@@ -21,6 +21,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 public class ProtobufDeserializer<T extends GeneratedMessageV3> extends AbstractDeserializer<T> {
     private final ProtobufSchema<T> protobufSchema;
@@ -40,4 +41,14 @@ public class ProtobufDeserializer<T extends GeneratedMessageV3> extends Abstract
             throw new IOException("Invalid protobuffer serialized bytes", e);
         }
     }
+
+    @Override
+    public final T deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        try {
+            // the parser reads heap and direct buffers in place without copying them. 
+            return protobufSchema.getParser().parseFrom(payload.duplicate());
+        } catch (InvalidProtocolBufferException e) {
+            throw new IOException("Invalid protobuffer serialized bytes", e);
+        }
+    }
 }
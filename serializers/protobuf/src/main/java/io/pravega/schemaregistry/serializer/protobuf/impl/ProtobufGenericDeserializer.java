@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.serializer.protobuf.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
@@ -26,6 +27,7 @@ import org.apache.commons.lang3.SerializationException;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ProtobufGenericDeserializer extends AbstractDeserializer<DynamicMessage> {
@@ -40,12 +42,36 @@ public class ProtobufGenericDeserializer extends AbstractDeserializer<DynamicMes
 
     @Override
     public final DynamicMessage deserialize(InputStream inputStream, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        return DynamicMessage.parseFrom(getMessageType(writerSchemaInfo, readerSchemaInfo), inputStream);
+    }
+
+    @Override
+    public final DynamicMessage deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        return DynamicMessage.parseFrom(getMessageType(writerSchemaInfo, readerSchemaInfo), 
+                CodedInputStream.newInstance(payload.duplicate()));
+    }
+
+    @Override
+    public PayloadReader<DynamicMessage> createReader(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
+        Descriptors.Descriptor messageType = getMessageType(writerSchemaInfo, readerSchemaInfo);
+        return new PayloadReader<DynamicMessage>() {
+            @Override
+            public DynamicMessage read(ByteBuffer payload) throws IOException {
+                return DynamicMessage.parseFrom(messageType, CodedInputStream.newInstance(payload.duplicate()));
+            }
+
+            @Override
+            public DynamicMessage read(InputStream payload) throws IOException {
+                return DynamicMessage.parseFrom(messageType, payload);
+            }
+        };
+    }
+
+    private Descriptors.Descriptor getMessageType(SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) {
         Preconditions.checkArgument(writerSchemaInfo != null || readerSchemaInfo != null);
 
         SchemaInfo schemaToUse = readerSchemaInfo == null ? writerSchemaInfo : readerSchemaInfo;
-        Descriptors.Descriptor messageType = knownSchemas.computeIfAbsent(schemaToUse, this::parseSchema);
-
-        return DynamicMessage.parseFrom(messageType, inputStream);
+        return knownSchemas.computeIfAbsent(schemaToUse, this::parseSchema);
     }
 
     private Descriptors.Descriptor parseSchema(SchemaInfo schemaToUse) {
@@ -16,13 +16,22 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.serializer.protobuf.schemas.ProtobufSchema;
 import io.pravega.schemaregistry.serializer.shared.impl.AbstractSerializer;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class ProtobufSerializer<T extends Message> extends AbstractSerializer<T> {
     public ProtobufSerializer(String groupId, SchemaRegistryClient client, ProtobufSchema<T> schema,
                        Encoder encoder, boolean registerSchema, boolean encodeHeader) {
-        super(groupId, client, schema, encoder, registerSchema, encodeHeader);
+        this(groupId, client, schema, encoder, registerSchema, encodeHeader, null, null);
+    }
+
+    public ProtobufSerializer(String groupId, SchemaRegistryClient client, ProtobufSchema<T> schema,
+                       Encoder encoder, boolean registerSchema, boolean encodeHeader, 
+                       @Nullable CompletableFuture<Void> ready, @Nullable Executor executor) {
+        super(groupId, client, schema, encoder, registerSchema, encodeHeader, ready, executor);
     }
 
     @Override
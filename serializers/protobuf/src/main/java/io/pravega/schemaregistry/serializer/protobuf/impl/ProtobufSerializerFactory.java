@@ -31,10 +31,16 @@ import lombok.extern.slf4j.Slf4j;
 import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getClientForSerializer;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getEncodingCache;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializer;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializerAsync;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForSerializer;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForSerializerAsync;
 
 /**
  * Internal Factory class for protobuf serializers and deserializers. 
@@ -80,13 +86,77 @@ public class ProtobufSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         // schema can be null in which case deserialization will happen into dynamic message
         return new ProtobufDeserializer<>(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache,
                 config.isWriteEncodingHeader());
     }
 
+    /**
+     * Creates a typed Protobuf serializer for the schema without waiting on the registry service. The group is created, 
+     * the codec and the schema are registered and the encoding id is resolved in the background on the executor. 
+     * {@link Serializer#serialize(Object)} waits for the encoding id if it has not been resolved yet.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates a Protobuf schema.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return A Serializer Implementation that can be used in {@link io.pravega.client.stream.EventStreamWriter} or
+     * {@link io.pravega.client.stream.TransactionalEventStreamWriter}.
+     */
+    public static <T extends Message> Serializer<T> deferredSerializer(@NonNull SerializerConfig config,
+                                                                       @NonNull ProtobufSchema<T> schema,
+                                                                       @NonNull Executor executor) {
+        return createDeferredSerializer(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed Protobuf serializer for the schema asynchronously. The calls to the registry service are made on the 
+     * executor and the returned future is completed once the serializer is ready to serialize events.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates a Protobuf schema.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the serializer.
+     */
+    public static <T extends Message> CompletableFuture<Serializer<T>> serializerAsync(@NonNull SerializerConfig config,
+                                                                                       @NonNull ProtobufSchema<T> schema,
+                                                                                       @NonNull Executor executor) {
+        AbstractSerializer<T> serializer = createDeferredSerializer(config, schema, executor);
+        return serializer.getInitialization().thenApply(v -> serializer);
+    }
+
+    private static <T extends Message> AbstractSerializer<T> createDeferredSerializer(SerializerConfig config,
+                                                                                      ProtobufSchema<T> schema,
+                                                                                      Executor executor) {
+        String groupId = config.getGroupId();
+        SchemaRegistryClient schemaRegistryClient = getClientForSerializer(config);
+        CompletableFuture<Void> ready = initForSerializerAsync(schemaRegistryClient, config, executor);
+        return new ProtobufSerializer<>(groupId, schemaRegistryClient, schema, config.getEncoder(),
+                config.isRegisterSchema(), config.isWriteEncodingHeader(), ready, executor);
+    }
+
+    /**
+     * Creates a typed Protobuf deserializer for the schema asynchronously. The calls to the registry service are made on the
+     * executor and the returned future is completed once the deserializer is created.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates a Protobuf schema.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the deserializer.
+     */
+    public static <T extends GeneratedMessageV3> CompletableFuture<Serializer<T>> deserializerAsync(@NonNull SerializerConfig config,
+                                                                                                    @NonNull ProtobufSchema<T> schema,
+                                                                                                    @NonNull Executor executor) {
+        String groupId = config.getGroupId();
+        return initForDeserializerAsync(config, executor)
+                .thenApplyAsync(schemaRegistryClient -> new ProtobufDeserializer<>(groupId, schemaRegistryClient, schema,
+                        config.getDecoders(), getEncodingCache(config, schemaRegistryClient), config.isWriteEncodingHeader()), executor);
+    }
+
     /**
      * Creates a generic protobuf deserializer. It has the optional parameter for schema.
      * If the schema is not supplied, the writer schema is used for deserialization into {@link DynamicMessage}.
@@ -104,7 +174,7 @@ public class ProtobufSerializerFactory {
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
         String groupId = config.getGroupId();
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         return new ProtobufGenericDeserializer(groupId, schemaRegistryClient, schema, config.getDecoders(), encodingCache,
                 config.isWriteEncodingHeader());
@@ -151,7 +221,7 @@ public class ProtobufSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         return new MultiplexedDeserializer<>(groupId, schemaRegistryClient, deserializerMap, config.getDecoders(), encodingCache);
@@ -172,7 +242,7 @@ public class ProtobufSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = getDeserializerMap(config, schemas, groupId, schemaRegistryClient, encodingCache);
         ProtobufGenericDeserializer genericDeserializer = new ProtobufGenericDeserializer(groupId, schemaRegistryClient, null,
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared;
+
+import io.pravega.client.stream.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Deserializer which, besides {@link Serializer#deserialize(ByteBuffer)}, deserializes batches of events. The
+ * deserializers created by the serializer factories implement it, so the {@link Serializer} they return can be cast 
+ * to it.
+ *
+ * @param <T> Type of event.
+ */
+public interface EventDeserializer<T> extends Serializer<T> {
+    /**
+     * Deserializes a batch of events.
+     *
+     * @param serializedValues serialized events.
+     * @return Deserialized events in the order of the serialized events.
+     */
+    List<T> deserializeBatch(List<ByteBuffer> serializedValues);
+}
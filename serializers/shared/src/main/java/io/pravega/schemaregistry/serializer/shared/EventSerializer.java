@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared;
+
+import io.pravega.client.stream.Serializer;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Serializer which, besides {@link Serializer#serialize(Object)}, serializes batches of events and serializes events 
+ * into buffers owned by the caller. The serializers created by the serializer factories for a serialization format
+ * implement it, so the {@link Serializer} they return can be cast to it.
+ *
+ * @param <T> Type of event.
+ */
+public interface EventSerializer<T> extends Serializer<T> {
+    /**
+     * Serializes a batch of events. Each event is serialized into its own buffer, in the same format as 
+     * {@link #serialize(Object)}, so that the events can be written and read independently.
+     *
+     * @param values events to serialize.
+     * @return Serialized events in the order of the events.
+     */
+    List<ByteBuffer> serializeBatch(List<T> values);
+
+    /**
+     * Serializes the event into the target buffer at its position. The position of the target is advanced past the 
+     * serialized event.
+     *
+     * @param obj event to serialize.
+     * @param target buffer into which the event is serialized.
+     * @return Number of bytes written to the target.
+     * @throws BufferOverflowException if the event does not fit in the remaining bytes of the target. The position of
+     * the target is not changed if the event could not be serialized.
+     */
+    int serialize(T obj, ByteBuffer target);
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.codec;
+
+import com.google.common.base.Preconditions;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Codec which the serializers apply to an event only if it pays off. Events smaller than the minimum size are not 
+ * encoded, and events whose encoded size exceeds the maximum ratio of their size are written without the encoding. 
+ * Events that are not encoded are written with the encoding id of the {@link Codecs#None} codec type, so readers 
+ * decode each event with the codec it was written with. 
+ * The codec type of the adaptive codec is the codec type of the codec that it applies.
+ * Use {@link Codecs#adaptive(Codec, int, double)} to create an adaptive codec.
+ */
+public class AdaptiveCodec implements Codec {
+    /**
+     * Codec that is applied to events which pay off.
+     */
+    @Getter
+    private final Codec codec;
+    private final int minSize;
+    private final double maxRatio;
+
+    AdaptiveCodec(Codec codec, int minSize, double maxRatio) {
+        Preconditions.checkNotNull(codec);
+        Preconditions.checkArgument(!codec.equals(Codecs.None.getCodec()), "Adaptive codec requires a codec.");
+        Preconditions.checkArgument(minSize >= 0, "Minimum size should be non negative.");
+        Preconditions.checkArgument(maxRatio > 0 && maxRatio <= 1, "Maximum ratio should be in (0, 1].");
+        this.codec = codec;
+        this.minSize = minSize;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * Tells whether an event of the given size should be encoded.
+     *
+     * @param size serialized size of the event.
+     * @return True if the event is large enough to be encoded.
+     */
+    public boolean shouldEncode(int size) {
+        return size >= minSize;
+    }
+
+    /**
+     * Tells whether the encoding of an event pays off.
+     *
+     * @param size serialized size of the event.
+     * @param encodedSize encoded size of the event.
+     * @return True if the encoded event should be written, false if the event should be written without encoding.
+     */
+    public boolean shouldKeep(int size, int encodedSize) {
+        return encodedSize <= size * maxRatio;
+    }
+
+    @Override
+    public String getName() {
+        return codec.getName();
+    }
+
+    @Override
+    public CodecType getCodecType() {
+        return codec.getCodecType();
+    }
+
+    @Override
+    public void encode(ByteBuffer data, ByteArrayOutputStream outputStream) throws IOException {
+        codec.encode(data, outputStream);
+    }
+
+    @Override
+    public ByteBuffer decode(ByteBuffer data, Map<String, String> codecProperties) throws IOException {
+        return codec.decode(data, codecProperties);
+    }
+}
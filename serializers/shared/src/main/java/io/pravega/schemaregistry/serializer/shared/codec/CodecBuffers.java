@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.codec;
+
+/**
+ * Scratch arrays into which codecs encode data before writing it to the output stream. Arrays are reused by the codecs
+ * of a thread, so an array is only valid until the next array is requested by the same thread. Arrays larger than
+ * {@link #MAX_CACHED_SIZE} are not cached so that a single large event does not pin its array.
+ */
+final class CodecBuffers {
+    static final int MAX_CACHED_SIZE = 1024 * 1024;
+    private static final int MIN_SIZE = 1024;
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[MIN_SIZE]);
+
+    private CodecBuffers() {
+    }
+
+    /**
+     * Gets a scratch array of at least the given size.
+     *
+     * @param size minimum size of the array.
+     * @return Scratch array.
+     */
+    static byte[] get(int size) {
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length >= size) {
+            return scratch;
+        }
+        if (size > MAX_CACHED_SIZE) {
+            return new byte[size];
+        }
+        scratch = new byte[Math.min(MAX_CACHED_SIZE, Math.max(size, scratch.length * 2))];
+        SCRATCH.set(scratch);
+        return scratch;
+    }
+}
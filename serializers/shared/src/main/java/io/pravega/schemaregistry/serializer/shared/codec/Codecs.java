@@ -9,27 +9,40 @@
  */
 package io.pravega.schemaregistry.serializer.shared.codec;
 
-import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import io.pravega.common.util.BitConverter;
+import io.pravega.schemaregistry.common.HashUtil;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import lombok.Getter;
-import org.apache.commons.io.IOUtils;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
 import org.xerial.snappy.Snappy;
 
+import javax.annotation.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Base64;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
 
 /**
- * Utility class for creating codecs for none, snappy or gzip. 
+ * Utility class for creating codecs for none, snappy, gzip, lz4 or zstandard. 
  */
 public enum Codecs {
     None(Constants.NOOP),
     GzipCompressor(Constants.GZIP_CODEC), 
-    SnappyCompressor(Constants.SNAPPY_CODEC);
+    SnappyCompressor(Constants.SNAPPY_CODEC),
+    Lz4Compressor(Constants.LZ4_CODEC),
+    ZstdCompressor(Constants.ZSTD_CODEC);
 
     @Getter
     private final Codec codec;
@@ -38,6 +51,83 @@ public enum Codecs {
         this.codec = codec;  
     }
 
+    /**
+     * Creates a codec which the serializers apply only to events that are at least the minimum size and whose encoded
+     * size is at most the maximum ratio of their size. Other events are written without encoding. 
+     * For example, adaptive(Codecs.SnappyCompressor.getCodec(), 128, 0.9) skips compression for events smaller than 
+     * 128 bytes and for events that compression does not shrink by at least 10%.
+     * 
+     * @param codec codec to apply.
+     * @param minSize minimum serialized size of the events that are encoded.
+     * @param maxRatio maximum ratio of the encoded size to the serialized size, in (0, 1].
+     * @return Adaptive codec.
+     */
+    public static AdaptiveCodec adaptive(Codec codec, int minSize, double maxRatio) {
+        return new AdaptiveCodec(codec, minSize, maxRatio);
+    }
+
+    /**
+     * Gets the decoder for codec types whose names are derived from their properties, which are the Zstandard codec 
+     * types with dictionaries. The decoder reads the dictionary from the codec properties.
+     * 
+     * @param codecName name of the codec type.
+     * @return Decoder for the codec type or null if the name is not derived from properties.
+     */
+    @Nullable
+    public static Decoder getDerivedDecoder(String codecName) {
+        return codecName.startsWith(Constants.APPLICATION_ZSTD_DICTIONARY_PREFIX) ? Constants.ZSTD_CODEC : null;
+    }
+
+    /**
+     * Creates a gzip codec which compresses with the given level. The level only affects the writer, as gzip frames are
+     * decoded the same way at any level, so the codec has the same codec type as the default gzip codec. 
+     * 
+     * @param level compression level, from 0 to 9, or -1 for the default level.
+     * @return Gzip codec.
+     */
+    public static Codec gzip(int level) {
+        Preconditions.checkArgument(level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION, 
+                "Invalid gzip compression level %s", level);
+        return new GZipCodec(level);
+    }
+
+    /**
+     * Creates an LZ4 codec which compresses with the given level. 
+     * 
+     * @param level compression level. Level 0 uses the fast compressor, levels 1 to 17 use the high compression 
+     *              compressor which trades speed for compression ratio. 
+     * @return LZ4 codec.
+     */
+    public static Codec lz4(int level) {
+        Preconditions.checkArgument(level >= 0 && level <= Constants.LZ4_MAX_LEVEL, "Invalid LZ4 compression level %s", level);
+        return new Lz4Codec(level);
+    }
+
+    /**
+     * Creates a Zstandard codec which compresses with the given level. 
+     * 
+     * @param level compression level, from 1 to 22. 
+     * @return Zstandard codec.
+     */
+    public static Codec zstd(int level) {
+        return zstd(level, null);
+    }
+
+    /**
+     * Creates a Zstandard codec which compresses with the given level and dictionary. 
+     * The dictionary is included in the properties of the codec type, so the deserializers load it from the encoding 
+     * info of the events. The name of the codec type is derived from the dictionary, so each dictionary is registered 
+     * as its own codec type with the group and events compressed with earlier dictionaries remain readable. Dictionaries trained on samples of the events improve the compression ratio of small events.
+     * 
+     * @param level compression level, from 1 to 22. 
+     * @param dictionary dictionary trained with Zstandard, or null to compress without a dictionary.
+     * @return Zstandard codec.
+     */
+    public static Codec zstd(int level, @Nullable byte[] dictionary) {
+        Preconditions.checkArgument(level >= 1 && level <= Constants.ZSTD_MAX_LEVEL, "Invalid Zstandard compression level %s", level);
+        return new ZstdCodec(level, dictionary);
+    }
+
     private static class Noop implements Codec {
         private static final CodecType CODEC_TYPE_NONE = new CodecType(Constants.NONE);
 
@@ -67,8 +157,14 @@ public enum Codecs {
         }
     }
 
-    private static class GZipCodec implements Codec {
+    private static class GZipCodec implements Codec, StreamingEncoder, StreamingDecoder {
         private static final CodecType CODEC_TYPE_GZIP = new CodecType(Constants.APPLICATION_X_GZIP);
+        private final int level;
+
+        GZipCodec(int level) {
+            this.level = level;
+        }
+        
         @Override
         public String getName() {
             return CODEC_TYPE_GZIP.getName();
@@ -80,18 +176,13 @@ public enum Codecs {
         }
 
         @Override
-        public void encode(ByteBuffer data, ByteArrayOutputStream bos) throws IOException {
-            byte[] b = data.hasArray() ? data.array() : getBytes(data);
-            int offset = data.hasArray() ? data.arrayOffset() + data.position() : 0;
-            try (GZIPOutputStream gzipOS = new GZIPOutputStream(bos)) {
-                gzipOS.write(b, offset, data.remaining());
-            }
+        public OutputStream encodingStream(OutputStream outputStream) throws IOException {
+            return GzipStreams.compressingStream(outputStream, level);
         }
 
         @Override
-        public ByteBuffer decode(ByteBuffer data, Map<String, String> codecProperties) throws IOException {
-            InputStream bis = new ByteBufferBackedInputStream(data);
-            return ByteBuffer.wrap(IOUtils.toByteArray(new GZIPInputStream(bis)));
+        public InputStream decodingStream(ByteBuffer data, Map<String, String> codecProperties) throws IOException {
+            return GzipStreams.decompressingStream(data);
         }
     }
 
@@ -101,6 +192,21 @@ public enum Codecs {
         return b;
     }
 
+    /**
+     * Reads the length of the decoded data that prefixes the encoded data and validates it before the decoded data is
+     * allocated, so that corrupt data does not cause huge allocations.
+     */
+    private static int readDecodedLength(ByteBuffer data, long maxLength) throws IOException {
+        if (data.remaining() < Integer.BYTES) {
+            throw new IOException("Encoded data is truncated");
+        }
+        int length = data.getInt(data.position());
+        if (length < 0 || length > Math.min(maxLength, Constants.MAX_DECODED_SIZE)) {
+            throw new IOException("Invalid decoded length " + length + " for " + data.remaining() + " encoded bytes");
+        }
+        return length;
+    }
+
     private static class SnappyCodec implements Codec {
         private static final CodecType CODEC_TYPE_SNAPPY = new CodecType(Constants.APPLICATION_X_SNAPPY_FRAMED);
         @Override
@@ -135,12 +241,149 @@ public enum Codecs {
         }
     }
 
+    private static class Lz4Codec implements Codec {
+        private static final CodecType CODEC_TYPE_LZ4 = new CodecType(Constants.APPLICATION_X_LZ4_BLOCK);
+        private final LZ4Compressor compressor;
+        private final LZ4SafeDecompressor decompressor;
+
+        Lz4Codec(int level) {
+            LZ4Factory factory = LZ4Factory.fastestInstance();
+            this.compressor = level == 0 ? factory.fastCompressor() : factory.highCompressor(level);
+            this.decompressor = factory.safeDecompressor();
+        }
+
+        @Override
+        public String getName() {
+            return CODEC_TYPE_LZ4.getName();
+        }
+
+        @Override
+        public CodecType getCodecType() {
+            return CODEC_TYPE_LZ4;
+        }
+
+        @Override
+        public void encode(ByteBuffer data, ByteArrayOutputStream bos) {
+            // the block is prefixed with the length of the data, which the decompressor needs to decompress it.  
+            int length = data.remaining();
+            byte[] encoded = CodecBuffers.get(Integer.BYTES + compressor.maxCompressedLength(length));
+            BitConverter.writeInt(encoded, 0, length);
+            int size = compressor.compress(data, data.position(), length, ByteBuffer.wrap(encoded), Integer.BYTES,
+                    encoded.length - Integer.BYTES);
+            bos.write(encoded, 0, Integer.BYTES + size);
+        }
+
+        @Override
+        public ByteBuffer decode(ByteBuffer data, Map<String, String> codecProperties) throws IOException {
+            long maxLength = (long) (data.remaining() - Integer.BYTES) * Constants.LZ4_MAX_RATIO;
+            int length = readDecodedLength(data, maxLength);
+            ByteBuffer decoded = ByteBuffer.allocate(length);
+            int size = decompressor.decompress(data, data.position() + Integer.BYTES, data.remaining() - Integer.BYTES, 
+                    decoded, 0, length);
+            if (size != length) {
+                throw new IOException("Decoded " + size + " bytes, expected " + length);
+            }
+            return decoded;
+        }
+    }
+
+    private static class ZstdCodec implements Codec {
+        private final CodecType codecType;
+        private final int level;
+        private final ZstdDictCompress dictionary;
+        // dictionaries of the encodings decoded by the codec, by their value in the codec properties
+        private final ConcurrentHashMap<String, ZstdDictDecompress> decompressDictionaries = new ConcurrentHashMap<>();
+
+        ZstdCodec(int level, @Nullable byte[] dictionary) {
+            this.level = level;
+            if (dictionary == null) {
+                this.codecType = new CodecType(Constants.APPLICATION_ZSTD);
+                this.dictionary = null;
+            } else {
+                // codec types are identified by name in a group, so each dictionary gets its own name.
+                String name = Constants.APPLICATION_ZSTD_DICTIONARY_PREFIX + HashUtil.getFingerprint(dictionary).toString(16);
+                this.codecType = new CodecType(name,
+                        ImmutableMap.of(Constants.ZSTD_DICTIONARY, Base64.getEncoder().encodeToString(dictionary)));
+                this.dictionary = new ZstdDictCompress(dictionary, level);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return codecType.getName();
+        }
+
+        @Override
+        public CodecType getCodecType() {
+            return codecType;
+        }
+
+        @Override
+        public void encode(ByteBuffer data, ByteArrayOutputStream bos) throws IOException {
+            // the frame is prefixed with the length of the data so that the decoder can allocate the decoded buffer.
+            int length = data.remaining();
+            byte[] b = data.hasArray() ? data.array() : getBytes(data);
+            int offset = data.hasArray() ? data.arrayOffset() + data.position() : 0;
+            byte[] encoded = CodecBuffers.get(Integer.BYTES + (int) Zstd.compressBound(length));
+            BitConverter.writeInt(encoded, 0, length);
+            long size;
+            if (dictionary == null) {
+                size = Zstd.compressByteArray(encoded, Integer.BYTES, encoded.length - Integer.BYTES, b, offset, length, level);
+            } else {
+                size = Zstd.compressFastDict(encoded, Integer.BYTES, b, offset, length, dictionary);
+            }
+            checkError(size);
+            bos.write(encoded, 0, Integer.BYTES + (int) size);
+        }
+
+        @Override
+        public ByteBuffer decode(ByteBuffer data, Map<String, String> codecProperties) throws IOException {
+            byte[] b = data.hasArray() ? data.array() : getBytes(data.duplicate());
+            int offset = data.hasArray() ? data.arrayOffset() + data.position() : 0;
+            int length = readDecodedLength(data, Constants.MAX_DECODED_SIZE);
+            byte[] decoded = new byte[length];
+            String dictionary = codecProperties.get(Constants.ZSTD_DICTIONARY);
+            long size;
+            if (dictionary == null) {
+                size = Zstd.decompressByteArray(decoded, 0, length, b, offset + Integer.BYTES, data.remaining() - Integer.BYTES);
+            } else {
+                ZstdDictDecompress decompressDictionary = decompressDictionaries.computeIfAbsent(dictionary,
+                        x -> new ZstdDictDecompress(Base64.getDecoder().decode(x)));
+                size = Zstd.decompressFastDict(decoded, 0, b, offset + Integer.BYTES, data.remaining() - Integer.BYTES,
+                        decompressDictionary);
+            }
+            checkError(size);
+            if (size != length) {
+                throw new IOException("Decoded " + size + " bytes, expected " + length);
+            }
+            return ByteBuffer.wrap(decoded);
+        }
+
+        private static void checkError(long result) throws IOException {
+            if (Zstd.isError(result)) {
+                throw new IOException("Zstandard codec failed with " + Zstd.getErrorName(result));
+            }
+        }
+    }
+
     static class Constants {
         static final Noop NOOP = new Noop();
-        static final GZipCodec GZIP_CODEC = new GZipCodec();
+        static final GZipCodec GZIP_CODEC = new GZipCodec(Deflater.DEFAULT_COMPRESSION);
         static final SnappyCodec SNAPPY_CODEC = new SnappyCodec();
+        static final Lz4Codec LZ4_CODEC = new Lz4Codec(0);
+        static final ZstdCodec ZSTD_CODEC = new ZstdCodec(Constants.ZSTD_DEFAULT_LEVEL, null);
         static final String NONE = "";
         static final String APPLICATION_X_GZIP = "application/x-gzip";
         static final String APPLICATION_X_SNAPPY_FRAMED = "application/x-snappy-framed";
+        static final String APPLICATION_X_LZ4_BLOCK = "application/x-lz4-block";
+        static final String APPLICATION_ZSTD = "application/zstd";
+        static final String APPLICATION_ZSTD_DICTIONARY_PREFIX = "application/zstd+dict-";
+        static final String ZSTD_DICTIONARY = "zstd.dictionary";
+        static final int LZ4_MAX_LEVEL = 17;
+        // lz4 cannot compress data by more than this ratio
+        static final int LZ4_MAX_RATIO = 255;
+        static final int MAX_DECODED_SIZE = 128 * 1024 * 1024;
+        static final int ZSTD_DEFAULT_LEVEL = 3;
+        static final int ZSTD_MAX_LEVEL = 22;
     }
 }
@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.codec;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Gzip streams which reuse the deflaters, inflaters and buffers of a thread instead of allocating native zlib state and
+ * buffers for every event. 
+ * A thread holds one deflater for each compression level and one inflater. A stream takes the state of its thread when 
+ * it is created and returns it when it is closed. Streams that are created while the state of the thread is taken, 
+ * for example by nested serializers, allocate their own state.
+ * The streams write and read the same format as {@link java.util.zip.GZIPOutputStream}, except that payloads with 
+ * multiple gzip members are not supported.
+ */
+final class GzipStreams {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] HEADER = {(byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final int TRAILER_SIZE = 8;
+    private static final byte[] EMPTY = new byte[0];
+    private static final int BUFFER_SIZE = 4096;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    // indexed by compression level + 1, as the default compression level is -1.
+    private static final ThreadLocal<DeflaterState[]> DEFLATERS = ThreadLocal.withInitial(
+            () -> new DeflaterState[Deflater.BEST_COMPRESSION + 2]);
+    private static final ThreadLocal<InflaterState> INFLATER = new ThreadLocal<>();
+
+    private GzipStreams() {
+    }
+
+    /**
+     * Wraps the output stream into a stream which compresses the data written to it. 
+     *
+     * @param outputStream output stream where the compressed data is written.
+     * @param level compression level.
+     * @return Output stream. Closing it completes the compression and closes the output stream.
+     * @throws IOException if the header could not be written to the output stream.
+     */
+    static OutputStream compressingStream(OutputStream outputStream, int level) throws IOException {
+        DeflaterState[] states = DEFLATERS.get();
+        DeflaterState state = states[level + 1];
+        if (state == null) {
+            state = new DeflaterState(level);
+        } else {
+            states[level + 1] = null;
+        }
+        return new GzipOutputStream(outputStream, state);
+    }
+
+    /**
+     * Wraps the remaining bytes in the buffer, which should be a single gzip member, into a stream of the decompressed 
+     * data. The trailer of the member is verified when the stream is read to the end. Closing the stream reads the data
+     * which was not read yet, so the trailer is verified even if the reader stops before the end of the payload.
+     *
+     * @param data compressed data.
+     * @return Input stream of the decompressed data.
+     * @throws IOException if the buffer does not contain gzip data.
+     */
+    static InputStream decompressingStream(ByteBuffer data) throws IOException {
+        ByteBuffer payload = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        long expectedCrc;
+        int expectedSize;
+        try {
+            readHeader(payload);
+            int trailer = payload.limit() - TRAILER_SIZE;
+            if (trailer < payload.position()) {
+                throw new ZipException("Truncated GZIP payload");
+            }
+            expectedCrc = payload.getInt(trailer) & 0xffffffffL;
+            expectedSize = payload.getInt(trailer + Integer.BYTES);
+            payload.limit(trailer);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new ZipException("Corrupt GZIP header");
+        }
+        
+        InflaterState state = INFLATER.get();
+        if (state == null) {
+            state = new InflaterState();
+        } else {
+            INFLATER.set(null);
+        }
+        if (payload.hasArray()) {
+            // the inflater reads the payload from its array, so it is not copied into the buffer of the stream. 
+            state.inflater.setInput(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+            return new GzipInputStream(new ByteArrayInputStream(EMPTY), state, expectedCrc, expectedSize);
+        } else {
+            return new GzipInputStream(new ByteBufferBackedInputStream(payload), state, expectedCrc, expectedSize);
+        }
+    }
+
+    private static void readHeader(ByteBuffer payload) throws ZipException {
+        if ((payload.getShort() & 0xffff) != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (payload.get() != Deflater.DEFLATED) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = payload.get() & 0xff;
+        // skip modification time, extra flags and operating system
+        payload.position(payload.position() + 6);
+        if ((flags & FEXTRA) != 0) {
+            int length = payload.getShort() & 0xffff;
+            payload.position(payload.position() + length);
+        }
+        if ((flags & FNAME) != 0) {
+            skipZeroTerminated(payload);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            skipZeroTerminated(payload);
+        }
+        if ((flags & FHCRC) != 0) {
+            payload.position(payload.position() + Short.BYTES);
+        }
+    }
+
+    private static void skipZeroTerminated(ByteBuffer payload) {
+        while (payload.get() != 0) {
+            // skip
+        }
+    }
+
+    private static class DeflaterState {
+        private final int level;
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        DeflaterState(int level) {
+            this.level = level;
+            this.deflater = new Deflater(level, true);
+        }
+
+        void release() {
+            DeflaterState[] states = DEFLATERS.get();
+            if (states[level + 1] == null) {
+                deflater.reset();
+                crc.reset();
+                states[level + 1] = this;
+            } else {
+                deflater.end();
+            }
+        }
+    }
+
+    private static class InflaterState {
+        private final Inflater inflater = new Inflater(true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final byte[] discarded = new byte[BUFFER_SIZE];
+
+        void release() {
+            if (INFLATER.get() == null) {
+                inflater.reset();
+                crc.reset();
+                INFLATER.set(this);
+            } else {
+                inflater.end();
+            }
+        }
+    }
+
+    private static class GzipOutputStream extends DeflaterOutputStream {
+        private final DeflaterState state;
+        private boolean closed;
+
+        GzipOutputStream(OutputStream out, DeflaterState state) throws IOException {
+            super(out, state.deflater, 1);
+            this.buf = state.buffer;
+            this.state = state;
+            out.write(HEADER);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            super.write(b, off, len);
+            state.crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!closed && !def.finished()) {
+                def.finish();
+                while (!def.finished()) {
+                    deflate();
+                }
+                writeIntLE((int) state.crc.getValue());
+                writeIntLE((int) def.getBytesRead());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                try {
+                    finish();
+                    out.close();
+                } finally {
+                    closed = true;
+                    state.release();
+                }
+            }
+        }
+
+        private void writeIntLE(int value) throws IOException {
+            out.write(value);
+            out.write(value >> 8);
+            out.write(value >> 16);
+            out.write(value >> 24);
+        }
+    }
+
+    private static class GzipInputStream extends InflaterInputStream {
+        private final InflaterState state;
+        private final long expectedCrc;
+        private final int expectedSize;
+        private boolean closed;
+
+        GzipInputStream(InputStream in, InflaterState state, long expectedCrc, int expectedSize) {
+            super(in, state.inflater, 1);
+            this.buf = state.buffer;
+            this.state = state;
+            this.expectedCrc = expectedCrc;
+            this.expectedSize = expectedSize;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                state.crc.update(b, off, read);
+            } else if (read < 0) {
+                verifyTrailer();
+            }
+            return read;
+        }
+
+        private void verifyTrailer() throws ZipException {
+            if (inf.getRemaining() > 0) {
+                throw new ZipException("Multiple GZIP members are not supported");
+            }
+            if (state.crc.getValue() != expectedCrc || (int) inf.getBytesWritten() != expectedSize) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                try {
+                    // readers may stop before the end of the payload, so the rest is inflated to verify the trailer.
+                    while (read(state.discarded, 0, state.discarded.length) >= 0) {
+                        // discard
+                    }
+                } finally {
+                    closed = true;
+                    try {
+                        in.close();
+                    } finally {
+                        state.release();
+                    }
+                }
+            }
+        }
+    }
+}
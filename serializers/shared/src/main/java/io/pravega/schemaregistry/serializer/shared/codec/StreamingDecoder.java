@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.codec;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Decoder which decodes data as it is read from a stream.
+ * Deserializers read events straight from the stream returned by {@link #decodingStream(ByteBuffer, Map)} instead of
+ * reading them from a buffer into which the data was fully decoded by {@link #decode(ByteBuffer, Map)}.
+ */
+@FunctionalInterface
+public interface StreamingDecoder extends Decoder {
+    /**
+     * Wraps the remaining bytes in the buffer into a stream from which the decoded data is read.
+     *
+     * @param data encoded ByteBuffer to decode.
+     * @param codecProperties codec properties.
+     * @return Input stream of the decoded data.
+     * @throws IOException can be thrown while reading from the byte buffer.
+     */
+    InputStream decodingStream(ByteBuffer data, Map<String, String> codecProperties) throws IOException;
+
+    @Override
+    default ByteBuffer decode(ByteBuffer data, Map<String, String> codecProperties) throws IOException {
+        try (InputStream decodingStream = decodingStream(data, codecProperties)) {
+            return ByteBuffer.wrap(IOUtils.toByteArray(decodingStream));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Encoder which encodes data as it is written to a stream. 
+ * Serializers write events straight into the stream returned by {@link #encodingStream(OutputStream)} instead of 
+ * serializing them into a buffer which is then encoded with {@link #encode(ByteBuffer, ByteArrayOutputStream)}.
+ */
+public interface StreamingEncoder extends Encoder {
+    /**
+     * Wraps the output stream into a stream which encodes the bytes written to it into the output stream. 
+     * Closing the returned stream completes the encoding and closes the output stream.
+     *
+     * @param outputStream output stream where the encoded data should be written.
+     * @return Output stream into which the data to encode should be written.
+     * @throws IOException IOException can be thrown while writing to the output stream.
+     */
+    OutputStream encodingStream(OutputStream outputStream) throws IOException;
+
+    @Override
+    default void encode(ByteBuffer data, ByteArrayOutputStream outputStream) throws IOException {
+        try (OutputStream encodingStream = encodingStream(outputStream)) {
+            if (data.hasArray()) {
+                encodingStream.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            } else {
+                byte[] b = new byte[data.remaining()];
+                data.duplicate().get(b);
+                encodingStream.write(b);
+            }
+        }
+    }
+}
@@ -9,12 +9,15 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.common.base.Preconditions;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
-import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.EncodingInfo;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.serializer.shared.codec.Decoder;
+import io.pravega.schemaregistry.serializer.shared.codec.StreamingDecoder;
 import io.pravega.schemaregistry.serializer.shared.schemas.Schema;
+import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,6 +26,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 @Slf4j
 public abstract class AbstractDeserializer<T> extends BaseDeserializer<T> {
@@ -37,6 +43,12 @@ public abstract class AbstractDeserializer<T> extends BaseDeserializer<T> {
     private final SerializerConfig.Decoders decoders;
     private final boolean skipHeaders;
     private final EncodingCache encodingCache;
+    // decoder and reader for each encoding id read by this deserializer. 
+    private final EncodingIndex<DecodePlan<T>> decodePlans = new EncodingIndex<>();
+    private final IntFunction<DecodePlan<T>> decodePlanResolver = this::createDecodePlan;
+    // reader for events whose headers are not encoded or are skipped. It is created on first use as it is created by 
+    // the subclass.
+    private volatile PayloadReader<T> headerlessReader;
 
     protected AbstractDeserializer(String groupId,
                                    SchemaRegistryClient client,
@@ -60,7 +72,10 @@ public abstract class AbstractDeserializer<T> extends BaseDeserializer<T> {
     }
 
     private void initialize() {
-        if (schemaInfo != null) {
+        if (schemaInfo != null && encodingCache.isLoadedFromBundle()) {
+            // readers that start from a bundle do not reach the registry service, so the reader schema is not validated.
+            log.info("Skip validating caller supplied schema as encodings of group {} are loaded from a bundle.", groupId);
+        } else if (schemaInfo != null) {
             log.info("Validate caller supplied schema.");
             if (!client.canReadUsing(groupId, schemaInfo)) {
                 throw new IllegalArgumentException("Cannot read using schema" + schemaInfo.getType() + " as it is considered incompatible with current policy.");
@@ -75,52 +90,86 @@ public abstract class AbstractDeserializer<T> extends BaseDeserializer<T> {
     @SneakyThrows(IOException.class)
     @Override
     public T deserialize(ByteBuffer data) {
-        int start = data.hasArray() ? data.arrayOffset() + data.position() : data.position();
-        ByteArrayInputStream inputStream;
-        SchemaInfo writerSchema;
-        SchemaInfo readerSchema;
+        if (this.encodeHeader && !skipHeaders) {
+            byte protocol = data.get();
+            DecodePlan<T> decodePlan = decodePlans.computeIfAbsent(data.getInt(), decodePlanResolver);
+            return decodePlan.read(data);
+        }
+
         if (this.encodeHeader) {
-            ByteBuffer decodedBytes;
-            if (skipHeaders) {
-                data.position(HEADER_SIZE);
-                decodedBytes = data;
-                writerSchema = null;
-            } else {
-                byte protocol = data.get();
-                EncodingId encodingId = new EncodingId(data.getInt());
-                EncodingInfo encodingInfo = encodingCache.getGroupEncodingInfo(encodingId);
-                writerSchema = encodingInfo.getSchemaInfo();
-                decodedBytes = decoders.decode(encodingInfo.getCodecType(), data);
+            data.position(data.position() + HEADER_SIZE);
+        }
+        PayloadReader<T> reader = headerlessReader;
+        if (reader == null) {
+            // pass reader schema for schema on read to the underlying implementation
+            reader = createReader(null, schemaInfo);
+            headerlessReader = reader;
+        }
+        return reader.read(data);
+    }
+
+    private DecodePlan<T> createDecodePlan(int encodingId) {
+        EncodingInfo encodingInfo = encodingCache.getGroupEncodingInfo(encodingId);
+        SchemaInfo writerSchema = encodingInfo.getSchemaInfo();
+        // pass writer schema for schema to be read into
+        SchemaInfo readerSchema = schemaInfo != null ? schemaInfo : writerSchema;
+        return new DecodePlan<>(decoders.getDecoder(encodingInfo.getCodecType()), 
+                encodingInfo.getCodecType().getProperties(), createReader(writerSchema, readerSchema));
+    }
+
+    /**
+     * Creates the reader for the payloads of events written with the writer schema. Readers are created once for each
+     * encoding id that the deserializer reads, so implementations should resolve all state that depends on the schemas
+     * here rather than for every event. 
+     * The default implementation reads payloads with {@link #deserialize(ByteBuffer, SchemaInfo, SchemaInfo)} and
+     * {@link #deserialize(InputStream, SchemaInfo, SchemaInfo)}.
+     *
+     * @param writerSchema schema with which the events were written, or null if headers are not read.
+     * @param readerSchema schema with which the events should be read.
+     * @return Reader for the payloads.
+     */
+    public PayloadReader<T> createReader(@Nullable SchemaInfo writerSchema, @Nullable SchemaInfo readerSchema) {
+        return new PayloadReader<T>() {
+            @Override
+            public T read(ByteBuffer payload) throws IOException {
+                return deserialize(payload, writerSchema, readerSchema);
             }
 
-            byte[] b;
-            if (decodedBytes.hasArray()) {
-                b = decodedBytes.array();
-                start = decodedBytes.arrayOffset() + decodedBytes.position();
-            } else {
-                b = new byte[decodedBytes.remaining()];
-                decodedBytes.get(b);
-                start = decodedBytes.position();
+            @Override
+            public T read(InputStream payload) throws IOException {
+                return deserialize(payload, writerSchema, readerSchema);
             }
+        };
+    }
 
-            inputStream = new ByteArrayInputStream(b, start, decodedBytes.remaining());
-            // pass writer schema for schema to be read into
-            readerSchema = schemaInfo != null ? schemaInfo : writerSchema;
+    /**
+     * Deserializes the payload of an event, which is the remaining bytes in the buffer. 
+     * The default implementation reads the payload through {@link #deserialize(InputStream, SchemaInfo, SchemaInfo)} 
+     * without copying it. Implementations that can read from the buffer directly should override this method.
+     *
+     * @param payload buffer with the decoded payload of the event.
+     * @param writerSchema schema with which the event was written, or null if headers are not read.
+     * @param readerSchema schema with which the event should be read. 
+     * @return Deserialized event.
+     * @throws IOException if the payload could not be deserialized.
+     */
+    public T deserialize(ByteBuffer payload, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
+        return deserialize(asInputStream(payload), writerSchema, readerSchema);
+    }
+
+    /**
+     * Wraps the remaining bytes in the buffer into an input stream without copying them. The position of the buffer is
+     * not changed by reading from the stream.
+     *
+     * @param payload buffer.
+     * @return Input stream over the remaining bytes of the buffer.
+     */
+    private static InputStream asInputStream(ByteBuffer payload) {
+        if (payload.hasArray()) {
+            return new ByteArrayInputStream(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
         } else {
-            byte[] b;
-            if (data.hasArray()) {
-                b = data.array();
-            } else {
-                b = new byte[data.remaining()];
-                data.get(b);
-            }
-            writerSchema = null;
-            readerSchema = schemaInfo;
-            // pass reader schema for schema on read to the underlying implementation
-            inputStream = new ByteArrayInputStream(b, start, data.remaining());
+            return new ByteBufferBackedInputStream(payload.duplicate());
         }
-
-        return deserialize(inputStream, writerSchema, readerSchema);
     }
     
     public abstract T deserialize(InputStream inputStream, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException;
@@ -128,4 +177,69 @@ public abstract class AbstractDeserializer<T> extends BaseDeserializer<T> {
     protected boolean isEncodeHeader() {
         return encodeHeader;
     }
+
+    /**
+     * Reads the payload of events written with a schema. Payloads are read from a buffer, or from a stream if they are 
+     * decoded by a {@link StreamingDecoder}.
+     *
+     * @param <T> Type of the events.
+     */
+    public interface PayloadReader<T> {
+        /**
+         * Reads the payload, which is the remaining bytes in the buffer.
+         *
+         * @param payload buffer with the decoded payload of the event.
+         * @return Deserialized event.
+         * @throws IOException if the payload could not be deserialized.
+         */
+        T read(ByteBuffer payload) throws IOException;
+
+        /**
+         * Reads the payload from the input stream.
+         *
+         * @param payload input stream of the decoded payload of the event.
+         * @return Deserialized event.
+         * @throws IOException if the payload could not be deserialized.
+         */
+        T read(InputStream payload) throws IOException;
+
+        /**
+         * Creates a reader which applies the function to the events read by this reader.
+         *
+         * @param function function to apply.
+         * @param <R> Type of the events returned by the function.
+         * @return Reader which returns the result of the function.
+         */
+        default <R> PayloadReader<R> map(Function<? super T, ? extends R> function) {
+            PayloadReader<T> reader = this;
+            return new PayloadReader<R>() {
+                @Override
+                public R read(ByteBuffer payload) throws IOException {
+                    return function.apply(reader.read(payload));
+                }
+
+                @Override
+                public R read(InputStream payload) throws IOException {
+                    return function.apply(reader.read(payload));
+                }
+            };
+        }
+    }
+
+    @AllArgsConstructor
+    private static class DecodePlan<T> {
+        private final Decoder decoder;
+        private final Map<String, String> codecProperties;
+        private final PayloadReader<T> reader;
+
+        T read(ByteBuffer data) throws IOException {
+            if (decoder instanceof StreamingDecoder) {
+                // read the payload straight from the decoder without decoding it into a buffer first
+                try (InputStream decodingStream = ((StreamingDecoder) decoder).decodingStream(data, codecProperties)) {
+                    return reader.read(decodingStream);
+                }
+            }
+            return reader.read(decoder.decode(data, codecProperties));
+        }
+    }
 }
@@ -10,35 +10,50 @@
 package io.pravega.schemaregistry.serializer.shared.impl;
 
 import com.google.common.base.Preconditions;
-import io.pravega.common.io.EnhancedByteArrayOutputStream;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.BitConverter;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.serializer.shared.codec.AdaptiveCodec;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
 import io.pravega.schemaregistry.serializer.shared.codec.Encoder;
+import io.pravega.schemaregistry.serializer.shared.codec.StreamingEncoder;
+import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.contract.data.EncodingId;
 import io.pravega.schemaregistry.contract.data.SchemaInfo;
 import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.serializer.shared.schemas.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.SneakyThrows;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
     private static final byte PROTOCOL = 0x1;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+    private static final int INITIAL_SIZE_ESTIMATE = 1024;
 
     private final String groupId;
     
     private final SchemaInfo schemaInfo;
-    private final AtomicReference<EncodingId> encodingId;
+    // completed with the encoding ids once the schema is registered. It is completed with null if headers are not encoded.
+    private final CompletableFuture<EncodingIds> encodingIds;
     private final boolean encodeHeader;
     private final SchemaRegistryClient client;
     @Getter
     private final Encoder encoder;
     private final boolean registerSchema;
+    // expected size of the serialized events, used to size the buffers that events are serialized into.
+    private volatile int sizeEstimate = INITIAL_SIZE_ESTIMATE;
     
     protected AbstractSerializer(String groupId,
                                  SchemaRegistryClient client,
@@ -46,23 +61,64 @@ public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
                                  Encoder encoder,
                                  boolean registerSchema, 
                                  boolean encodeHeader) {
+        this(groupId, client, schema, encoder, registerSchema, encodeHeader, null, null);
+    }
+
+    /**
+     * Creates a serializer which registers its schema and resolves its encoding id in the background, so that the 
+     * serializer can be created without waiting on the registry service. {@link #serialize(Object)} waits for the 
+     * encoding id if it has not been resolved yet. 
+     * 
+     * @param groupId        group id.
+     * @param client         registry client.
+     * @param schema         schema of the events.
+     * @param encoder        encoder for the serialized events.
+     * @param registerSchema if the schema should be registered with the group.
+     * @param encodeHeader   if the encoding header should be written with the events.
+     * @param ready          future which is completed once the group is ready for the schema to be registered. If null, 
+     *                       the schema is registered synchronously in the constructor.
+     * @param executor       executor on which the calls of registry clients supplied by callers are made. Required if 
+     *                       ready is not null.
+     */
+    protected AbstractSerializer(String groupId,
+                                 SchemaRegistryClient client,
+                                 Schema<T> schema,
+                                 Encoder encoder,
+                                 boolean registerSchema,
+                                 boolean encodeHeader, 
+                                 @Nullable CompletableFuture<Void> ready, 
+                                 @Nullable Executor executor) {
         Preconditions.checkNotNull(groupId);
         Preconditions.checkNotNull(client);
         Preconditions.checkNotNull(encoder);
         Preconditions.checkNotNull(schema);
+        Preconditions.checkArgument(ready == null || executor != null, "Executor is required for deferred initialization.");
         Preconditions.checkArgument(encodeHeader || encoder.equals(Codecs.None.getCodec()), 
                 "Cannot use encoder if encoder header is false.");
         this.groupId = groupId;
         this.client = client;
         this.schemaInfo = schema.getSchemaInfo();
         this.registerSchema = registerSchema;
-        this.encodingId = new AtomicReference<>();
         this.encoder = encoder;
         this.encodeHeader = encodeHeader;
-        initialize();
+        if (ready == null) {
+            this.encodingIds = CompletableFuture.completedFuture(initialize());
+        } else {
+            AsyncInitClient asyncClient = SerializerFactoryHelper.getInitClient(client, executor);
+            this.encodingIds = ready.thenCompose(v -> initializeAsync(asyncClient));
+        }
+    }
+
+    /**
+     * Future which is completed once the schema is registered and the encoding id is resolved. 
+     * 
+     * @return Future which is completed once the serializer is ready to serialize events without calling the registry service.
+     */
+    public CompletableFuture<Void> getInitialization() {
+        return encodingIds.thenApply(ids -> null);
     }
     
-    private void initialize() {
+    private EncodingIds initialize() {
         VersionInfo version;
         if (registerSchema) {
             // register schema
@@ -71,36 +127,214 @@ public abstract class AbstractSerializer<T> extends BaseSerializer<T> {
             // get already registered schema version. If schema is not registered, this will throw an exception. 
             version = client.getVersionForSchema(groupId, schemaInfo);
         }
-        if (encodeHeader) {
-            encodingId.set(client.getEncodingId(groupId, version, encoder.getCodecType().getName()));
+        if (!encodeHeader) {
+            return null;
         }
+        EncodingId encodingId = client.getEncodingId(groupId, version, encoder.getCodecType().getName());
+        // events that an adaptive codec does not encode are written with the encoding id of the none codec type.
+        EncodingId unencodedId = encoder instanceof AdaptiveCodec 
+                ? client.getEncodingId(groupId, version, CodecType.NONE.getName()) : encodingId;
+        return new EncodingIds(encodingId, unencodedId);
+    }
+
+    private CompletableFuture<EncodingIds> initializeAsync(AsyncInitClient asyncClient) {
+        CompletableFuture<VersionInfo> version = registerSchema ? asyncClient.addSchema(groupId, schemaInfo) 
+                : asyncClient.getVersionForSchema(groupId, schemaInfo);
+        if (!encodeHeader) {
+            return version.thenApply(v -> null);
+        }
+        return version.thenCompose(v -> {
+            CompletableFuture<EncodingId> encodingId = asyncClient.getEncodingId(groupId, v, encoder.getCodecType().getName());
+            CompletableFuture<EncodingId> unencodedId = encoder instanceof AdaptiveCodec
+                    ? asyncClient.getEncodingId(groupId, v, CodecType.NONE.getName()) : encodingId;
+            return encodingId.thenCombine(unencodedId, EncodingIds::new);
+        });
     }
     
+    /**
+     * Serializes the event into a new buffer of its exact size. The event is written into a buffer that is reused by the
+     * calling thread and then copied once into the returned buffer, which the caller owns.
+     *
+     * @param obj event to serialize.
+     * @return Serialized event.
+     */
     @SneakyThrows(IOException.class)
     @Override
     public ByteBuffer serialize(T obj) {
-        EnhancedByteArrayOutputStream outStream = new EnhancedByteArrayOutputStream();
-        ByteBuffer byteBuffer;
+        SerializationBuffer buffer = SerializationBuffer.acquire(sizeEstimate);
+        try {
+            write(obj, buffer);
+            updateSizeEstimate(buffer.size());
+            return ByteBuffer.wrap(buffer.toByteArray());
+        } finally {
+            SerializationBuffer.release(buffer);
+        }
+    }
+
+    /**
+     * Serializes the events back to back into a single buffer which is then copied once into an array shared by the 
+     * returned buffers. Each returned buffer is a slice of the array holding one event, so the events can still be 
+     * written and read independently.
+     *
+     * @param values events to serialize.
+     * @return Serialized events in the order of the events.
+     */
+    @SneakyThrows(IOException.class)
+    @Override
+    public List<ByteBuffer> serializeBatch(List<T> values) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int expectedSize = (int) Math.min((long) sizeEstimate * values.size(), SerializationBuffer.MAX_POOLED_CAPACITY);
+        SerializationBuffer buffer = SerializationBuffer.acquire(expectedSize);
+        try {
+            int[] ends = new int[values.size()];
+            for (int i = 0; i < values.size(); i++) {
+                write(values.get(i), buffer);
+                ends[i] = buffer.size();
+            }
+            byte[] array = buffer.toByteArray();
+            List<ByteBuffer> result = new ArrayList<>(values.size());
+            int start = 0;
+            for (int end : ends) {
+                result.add(ByteBuffer.wrap(array, start, end - start).slice());
+                start = end;
+            }
+            updateSizeEstimate(array.length / values.size());
+            return result;
+        } finally {
+            SerializationBuffer.release(buffer);
+        }
+    }
+
+    /**
+     * Serializes the event into the target buffer at its position, for callers that own the buffer they write events to.
+     * The target can be a heap or direct buffer. If no encoder is used, the event is written directly into the target.
+     * The position of the target is advanced past the serialized event.
+     *
+     * @param obj event to serialize.
+     * @param target buffer into which the event is serialized.
+     * @return Number of bytes written to the target.
+     * @throws BufferOverflowException if the event does not fit in the remaining bytes of the target. The position of 
+     * the target is not changed if the event could not be serialized.
+     */
+    @SneakyThrows(IOException.class)
+    @Override
+    public int serialize(T obj, ByteBuffer target) {
+        int start = target.position();
+        try {
+            if (!this.encodeHeader || this.encoder.equals(Codecs.None.getCodec())) {
+                OutputStream outStream = new ByteBufferOutputStream(target);
+                writeHeader(outStream);
+                serialize(obj, schemaInfo, outStream);
+            } else {
+                SerializationBuffer buffer = SerializationBuffer.acquire(sizeEstimate);
+                try {
+                    write(obj, buffer);
+                    buffer.writeTo(target);
+                } finally {
+                    SerializationBuffer.release(buffer);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            target.position(start);
+            throw e;
+        }
+        int size = target.position() - start;
+        updateSizeEstimate(size);
+        return size;
+    }
+
+    private void writeHeader(OutputStream outStream) throws IOException {
         if (this.encodeHeader) {
-            outStream.write(PROTOCOL);
-            BitConverter.writeInt(outStream, encodingId.get().getId());
+            writeHeader(outStream, Futures.getThrowingException(encodingIds).encodingId);
         }
+    }
 
+    private void writeHeader(OutputStream outStream, EncodingId encodingId) throws IOException {
+        outStream.write(PROTOCOL);
+        BitConverter.writeInt(outStream, encodingId.getId());
+    }
+
+    private void write(T obj, SerializationBuffer outStream) throws IOException {
+        if (this.encodeHeader && encoder instanceof AdaptiveCodec) {
+            writeAdaptive(obj, (AdaptiveCodec) encoder, outStream);
+            return;
+        }
+        writeHeader(outStream);
         if (!this.encodeHeader || this.encoder.equals(Codecs.None.getCodec())) {
             // write serialized data to the output stream
             serialize(obj, schemaInfo, outStream);
+        } else if (encoder instanceof StreamingEncoder) {
+            // serialize straight into the encoder
+            try (OutputStream encodingStream = ((StreamingEncoder) encoder).encodingStream(outStream)) {
+                serialize(obj, schemaInfo, encodingStream);
+            }
         } else {
             // encode header is true and encoder is supplied, encode the data
-            EnhancedByteArrayOutputStream serializedStream = new EnhancedByteArrayOutputStream();
-
-            serialize(obj, schemaInfo, serializedStream);
-            encoder.encode(ByteBuffer.wrap(serializedStream.getData().array()), outStream);
+            SerializationBuffer serialized = SerializationBuffer.acquire(sizeEstimate);
+            try {
+                serialize(obj, schemaInfo, serialized);
+                encoder.encode(serialized.asByteBuffer(), outStream);
+            } finally {
+                SerializationBuffer.release(serialized);
+            }
         }
+    }
 
-        byteBuffer = ByteBuffer.wrap(outStream.getData().array(), 0, outStream.getData().getLength());
+    private void writeAdaptive(T obj, AdaptiveCodec adaptiveCodec, SerializationBuffer outStream) throws IOException {
+        EncodingIds ids = Futures.getThrowingException(encodingIds);
+        SerializationBuffer serialized = SerializationBuffer.acquire(sizeEstimate);
+        try {
+            serialize(obj, schemaInfo, serialized);
+            int size = serialized.size();
+            if (adaptiveCodec.shouldEncode(size)) {
+                int start = outStream.size();
+                writeHeader(outStream, ids.encodingId);
+                adaptiveCodec.getCodec().encode(serialized.asByteBuffer(), outStream);
+                if (adaptiveCodec.shouldKeep(size, outStream.size() - start - HEADER_SIZE)) {
+                    return;
+                }
+                // the encoding did not pay off, write the event without it instead.
+                outStream.truncate(start);
+            }
+            writeHeader(outStream, ids.unencodedId);
+            serialized.writeTo(outStream);
+        } finally {
+            SerializationBuffer.release(serialized);
+        }
+    }
 
-        return byteBuffer;
+    private void updateSizeEstimate(int size) {
+        // moving average of the serialized sizes. Concurrent updates may be lost which only delays the adaptation.
+        int estimate = sizeEstimate;
+        sizeEstimate = estimate + ((size - estimate) >> 3);
     }
 
     protected abstract void serialize(T var, SchemaInfo schema, OutputStream outputStream) throws IOException;
+
+    private static class ByteBufferOutputStream extends OutputStream {
+        private final ByteBuffer target;
+
+        ByteBufferOutputStream(ByteBuffer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) {
+            target.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            target.put(b, off, len);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class EncodingIds {
+        private final EncodingId encodingId;
+        // encoding id of the events that are written without encoding them.
+        private final EncodingId unencodedId;
+    }
 }
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import io.pravega.schemaregistry.client.AsyncSchemaRegistryClient;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The calls to the registry service that serializers make while they initialize in the background. See 
+ * {@link AsyncSchemaRegistryClient} for the semantics of each call.
+ */
+interface AsyncInitClient {
+    CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties);
+
+    CompletableFuture<Void> addCodecType(String groupId, CodecType codecType);
+
+    CompletableFuture<List<CodecType>> getCodecTypes(String groupId);
+
+    CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo);
+
+    CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schemaInfo);
+
+    CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType);
+}
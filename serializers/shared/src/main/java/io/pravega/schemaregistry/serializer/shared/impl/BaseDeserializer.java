@@ -9,13 +9,24 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
-import io.pravega.client.stream.Serializer;
+import io.pravega.schemaregistry.serializer.shared.EventDeserializer;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
-abstract class BaseDeserializer<T> implements Serializer<T> {
+abstract class BaseDeserializer<T> implements EventDeserializer<T> {
     @Override
     public final ByteBuffer serialize(T value) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public List<T> deserializeBatch(List<ByteBuffer> serializedValues) {
+        List<T> result = new ArrayList<>(serializedValues.size());
+        for (ByteBuffer serializedValue : serializedValues) {
+            result.add(deserialize(serializedValue));
+        }
+        return result;
+    }
 }
@@ -9,13 +9,24 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
-import io.pravega.client.stream.Serializer;
+import io.pravega.schemaregistry.serializer.shared.EventSerializer;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
-abstract class BaseSerializer<T> implements Serializer<T> {
+abstract class BaseSerializer<T> implements EventSerializer<T> {
     @Override
     public final T deserialize(ByteBuffer serializedValue) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public List<ByteBuffer> serializeBatch(List<T> values) {
+        List<ByteBuffer> result = new ArrayList<>(values.size());
+        for (T value : values) {
+            result.add(serialize(value));
+        }
+        return result;
+    }
 }
@@ -20,6 +20,7 @@ import javax.annotation.Nullable;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getEncodingCache;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializer;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForSerializer;
 
@@ -65,7 +66,7 @@ public class CustomSerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         return new AbstractDeserializer<T>(groupId, schemaRegistryClient, schema, false,
                 config.getDecoders(), encodingCache, config.isWriteEncodingHeader()) {
@@ -10,9 +10,13 @@
 package io.pravega.schemaregistry.serializer.shared.impl;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import io.pravega.common.Exceptions;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.client.exceptions.RegistryExceptions;
@@ -21,30 +25,128 @@ import io.pravega.schemaregistry.contract.data.EncodingInfo;
 
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
 
 /**
  * Local cache for storing schemas that are retrieved from the registry service.  
  */
 public class EncodingCache {
     private static final int MAXIMUM_SIZE = 1000;
-    
+    static final String CACHE_NAME = "schemaregistry.client.encoding.cache";
+    static final String LOAD_LATENCY = CACHE_NAME + ".load.latency";
+    private static final String GROUP_TAG = "group";
+    private static final String SOURCE_TAG = "source";
+
+    private final String groupId;
     private final LoadingCache<EncodingId, EncodingInfo> encodingCache;
+    // optional second level cache on the local file system. 
+    private final AtomicReference<EncodingFileCache> fileCache = new AtomicReference<>();
+    private final AtomicReference<MeterRegistry> meterRegistry = new AtomicReference<>();
+    // set once encodings are loaded from a bundle, as the readers of the group then start without the registry service.
+    private volatile boolean loadedFromBundle = false;
+    // encoding infos that have been resolved, indexed by encoding id. 
+    private final EncodingIndex<EncodingInfo> indexed = new EncodingIndex<>();
+    private final IntFunction<EncodingInfo> resolver = id -> getGroupEncodingInfo(new EncodingId(id));
+    
     public EncodingCache(String groupId, SchemaRegistryClient schemaRegistryClient) {
         this(groupId, schemaRegistryClient, MAXIMUM_SIZE);
     }
 
     @VisibleForTesting
     EncodingCache(String groupId, SchemaRegistryClient schemaRegistryClient, int cacheSize) {
+        this.groupId = groupId;
         encodingCache = CacheBuilder.newBuilder()
                                     .maximumSize(cacheSize)
+                                    .recordStats()
                                     .build(new CacheLoader<EncodingId, EncodingInfo>() {
             @Override
             public EncodingInfo load(EncodingId key) {
-                return schemaRegistryClient.getEncodingInfo(groupId, key);
+                long start = System.nanoTime();
+                EncodingFileCache files = fileCache.get();
+                EncodingInfo encodingInfo = files == null ? null : files.get(key);
+                if (encodingInfo != null) {
+                    recordLoad("file", start);
+                } else {
+                    encodingInfo = schemaRegistryClient.getEncodingInfo(groupId, key);
+                    recordLoad("registry", start);
+                    if (files != null) {
+                        files.put(key, encodingInfo);
+                    }
+                }
+                return encodingInfo;
             }
         });
     }
+
+    /**
+     * Records the hits, misses and evictions of the cache and the latency of loading encoding infos, tagged with where
+     * they were loaded from, in the meter registry. Caches are shared by serializers that use the same meter registry, 
+     * so the cache is bound once, when it is created.
+     *
+     * @param registry meter registry.
+     * @throws IllegalStateException if the cache is already bound to a meter registry.
+     */
+    void bindMetrics(MeterRegistry registry) {
+        Preconditions.checkState(meterRegistry.compareAndSet(null, registry), 
+                "Encoding cache of group %s is already bound to a meter registry.", groupId);
+        GuavaCacheMetrics.monitor(registry, encodingCache, CACHE_NAME, GROUP_TAG, groupId);
+    }
+
+    private void recordLoad(String source, long startNanos) {
+        MeterRegistry registry = meterRegistry.get();
+        if (registry != null) {
+            Timer.builder(LOAD_LATENCY).tags(GROUP_TAG, groupId, SOURCE_TAG, source).publishPercentileHistogram()
+                 .register(registry).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
     
+    /**
+     * Adds the encodings from the bundle to the cache so that they are not fetched from the registry service.
+     *
+     * @param bundle schema bundle for the group.
+     */
+    void preload(SchemaBundle bundle) {
+        encodingCache.putAll(bundle.getEncodings());
+        bundle.getEncodings().forEach((id, info) -> indexed.put(id.getId(), info));
+        loadedFromBundle = true;
+    }
+
+    /**
+     * Whether encodings have been loaded from a bundle. Deserializers of such groups do not reach the registry service
+     * when they are created.
+     *
+     * @return True if the cache was loaded from a bundle.
+     */
+    boolean isLoadedFromBundle() {
+        return loadedFromBundle;
+    }
+
+    /**
+     * Sets the second level cache on the local file system which is looked up before the registry service. Caches are
+     * shared by serializers that use the same cache directory, so the file cache is set once, when the cache is created.
+     *
+     * @param files file cache for the group.
+     * @throws IllegalStateException if the cache already uses a file cache.
+     */
+    void useFileCache(EncodingFileCache files) {
+        Preconditions.checkState(fileCache.compareAndSet(null, files), 
+                "Encoding cache of group %s already uses a file cache.", groupId);
+    }
+
+    /**
+     * Gets the encoding info for the encoding id read from the header of an event. Encoding infos that have been 
+     * resolved before are read from an array indexed by encoding id, so only the first lookup of an encoding id goes 
+     * through the loading cache. As a result the cache metrics only count these first lookups.
+     *
+     * @param encodingId encoding id.
+     * @return Encoding info for the encoding id.
+     */
+    EncodingInfo getGroupEncodingInfo(int encodingId) {
+        return indexed.computeIfAbsent(encodingId, resolver);
+    }
+
     EncodingInfo getGroupEncodingInfo(EncodingId encodingId) {
         try {
             return encodingCache.get(encodingId);
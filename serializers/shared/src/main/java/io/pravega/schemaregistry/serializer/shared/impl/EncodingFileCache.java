@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.pravega.schemaregistry.common.HashUtil;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Second level cache for encoding infos on the local file system which survives restarts of the application.
+ * Encoding infos are immutable for an encoding id of a group, so entries are never invalidated.
+ * Each group has a directory named after the hash of the registry uri, namespace and group, with one file per encoding
+ * id. Entries are written in the {@link SchemaBundle} format. Failures to read or write entries are logged and the
+ * entries are fetched from the registry service instead.
+ */
+@Slf4j
+class EncodingFileCache {
+    private final Path groupDirectory;
+    private final String groupId;
+
+    EncodingFileCache(Path directory, String registryUri, @Nullable String namespace, String groupId) {
+        String key = String.join("/", registryUri, namespace == null ? "" : namespace, groupId);
+        this.groupDirectory = directory.resolve(HashUtil.getFingerprint(key.getBytes(StandardCharsets.UTF_8)).toString(16));
+        this.groupId = groupId;
+    }
+
+    /**
+     * Directory of the group in which the entries are stored.
+     *
+     * @return Directory of the group.
+     */
+    Path getGroupDirectory() {
+        return groupDirectory;
+    }
+
+    /**
+     * Reads the encoding info for the encoding id.
+     *
+     * @param encodingId encoding id.
+     * @return Encoding info or null if it is not cached.
+     */
+    @Nullable
+    EncodingInfo get(EncodingId encodingId) {
+        Path path = getPath(encodingId);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            return SchemaBundle.readFrom(path).getEncodings().get(encodingId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read cached encoding {} for group {} from {}.", encodingId.getId(), groupId, path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the encoding info for the encoding id. The entry is written to a temporary file which is then moved in
+     * place, so readers never observe partially written entries.
+     *
+     * @param encodingId encoding id.
+     * @param encodingInfo encoding info.
+     */
+    void put(EncodingId encodingId, EncodingInfo encodingInfo) {
+        Path path = getPath(encodingId);
+        try {
+            Files.createDirectories(groupDirectory);
+            Path temp = Files.createTempFile(groupDirectory, Integer.toString(encodingId.getId()), ".tmp");
+            try {
+                new SchemaBundle(groupId, ImmutableList.of(), ImmutableMap.of(encodingId, encodingInfo)).writeTo(temp);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to cache encoding {} for group {} in {}.", encodingId.getId(), groupId, path, e);
+        }
+    }
+
+    private Path getPath(EncodingId encodingId) {
+        return groupDirectory.resolve(Integer.toString(encodingId.getId()));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Values resolved for the encoding ids of a group, indexed by encoding id.
+ * Values are kept in a copy on write array which is read without locking, so a lookup of a resolved encoding id is a
+ * volatile read and an array load. The array is only replaced when an encoding id is resolved for the first time.
+ * Encoding ids are assigned densely from zero within a group, so ids beyond {@link #MAX_INDEXED_ID} are not expected
+ * in practice. They are resolved on every lookup.
+ *
+ * @param <V> Type of the values.
+ */
+class EncodingIndex<V> {
+    private static final int MAX_INDEXED_ID = 1 << 16;
+
+    private volatile Object[] values = new Object[0];
+
+    /**
+     * Gets the value for the encoding id, resolving it if it is not indexed yet.
+     *
+     * @param encodingId encoding id.
+     * @param resolver function which resolves the value for an encoding id.
+     * @return Value for the encoding id.
+     */
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(int encodingId, IntFunction<V> resolver) {
+        Object[] current = values;
+        if (encodingId >= 0 && encodingId < current.length) {
+            Object value = current[encodingId];
+            if (value != null) {
+                return (V) value;
+            }
+        }
+        V value = resolver.apply(encodingId);
+        put(encodingId, value);
+        return value;
+    }
+
+    /**
+     * Indexes the value for the encoding id unless a value is already indexed.
+     *
+     * @param encodingId encoding id.
+     * @param value value to index.
+     */
+    synchronized void put(int encodingId, V value) {
+        if (encodingId < 0 || encodingId >= MAX_INDEXED_ID) {
+            return;
+        }
+        Object[] current = values;
+        if (encodingId < current.length && current[encodingId] != null) {
+            return;
+        }
+        Object[] copy = Arrays.copyOf(current, Math.max(current.length, encodingId + 1));
+        copy[encodingId] = value;
+        values = copy;
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous view of a caller supplied registry client which makes the blocking calls of the client on an executor.
+ * Serializers use it to initialize in the background when they are not created with a client config, for which the 
+ * shared asynchronous client is used instead. The client is owned by the caller.
+ */
+class ExecutorAsyncClient implements AsyncInitClient {
+    private final SchemaRegistryClient client;
+    private final Executor executor;
+
+    ExecutorAsyncClient(SchemaRegistryClient client, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties) {
+        return call(() -> client.addGroup(groupId, groupProperties));
+    }
+
+    @Override
+    public CompletableFuture<Void> addCodecType(String groupId, CodecType codecType) {
+        return CompletableFuture.runAsync(() -> client.addCodecType(groupId, codecType), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<CodecType>> getCodecTypes(String groupId) {
+        return call(() -> client.getCodecTypes(groupId));
+    }
+
+    @Override
+    public CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo) {
+        return call(() -> client.addSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+        return call(() -> client.getVersionForSchema(groupId, schemaInfo));
+    }
+
+    @Override
+    public CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+        return call(() -> client.getEncodingId(groupId, versionInfo, codecType));
+    }
+
+    private <T> CompletableFuture<T> call(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+}
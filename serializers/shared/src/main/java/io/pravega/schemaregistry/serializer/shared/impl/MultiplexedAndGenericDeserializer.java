@@ -16,6 +16,7 @@ import io.pravega.schemaregistry.contract.data.SchemaInfo;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 public class MultiplexedAndGenericDeserializer<T, G> extends AbstractDeserializer<Either<T, G>> {
@@ -42,4 +43,26 @@ public class MultiplexedAndGenericDeserializer<T, G> extends AbstractDeserialize
             return Either.left(deserializer.deserialize(inputStream, writerSchema, readerSchema));
         } 
     }
+
+    @Override
+    public PayloadReader<Either<T, G>> createReader(SchemaInfo writerSchema, SchemaInfo readerSchema) {
+        Preconditions.checkNotNull(writerSchema);
+        AbstractDeserializer<T> deserializer = deserializers.get(writerSchema.getType());
+        if (deserializer == null) {
+            return genericDeserializer.createReader(writerSchema, readerSchema).map(Either::right);
+        } else {
+            return deserializer.createReader(writerSchema, readerSchema).map(Either::left);
+        }
+    }
+
+    @Override
+    public final Either<T, G> deserialize(ByteBuffer payload, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writerSchema);
+        AbstractDeserializer<T> deserializer = deserializers.get(writerSchema.getType());
+        if (deserializer == null) {
+            return Either.right(genericDeserializer.deserialize(payload, writerSchema, readerSchema));
+        } else {
+            return Either.left(deserializer.deserialize(payload, writerSchema, readerSchema));
+        } 
+    }
 }
\ No newline at end of file
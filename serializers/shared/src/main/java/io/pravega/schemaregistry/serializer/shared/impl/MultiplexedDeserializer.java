@@ -16,6 +16,7 @@ import org.apache.commons.lang3.SerializationException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 /**
@@ -37,11 +38,25 @@ public class MultiplexedDeserializer<T> extends AbstractDeserializer<T> {
 
     @Override
     public final T deserialize(InputStream inputStream, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
+        return getDeserializer(writerSchema).deserialize(inputStream, writerSchema, readerSchema);
+    }
+
+    @Override
+    public final T deserialize(ByteBuffer payload, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
+        return getDeserializer(writerSchema).deserialize(payload, writerSchema, readerSchema);
+    }
+
+    @Override
+    public PayloadReader<T> createReader(SchemaInfo writerSchema, SchemaInfo readerSchema) {
+        return getDeserializer(writerSchema).createReader(writerSchema, readerSchema);
+    }
+
+    private AbstractDeserializer<T> getDeserializer(SchemaInfo writerSchema) {
         Preconditions.checkNotNull(writerSchema);
         AbstractDeserializer<T> deserializer = deserializers.get(writerSchema.getType());
         if (deserializer == null) {
             throw new SerializationException("deserializer not supplied for type " + writerSchema.getType());
         }
-        return deserializer.deserialize(inputStream, writerSchema, readerSchema);
+        return deserializer;
     }
 }
\ No newline at end of file
@@ -9,26 +9,63 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang3.SerializationException;
+
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Serializer to multiplex serialization of multiple types of events with same serialization format. 
+ * Events are serialized with the serializer of the most specific registered class that the class of the event is 
+ * assignable to, so events of subclasses and proxies of a registered class are serialized with the serializer of that 
+ * class. The serializer for a class is resolved once and cached for the class.
  * 
  * @param <T> Type of object. 
  */
 public class MultiplexedSerializer<T> extends BaseSerializer<T> {
     private final Map<Class<? extends T>, AbstractSerializer<T>> serializers;
+    private final ClassValue<AbstractSerializer<T>> dispatch = new ClassValue<AbstractSerializer<T>>() {
+        @Override
+        protected AbstractSerializer<T> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
 
     public MultiplexedSerializer(Map<Class<? extends T>, AbstractSerializer<T>> serializers) {
-        this.serializers = serializers;
+        this.serializers = ImmutableMap.copyOf(serializers);
     }
     
     @Override
-    @SuppressWarnings("unchecked")
     public ByteBuffer serialize(T obj) {
-        Class<? extends T> tClass = (Class<? extends T>) obj.getClass();
-        AbstractSerializer<T> serializer = serializers.get(tClass);
-        return serializer.serialize(obj);
+        return dispatch.get(obj.getClass()).serialize(obj);
+    }
+
+    @Override
+    public int serialize(T obj, ByteBuffer target) {
+        return dispatch.get(obj.getClass()).serialize(obj, target);
+    }
+
+    private AbstractSerializer<T> resolve(Class<?> type) {
+        AbstractSerializer<T> serializer = serializers.get(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        List<Class<? extends T>> candidates = serializers.keySet().stream().filter(x -> x.isAssignableFrom(type))
+                                                         .collect(Collectors.toList());
+        // keep the candidates that are not a supertype of another candidate 
+        List<Class<? extends T>> mostSpecific = candidates.stream()
+                .filter(x -> candidates.stream().noneMatch(y -> y != x && x.isAssignableFrom(y)))
+                .collect(Collectors.toList());
+        if (mostSpecific.isEmpty()) {
+            throw new SerializationException("serializer not supplied for type " + type.getName() + " or its supertypes");
+        }
+        if (mostSpecific.size() > 1) {
+            throw new SerializationException("ambiguous serializers for type " + type.getName() + ", it is assignable to " 
+                    + mostSpecific.stream().map(Class::getName).collect(Collectors.joining(", ")));
+        }
+        return serializers.get(mostSpecific.get(0));
     }
-}
\ No newline at end of file
+}
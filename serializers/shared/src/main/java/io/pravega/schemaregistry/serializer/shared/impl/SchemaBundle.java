@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.pravega.common.ObjectBuilder;
+import io.pravega.common.io.serialization.RevisionDataInput;
+import io.pravega.common.io.serialization.RevisionDataOutput;
+import io.pravega.common.io.serialization.VersionedSerializer;
+import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.client.exceptions.RegistryExceptions;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A snapshot of the schemas, encoding ids and codec types of a group that can be written to a file and loaded by
+ * readers so that they can start without reaching the registry service.
+ * Use {@link #export(SchemaRegistryClient, String)} to create a bundle and {@link SerializerConfig#schemaBundle} to load
+ * it into the encoding cache of the deserializers. Encoding ids that are not in the bundle are fetched from the registry
+ * service.
+ */
+@Data
+@Builder
+public class SchemaBundle {
+    private static final Serializer SERIALIZER = new Serializer();
+
+    /**
+     * Id of the group.
+     */
+    @NonNull
+    private final String groupId;
+    /**
+     * Codec types registered with the group.
+     */
+    @NonNull
+    private final ImmutableList<CodecType> codecTypes;
+    /**
+     * Encoding infos of the group keyed by their encoding ids.
+     */
+    @NonNull
+    private final ImmutableMap<EncodingId, EncodingInfo> encodings;
+
+    /**
+     * Exports the group into a bundle with the encodings that exist in the group. The service assigns encoding ids in
+     * sequence starting from 0, so encoding infos are read until the first encoding id that does not exist. No encoding 
+     * ids are generated by the export, so encodings which writers have not used yet are fetched by the readers from 
+     * the registry service.
+     *
+     * @param client registry client.
+     * @param groupId id of the group.
+     * @return Bundle for the group.
+     */
+    public static SchemaBundle export(SchemaRegistryClient client, String groupId) {
+        // fails if the group does not exist, so a missing encoding id below means that all encodings are read.
+        List<CodecType> codecTypes = client.getCodecTypes(groupId);
+        ImmutableMap.Builder<EncodingId, EncodingInfo> encodings = ImmutableMap.builder();
+        for (int id = 0; ; id++) {
+            EncodingId encodingId = new EncodingId(id);
+            try {
+                encodings.put(encodingId, client.getEncodingInfo(groupId, encodingId));
+            } catch (RegistryExceptions.ResourceNotFoundException e) {
+                break;
+            }
+        }
+        return new SchemaBundle(groupId, ImmutableList.copyOf(codecTypes), encodings.build());
+    }
+
+    /**
+     * Writes the bundle to the output stream.
+     *
+     * @param outputStream output stream.
+     * @throws IOException if the bundle could not be written.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        SERIALIZER.serialize(outputStream, this);
+    }
+
+    /**
+     * Writes the bundle to the file, replacing the file if it exists.
+     *
+     * @param path path of the file.
+     * @throws IOException if the bundle could not be written.
+     */
+    public void writeTo(Path path) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            writeTo(outputStream);
+        }
+    }
+
+    /**
+     * Reads a bundle from the input stream.
+     *
+     * @param inputStream input stream.
+     * @return Bundle read from the stream.
+     * @throws IOException if the bundle could not be read.
+     */
+    public static SchemaBundle readFrom(InputStream inputStream) throws IOException {
+        return SERIALIZER.deserialize(inputStream);
+    }
+
+    /**
+     * Reads a bundle from the file.
+     *
+     * @param path path of the file.
+     * @return Bundle read from the file.
+     * @throws IOException if the bundle could not be read.
+     */
+    public static SchemaBundle readFrom(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return readFrom(inputStream);
+        }
+    }
+
+    public static class SchemaBundleBuilder implements ObjectBuilder<SchemaBundle> {
+    }
+
+    private static class Serializer extends VersionedSerializer.WithBuilder<SchemaBundle, SchemaBundleBuilder> {
+        @Override
+        protected SchemaBundleBuilder newBuilder() {
+            return SchemaBundle.builder();
+        }
+
+        @Override
+        protected byte getWriteVersion() {
+            return 0;
+        }
+
+        @Override
+        protected void declareVersions() {
+            version(0).revision(0, this::write00, this::read00);
+        }
+
+        private void write00(SchemaBundle e, RevisionDataOutput target) throws IOException {
+            target.writeUTF(e.groupId);
+            target.writeCollection(e.codecTypes, this::writeCodecType);
+            target.writeMap(e.encodings, (out, id) -> out.writeInt(id.getId()), this::writeEncodingInfo);
+        }
+
+        private void read00(RevisionDataInput source, SchemaBundleBuilder b) throws IOException {
+            b.groupId(source.readUTF())
+             .codecTypes(ImmutableList.copyOf(source.readCollection(this::readCodecType)));
+            ImmutableMap.Builder<EncodingId, EncodingInfo> mapBuilder = ImmutableMap.builder();
+            source.readMap(in -> new EncodingId(in.readInt()), this::readEncodingInfo, mapBuilder);
+            b.encodings(mapBuilder.build());
+        }
+
+        private void writeCodecType(RevisionDataOutput target, CodecType codecType) throws IOException {
+            target.writeUTF(codecType.getName());
+            target.writeMap(codecType.getProperties(), DataOutput::writeUTF, DataOutput::writeUTF);
+        }
+
+        private CodecType readCodecType(RevisionDataInput source) throws IOException {
+            String name = source.readUTF();
+            ImmutableMap.Builder<String, String> mapBuilder = ImmutableMap.builder();
+            source.readMap(DataInput::readUTF, DataInput::readUTF, mapBuilder);
+            return new CodecType(name, mapBuilder.build());
+        }
+
+        private void writeEncodingInfo(RevisionDataOutput target, EncodingInfo encodingInfo) throws IOException {
+            VersionInfo versionInfo = encodingInfo.getVersionInfo();
+            target.writeUTF(versionInfo.getType());
+            target.writeInt(versionInfo.getVersion());
+            target.writeInt(versionInfo.getId());
+
+            SchemaInfo schemaInfo = encodingInfo.getSchemaInfo();
+            target.writeUTF(schemaInfo.getType());
+            target.writeCompactInt(schemaInfo.getSerializationFormat().ordinal());
+            if (schemaInfo.getSerializationFormat().equals(SerializationFormat.Custom)) {
+                target.writeUTF(schemaInfo.getSerializationFormat().getFullTypeName());
+            }
+            ByteBuffer schemaData = schemaInfo.getSchemaData().duplicate();
+            byte[] b = new byte[schemaData.remaining()];
+            schemaData.get(b);
+            target.writeArray(b);
+            target.writeMap(schemaInfo.getProperties(), DataOutput::writeUTF, DataOutput::writeUTF);
+
+            writeCodecType(target, encodingInfo.getCodecType());
+        }
+
+        private EncodingInfo readEncodingInfo(RevisionDataInput source) throws IOException {
+            VersionInfo versionInfo = new VersionInfo(source.readUTF(), source.readInt(), source.readInt());
+
+            String type = source.readUTF();
+            SerializationFormat serializationFormat = SerializationFormat.values()[source.readCompactInt()];
+            if (serializationFormat.equals(SerializationFormat.Custom)) {
+                serializationFormat = SerializationFormat.custom(source.readUTF());
+            }
+            ByteBuffer schemaData = ByteBuffer.wrap(source.readArray());
+            ImmutableMap.Builder<String, String> mapBuilder = ImmutableMap.builder();
+            source.readMap(DataInput::readUTF, DataInput::readUTF, mapBuilder);
+            SchemaInfo schemaInfo = new SchemaInfo(type, serializationFormat, schemaData, mapBuilder.build());
+
+            return new EncodingInfo(versionInfo, schemaInfo, readCodecType(source));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.base.Preconditions;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Reusable output stream into which events are serialized.
+ * Buffers are pooled per thread, so a buffer is only used by the thread that acquired it until it is released.
+ * Capacities are powers of two, so a buffer that is reused for events of similar sizes is not reallocated. Buffers that
+ * have grown beyond {@link #MAX_POOLED_CAPACITY} are not pooled so that a single large event does not pin its buffer.
+ */
+class SerializationBuffer extends ByteArrayOutputStream {
+    static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+    private static final int MIN_CAPACITY = 256;
+    // a serializer uses at most two buffers at a time. More are only needed if serializers are nested.
+    private static final int MAX_POOLED_BUFFERS = 4;
+    private static final ThreadLocal<ArrayDeque<SerializationBuffer>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private SerializationBuffer(int capacity) {
+        super(sizeClass(capacity));
+    }
+
+    /**
+     * Gets an empty buffer from the pool of the calling thread or allocates one.
+     *
+     * @param expectedSize expected number of bytes that will be written to the buffer.
+     * @return Empty buffer with at least the expected capacity.
+     */
+    static SerializationBuffer acquire(int expectedSize) {
+        SerializationBuffer buffer = POOL.get().pollFirst();
+        if (buffer == null) {
+            return new SerializationBuffer(expectedSize);
+        }
+        buffer.ensureCapacity(expectedSize);
+        return buffer;
+    }
+
+    /**
+     * Returns the buffer to the pool of the calling thread. The buffer should not be used after it is released.
+     *
+     * @param buffer buffer to release.
+     */
+    static void release(SerializationBuffer buffer) {
+        ArrayDeque<SerializationBuffer> pool = POOL.get();
+        if (buffer.capacity() <= MAX_POOLED_CAPACITY && pool.size() < MAX_POOLED_BUFFERS) {
+            buffer.reset();
+            pool.addFirst(buffer);
+        }
+    }
+
+    int capacity() {
+        return buf.length;
+    }
+
+    /**
+     * Wraps the bytes written to the buffer without copying them. The returned buffer is only valid until this buffer
+     * is released.
+     *
+     * @return ByteBuffer with the bytes written to the buffer.
+     */
+    ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+    /**
+     * Copies the bytes written to the buffer into the target at its position.
+     *
+     * @param target target buffer.
+     */
+    void writeTo(ByteBuffer target) {
+        target.put(buf, 0, count);
+    }
+
+    /**
+     * Discards the bytes written to the buffer after the given size.
+     *
+     * @param size number of bytes to keep.
+     */
+    void truncate(int size) {
+        Preconditions.checkArgument(size >= 0 && size <= count);
+        count = size;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buf.length) {
+            // only the bytes written so far are kept. A buffer taken from the pool is empty, so nothing is copied.
+            byte[] grown = new byte[sizeClass(capacity)];
+            System.arraycopy(buf, 0, grown, 0, count);
+            buf = grown;
+        }
+    }
+
+    private static int sizeClass(int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        int highestOneBit = Integer.highestOneBit(capacity);
+        return highestOneBit == capacity || highestOneBit == 1 << 30 ? capacity : highestOneBit << 1;
+    }
+}
@@ -11,6 +11,8 @@ package io.pravega.schemaregistry.serializer.shared.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.client.SchemaRegistryClientConfig;
 import io.pravega.schemaregistry.serializer.shared.codec.Codec;
@@ -29,10 +31,8 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
 
-import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -117,12 +117,36 @@ public class SerializerConfig {
      * If streams can multiple formats of events, this cannot be false.
      */
     private final boolean writeEncodingHeader;
+    /**
+     * Schema bundle for the group exported with {@link SchemaBundle#export}. If supplied, deserializers load the encodings 
+     * from the bundle and check codec types against the bundle instead of the registry service. They neither create the
+     * group nor validate the reader schema with the service. Encoding ids that are not in the bundle are fetched from the
+     * registry service.
+     */
+    private final SchemaBundle schemaBundle;
+    /**
+     * Directory in which deserializers cache encoding infos across restarts of the application. Encoding infos found in
+     * the directory are not fetched from the registry service. If not supplied, encoding infos are only cached in memory.
+     * If a registry client is supplied instead of {@link SchemaRegistryClientConfig}, the directory should only be used
+     * with a single registry service.
+     */
+    private final Path encodingCacheDirectory;
+    /**
+     * Meter registry with which the encoding cache records its hits, misses and load latencies. Defaults to the global 
+     * Micrometer registry. Request metrics of the registry client are recorded with 
+     * {@link SchemaRegistryClientConfig#meterRegistry}.
+     */
+    private final MeterRegistry meterRegistry;
 
     private SerializerConfig(String groupId, String namespace, SchemaRegistryClientConfig config, SchemaRegistryClient client,
                              boolean registerSchema, boolean registerCodec, Encoder encoder, Decoders decoders, boolean failOnCodecMismatch,
-                             GroupProperties createGroup, boolean writeEncodingHeader) {
+                             GroupProperties createGroup, boolean writeEncodingHeader, SchemaBundle schemaBundle, 
+                             Path encodingCacheDirectory, MeterRegistry meterRegistry) {
         Preconditions.checkArgument(!Strings.isNullOrEmpty(groupId), "Group id needs to be supplied");
         Preconditions.checkArgument(client != null || config != null, "Either registry client or config needs to be supplied");
+        Preconditions.checkArgument(schemaBundle == null || schemaBundle.getGroupId().equals(groupId), 
+                "Schema bundle should be for the group");
+        Preconditions.checkNotNull(meterRegistry);
         this.groupId = groupId;
         this.namespace = namespace;
         this.registryClient = client;
@@ -134,6 +158,9 @@ public class SerializerConfig {
         this.failOnCodecMismatch = failOnCodecMismatch;
         this.createGroup = createGroup;
         this.writeEncodingHeader = writeEncodingHeader;
+        this.schemaBundle = schemaBundle;
+        this.encodingCacheDirectory = encodingCacheDirectory;
+        this.meterRegistry = meterRegistry;
     }
 
     Either<SchemaRegistryClientConfig, SchemaRegistryClient> getRegistryConfigOrClient() {
@@ -164,6 +191,9 @@ public class SerializerConfig {
         private SchemaRegistryClientConfig registryConfig = null;
         private SchemaRegistryClient registryClient = null;
         private String namespace = null;
+        private SchemaBundle schemaBundle = null;
+        private Path encodingCacheDirectory = null;
+        private MeterRegistry meterRegistry = Metrics.globalRegistry;
         
         /**
          * Add a decoder for decoding data encoded with the {@link Codec#getCodecType()}. 
@@ -263,6 +293,8 @@ public class SerializerConfig {
             this.decoders.put(Codecs.None.getCodec().getName(), Codecs.None.getCodec());
             this.decoders.put(Codecs.GzipCompressor.getCodec().getName(), Codecs.GzipCompressor.getCodec());
             this.decoders.put(Codecs.SnappyCompressor.getCodec().getName(), Codecs.SnappyCompressor.getCodec());
+            this.decoders.put(Codecs.Lz4Compressor.getCodec().getName(), Codecs.Lz4Compressor.getCodec());
+            this.decoders.put(Codecs.ZstdCompressor.getCodec().getName(), Codecs.ZstdCompressor.getCodec());
         }
 
         private void add(String codecName, Decoder decoder) {
@@ -276,12 +308,17 @@ public class SerializerConfig {
             this.decoders.putAll(decoders);
         }
 
-        ByteBuffer decode(CodecType codecType, ByteBuffer bytes) throws IOException {
-            return decoders.get(codecType.getName()).decode(bytes, codecType.getProperties());
+        Decoder getDecoder(CodecType codecType) {
+            Decoder decoder = decoders.get(codecType.getName());
+            if (decoder == null) {
+                decoder = Codecs.getDerivedDecoder(codecType.getName());
+            }
+            Preconditions.checkArgument(decoder != null, "No decoder for codec type %s", codecType.getName());
+            return decoder;
         }
 
-        Set<String> getDecoderNames() {
-            return decoders.keySet();  
+        boolean hasDecoder(String codecName) {
+            return decoders.containsKey(codecName) || Codecs.getDerivedDecoder(codecName) != null;
         }
     }
 }
@@ -9,18 +9,26 @@
  */
 package io.pravega.schemaregistry.serializer.shared.impl;
 
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.client.AsyncSchemaRegistryClient;
 import io.pravega.schemaregistry.client.SchemaRegistryClient;
 import io.pravega.schemaregistry.client.SchemaRegistryClientConfig;
 import io.pravega.schemaregistry.client.SchemaRegistryClientFactory;
+import io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
 import io.pravega.schemaregistry.contract.data.CodecType;
 import io.pravega.schemaregistry.serializer.shared.credentials.PravegaCredentialProvider;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class SerializerFactoryHelper {
+    private static final SharedClients SHARED_CLIENTS = new SharedClients();
+
     public static SchemaRegistryClient initForSerializer(SerializerConfig config) {
         SchemaRegistryClient schemaRegistryClient = getSchemaRegistryClient(config);
         createGroup(schemaRegistryClient, config);
@@ -30,47 +38,191 @@ public class SerializerFactoryHelper {
 
     public static SchemaRegistryClient initForDeserializer(SerializerConfig config) {
         SchemaRegistryClient schemaRegistryClient = getSchemaRegistryClient(config);
-        createGroup(schemaRegistryClient, config);
+        initEncodingCache(schemaRegistryClient, config);
+        if (config.getSchemaBundle() == null) {
+            createGroup(schemaRegistryClient, config);
+        }
         failOnCodecMismatch(schemaRegistryClient, config);
         return schemaRegistryClient;
     }
 
+    /**
+     * Gets the registry client for a serializer without waiting on the registry service. 
+     * Use {@link #initForSerializerAsync} to create the group and register the codec in the background.
+     *
+     * @param config serializer config.
+     * @return Registry client.
+     */
+    public static SchemaRegistryClient getClientForSerializer(SerializerConfig config) {
+        return getSchemaRegistryClient(config);
+    }
+
+    /**
+     * Creates the group and registers the codec in the background. The calls are made through the asynchronous client
+     * of the shared client, or on the executor if the registry client was supplied by the caller. The codec is
+     * registered while the group is created, and registered again once the group is created if the group did not 
+     * exist yet.
+     *
+     * @param client registry client returned by {@link #getClientForSerializer}.
+     * @param config serializer config.
+     * @param executor executor on which the calls of registry clients supplied by callers are made.
+     * @return Future which is completed once the group is ready for schemas to be registered.
+     */
+    public static CompletableFuture<Void> initForSerializerAsync(SchemaRegistryClient client, SerializerConfig config,
+                                                                 Executor executor) {
+        AsyncInitClient asyncClient = getInitClient(client, executor);
+        CompletableFuture<Void> groupCreated = createGroupAsync(asyncClient, config);
+        if (!config.isRegisterCodec()) {
+            return groupCreated;
+        }
+        String groupId = config.getGroupId();
+        CodecType codecType = config.getEncoder().getCodecType();
+        CompletableFuture<Void> codecRegistered = asyncClient
+                .addCodecType(groupId, codecType)
+                .handle((v, e) -> {
+                    if (e == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    } else if (config.isCreateGroup() && Exceptions.unwrap(e) instanceof ResourceNotFoundException) {
+                        return groupCreated.thenCompose(x -> asyncClient.addCodecType(groupId, codecType));
+                    } else {
+                        return Futures.<Void>failedFuture(Exceptions.unwrap(e));
+                    }
+                })
+                .thenCompose(x -> x);
+        return CompletableFuture.allOf(groupCreated, codecRegistered);
+    }
+
+    /**
+     * Creates the group and checks the codecs of the group in the background. The calls are made through the
+     * asynchronous client of the shared client, or on the executor if the registry client was supplied by the caller.
+     * If a schema bundle is supplied, the group is not created and the codecs are checked against the bundle.
+     *
+     * @param config serializer config.
+     * @param executor executor on which the calls of registry clients supplied by callers are made.
+     * @return Future which is completed with the registry client once the deserializer can be created.
+     */
+    public static CompletableFuture<SchemaRegistryClient> initForDeserializerAsync(SerializerConfig config, Executor executor) {
+        SchemaRegistryClient schemaRegistryClient = getSchemaRegistryClient(config);
+        initEncodingCache(schemaRegistryClient, config);
+        if (config.getSchemaBundle() != null) {
+            // the group exists as it was exported to the bundle, and the codecs are checked against the bundle.
+            return CompletableFuture.supplyAsync(() -> {
+                failOnCodecMismatch(schemaRegistryClient, config);
+                return schemaRegistryClient;
+            }, executor);
+        }
+        AsyncInitClient asyncClient = getInitClient(schemaRegistryClient, executor);
+        CompletableFuture<Void> groupCreated = createGroupAsync(asyncClient, config);
+        if (!config.isFailOnCodecMismatch()) {
+            return groupCreated.thenApply(v -> schemaRegistryClient);
+        }
+        return groupCreated.thenCompose(v -> asyncClient.getCodecTypes(config.getGroupId()))
+                           .thenApply(codecTypes -> {
+                               checkCodecTypes(codecTypes, config);
+                               return schemaRegistryClient;
+                           });
+    }
+
+    /**
+     * Gets the asynchronous client through which a serializer initializes in the background. 
+     *
+     * @param client registry client of the serializer.
+     * @param executor executor on which the calls of registry clients supplied by callers are made.
+     * @return Asynchronous client for initializing the serializer.
+     */
+    static AsyncInitClient getInitClient(SchemaRegistryClient client, Executor executor) {
+        return SHARED_CLIENTS.getInitClient(client, executor);
+    }
+
     private static SchemaRegistryClient getSchemaRegistryClient(SerializerConfig config) {
         if (config.getRegistryConfigOrClient().isLeft()) {
-            // if auth is enabled and creds are not supplied, reuse the credentials from pravega client config which may
-            // be loaded from system properties. 
-            SchemaRegistryClientConfig left = config.getRegistryConfigOrClient().getLeft();
-            if (left.isAuthEnabled() && left.getCredentialProvider() == null) {
-                left = SchemaRegistryClientConfig.builder().schemaRegistryUri(left.getSchemaRegistryUri())
-                                                 .credentialProvider(new PravegaCredentialProvider())
-                                                 .build();
-            }
-            return SchemaRegistryClientFactory.withNamespace(config.getNamespace(), left);
+            // clients are shared by all serializers created with the same config and namespace.
+            SchemaRegistryClientConfig clientConfig = config.getRegistryConfigOrClient().getLeft();
+            return SHARED_CLIENTS.acquire(clientConfig, config.getNamespace(), () -> createClient(clientConfig, config.getNamespace()),
+                    asyncClient -> SchemaRegistryClientFactory.fromAsync(asyncClient, clientConfig));
         } else {
             return config.getRegistryConfigOrClient().getRight();
         }
     }
 
+    /**
+     * Gets the encoding cache for the group. Serializers for a group that use the same registry client, meter registry 
+     * and encoding cache directory share the cache.
+     *
+     * @param config serializer config.
+     * @param client registry client.
+     * @return Encoding cache for the group.
+     */
+    public static EncodingCache getEncodingCache(SerializerConfig config, SchemaRegistryClient client) {
+        EncodingFileCache fileCache = null;
+        if (config.getEncodingCacheDirectory() != null) {
+            // a supplied client may be for any registry service, so the directory is only scoped by namespace and group. 
+            String registryUri = config.getRegistryConfigOrClient().isLeft() ?
+                    config.getRegistryConfigOrClient().getLeft().getSchemaRegistryUri().toString() : "";
+            fileCache = new EncodingFileCache(config.getEncodingCacheDirectory(), registryUri, config.getNamespace(), 
+                    config.getGroupId());
+        }
+        return SHARED_CLIENTS.getEncodingCache(config.getGroupId(), config.getMeterRegistry(), fileCache, client);
+    }
+
+    private static AsyncSchemaRegistryClient createClient(SchemaRegistryClientConfig left, String namespace) {
+        // if auth is enabled and creds are not supplied, reuse the credentials from pravega client config which may
+        // be loaded from system properties. 
+        if (left.isAuthEnabled() && left.getCredentialProvider() == null) {
+            left = SchemaRegistryClientConfig.builder().schemaRegistryUri(left.getSchemaRegistryUri())
+                                             .failoverUris(left.getFailoverUris())
+                                             .hedgeDelayMillis(left.getHedgeDelayMillis())
+                                             .credentialProvider(new PravegaCredentialProvider())
+                                             .maxConnections(left.getMaxConnections())
+                                             .maxConnectionsPerRoute(left.getMaxConnectionsPerRoute())
+                                             .cacheMaximumSize(left.getCacheMaximumSize())
+                                             .groupStateCacheTtlMillis(left.getGroupStateCacheTtlMillis())
+                                             .listGroupsPageSize(left.getListGroupsPageSize())
+                                             .meterRegistry(left.getMeterRegistry())
+                                             .build();
+        }
+        return SchemaRegistryClientFactory.asyncWithNamespace(namespace, left);
+    }
+
     private static void createGroup(SchemaRegistryClient client, SerializerConfig config) {
         if (config.isCreateGroup()) {
             client.addGroup(config.getGroupId(), config.getGroupProperties());
         }
     }
 
+    private static CompletableFuture<Void> createGroupAsync(AsyncInitClient asyncClient, SerializerConfig config) {
+        if (config.isCreateGroup()) {
+            return asyncClient.addGroup(config.getGroupId(), config.getGroupProperties()).thenApply(added -> null);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
     private static void registerCodec(SchemaRegistryClient client, SerializerConfig config) {
         if (config.isRegisterCodec()) {
             client.addCodecType(config.getGroupId(), config.getEncoder().getCodecType());
         }
     }
 
+    private static void initEncodingCache(SchemaRegistryClient client, SerializerConfig config) {
+        if (config.getSchemaBundle() != null) {
+            getEncodingCache(config, client).preload(config.getSchemaBundle());
+        }
+    }
+
     private static void failOnCodecMismatch(SchemaRegistryClient client, SerializerConfig config) {
         if (config.isFailOnCodecMismatch()) {
-            List<String> codecTypesInGroup = client.getCodecTypes(config.getGroupId()).stream()
-                                                   .map(CodecType::getName).collect(Collectors.toList());
-            if (!config.getDecoders().getDecoderNames().containsAll(codecTypesInGroup)) {
-                log.warn("Not all CodecTypes are supported by reader. Required codecTypes = {}", codecTypesInGroup);
-                throw new RuntimeException(String.format("Need all codecTypes in %s", codecTypesInGroup.toString()));
-            }
+            // codec types are checked against the bundle if one is supplied so that the registry service is not reached.
+            List<CodecType> codecTypes = config.getSchemaBundle() != null ? config.getSchemaBundle().getCodecTypes() :
+                    client.getCodecTypes(config.getGroupId());
+            checkCodecTypes(codecTypes, config);
+        }
+    }
+
+    private static void checkCodecTypes(List<CodecType> codecTypes, SerializerConfig config) {
+        List<String> codecTypesInGroup = codecTypes.stream().map(CodecType::getName).collect(Collectors.toList());
+        if (!codecTypesInGroup.stream().allMatch(config.getDecoders()::hasDecoder)) {
+            log.warn("Not all CodecTypes are supported by reader. Required codecTypes = {}", codecTypesInGroup);
+            throw new RuntimeException(String.format("Need all codecTypes in %s", codecTypesInGroup.toString()));
         }
     }
 }
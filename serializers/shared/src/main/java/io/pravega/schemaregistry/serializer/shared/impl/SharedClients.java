@@ -0,0 +1,407 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.FinalizablePhantomReference;
+import com.google.common.base.FinalizableReferenceQueue;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Sets;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.pravega.schemaregistry.client.AsyncSchemaRegistryClient;
+import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.client.SchemaRegistryClientConfig;
+import io.pravega.schemaregistry.common.CredentialProvider;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.Compatibility;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.GroupHistoryRecord;
+import io.pravega.schemaregistry.contract.data.GroupProperties;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SchemaWithVersion;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.lang.ref.Reference;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Process wide registry of registry clients and encoding caches that are shared by serializers.
+ *
+ * Clients are keyed by the values of their config and namespace, so serializers created with equal configs share a 
+ * client even if each of them built its own config. {@link #acquire} returns a reference to the shared client. The
+ * shared client is closed when all its references are closed or garbage collected, as serializers are not closed by
+ * the applications that use them. Each shared client makes its calls through a shared asynchronous client, which 
+ * serializers use to initialize in the background.
+ * Encoding caches are keyed by the client, the group, the meter registry and the file cache directory, so all 
+ * serializers for a group that use the same client and the same cache options share one cache.
+ */
+@Slf4j
+final class SharedClients {
+    @GuardedBy("this")
+    private final Map<ClientKey, SharedClient> clients = new HashMap<>();
+    private final ConcurrentMap<SchemaRegistryClient, ConcurrentMap<CacheKey, EncodingCache>> encodingCaches =
+            CacheBuilder.newBuilder().weakKeys().<SchemaRegistryClient, ConcurrentMap<CacheKey, EncodingCache>>build().asMap();
+    private final FinalizableReferenceQueue referenceQueue = new FinalizableReferenceQueue();
+    // phantom references to the client references are held until the client references are collected.
+    private final Set<Reference<?>> references = Sets.newConcurrentHashSet();
+
+    /**
+     * Gets a reference to the shared client for the config and namespace, creating the client if there is none.
+     *
+     * @param config client config.
+     * @param namespace namespace of the client.
+     * @param asyncClientSupplier supplier that creates the asynchronous client if it does not exist.
+     * @param clientFactory creates the client that makes its calls through the asynchronous client.
+     * @return Reference to the shared client. The shared client is closed once all its references are closed or
+     * garbage collected.
+     */
+    SchemaRegistryClient acquire(SchemaRegistryClientConfig config, @Nullable String namespace,
+                                 Supplier<AsyncSchemaRegistryClient> asyncClientSupplier,
+                                 Function<AsyncSchemaRegistryClient, SchemaRegistryClient> clientFactory) {
+        ClientKey key = ClientKey.of(config, namespace);
+        SharedClient shared;
+        synchronized (this) {
+            shared = clients.get(key);
+            if (shared == null) {
+                AsyncSchemaRegistryClient asyncClient = asyncClientSupplier.get();
+                shared = new SharedClient(key, clientFactory.apply(asyncClient), asyncClient);
+                clients.put(key, shared);
+            }
+            shared.references++;
+        }
+        Lease lease = new Lease(shared);
+        ClientReference reference = new ClientReference(lease);
+        references.add(new FinalizablePhantomReference<ClientReference>(reference, referenceQueue) {
+            @Override
+            public void finalizeReferent() {
+                references.remove(this);
+                release(lease);
+            }
+        });
+        return reference;
+    }
+
+    /**
+     * Gets the client through which serializers initialize in the background. For shared clients the calls are made 
+     * through the shared asynchronous client. Clients supplied by callers are made asynchronous by calling them on the 
+     * executor.
+     *
+     * @param client registry client.
+     * @param executor executor on which the calls of clients supplied by callers are made.
+     * @return Asynchronous client for initializing serializers.
+     */
+    AsyncInitClient getInitClient(SchemaRegistryClient client, Executor executor) {
+        return client instanceof ClientReference ? ((ClientReference) client).lease.shared.initClient 
+                : new ExecutorAsyncClient(client, executor);
+    }
+
+    /**
+     * Gets the encoding cache for the group, shared by all callers that use the same client, meter registry and file 
+     * cache directory. The cache is bound to the meter registry and the file cache when it is created.
+     *
+     * @param groupId group id.
+     * @param meterRegistry meter registry in which the metrics of the cache are recorded.
+     * @param fileCache optional second level cache on the local file system.
+     * @param client registry client.
+     * @return Encoding cache for the group.
+     */
+    EncodingCache getEncodingCache(String groupId, MeterRegistry meterRegistry, @Nullable EncodingFileCache fileCache,
+                                   SchemaRegistryClient client) {
+        SchemaRegistryClient key = client instanceof ClientReference ? ((ClientReference) client).lease.shared.delegate : client;
+        CacheKey cacheKey = new CacheKey(groupId, meterRegistry, fileCache == null ? null : fileCache.getGroupDirectory());
+        return encodingCaches.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                             .computeIfAbsent(cacheKey, k -> {
+                                 EncodingCache cache = new EncodingCache(groupId, key);
+                                 cache.bindMetrics(meterRegistry);
+                                 if (fileCache != null) {
+                                     cache.useFileCache(fileCache);
+                                 }
+                                 return cache;
+                             });
+    }
+
+    @VisibleForTesting
+    synchronized int size() {
+        return clients.size();
+    }
+
+    private void release(Lease lease) {
+        if (!lease.released.compareAndSet(false, true)) {
+            return;
+        }
+        SharedClient shared = lease.shared;
+        synchronized (this) {
+            if (--shared.references > 0) {
+                return;
+            }
+            clients.remove(shared.key);
+        }
+        encodingCaches.remove(shared.delegate);
+        try {
+            shared.delegate.close();
+        } catch (Exception e) {
+            log.warn("Failed to close the registry client.", e);
+        }
+    }
+
+    /**
+     * Values of the client config that determine the client. The credential provider is compared by its method and
+     * token, as providers do not implement equality.
+     */
+    @Data
+    private static class ClientKey {
+        private final List<URI> endpoints;
+        private final long hedgeDelayMillis;
+        private final boolean authEnabled;
+        @Nullable
+        private final String authMethod;
+        @Nullable
+        private final String authToken;
+        @Nullable
+        private final String trustStore;
+        @Nullable
+        private final String trustStoreType;
+        @Nullable
+        private final String trustStorePassword;
+        @Nullable
+        private final String certificate;
+        private final boolean validateHostName;
+        private final int maxConnections;
+        private final int maxConnectionsPerRoute;
+        private final int cacheMaximumSize;
+        private final long groupStateCacheTtlMillis;
+        private final int listGroupsPageSize;
+        private final MeterRegistry meterRegistry;
+        @Nullable
+        private final String namespace;
+
+        static ClientKey of(SchemaRegistryClientConfig config, @Nullable String namespace) {
+            CredentialProvider credentials = config.getCredentialProvider();
+            return new ClientKey(config.getEndpoints(), config.getHedgeDelayMillis(), config.isAuthEnabled(),
+                    credentials == null ? null : credentials.getMethod(), credentials == null ? null : credentials.getToken(),
+                    config.getTrustStore(), config.getTrustStoreType(), config.getTrustStorePassword(), config.getCertificate(),
+                    config.isValidateHostName(), config.getMaxConnections(), config.getMaxConnectionsPerRoute(),
+                    config.getCacheMaximumSize(), config.getGroupStateCacheTtlMillis(), config.getListGroupsPageSize(),
+                    config.getMeterRegistry(), namespace);
+        }
+    }
+
+    @Data
+    private static class CacheKey {
+        private final String groupId;
+        private final MeterRegistry meterRegistry;
+        @Nullable
+        private final Path fileCacheDirectory;
+    }
+
+    private static class SharedClient {
+        private final ClientKey key;
+        private final SchemaRegistryClient delegate;
+        private final AsyncInitClient initClient;
+        // number of unreleased leases, guarded by the lock of the shared clients.
+        private int references;
+
+        SharedClient(ClientKey key, SchemaRegistryClient delegate, AsyncSchemaRegistryClient asyncClient) {
+            this.key = key;
+            this.delegate = delegate;
+            this.initClient = new SharedInitClient(asyncClient);
+        }
+    }
+
+    /**
+     * Makes the calls of serializers that initialize in the background through the shared asynchronous client.
+     */
+    private static class SharedInitClient implements AsyncInitClient {
+        private final AsyncSchemaRegistryClient asyncClient;
+
+        SharedInitClient(AsyncSchemaRegistryClient asyncClient) {
+            this.asyncClient = asyncClient;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> addGroup(String groupId, GroupProperties groupProperties) {
+            return asyncClient.addGroup(groupId, groupProperties);
+        }
+
+        @Override
+        public CompletableFuture<Void> addCodecType(String groupId, CodecType codecType) {
+            return asyncClient.addCodecType(groupId, codecType);
+        }
+
+        @Override
+        public CompletableFuture<List<CodecType>> getCodecTypes(String groupId) {
+            return asyncClient.getCodecTypes(groupId);
+        }
+
+        @Override
+        public CompletableFuture<VersionInfo> addSchema(String groupId, SchemaInfo schemaInfo) {
+            return asyncClient.addSchema(groupId, schemaInfo);
+        }
+
+        @Override
+        public CompletableFuture<VersionInfo> getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+            return asyncClient.getVersionForSchema(groupId, schemaInfo);
+        }
+
+        @Override
+        public CompletableFuture<EncodingId> getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+            return asyncClient.getEncodingId(groupId, versionInfo, codecType);
+        }
+    }
+
+    /**
+     * A reference counted by the shared client. It does not reference the {@link ClientReference} that holds it, so it
+     * can be released after the client reference is collected.
+     */
+    private static class Lease {
+        private final SharedClient shared;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Lease(SharedClient shared) {
+            this.shared = shared;
+        }
+    }
+
+    /**
+     * A reference to a shared client. The shared client is closed when its last reference is closed or collected.
+     */
+    private class ClientReference implements SchemaRegistryClient {
+        private final Lease lease;
+        private final SchemaRegistryClient delegate;
+
+        ClientReference(Lease lease) {
+            this.lease = lease;
+            this.delegate = lease.shared.delegate;
+        }
+
+        @Override
+        public boolean addGroup(String groupId, GroupProperties groupProperties) {
+            return delegate.addGroup(groupId, groupProperties);
+        }
+
+        @Override
+        public void removeGroup(String groupId) {
+            delegate.removeGroup(groupId);
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, GroupProperties>> listGroups() {
+            return delegate.listGroups();
+        }
+
+        @Override
+        public GroupProperties getGroupProperties(String groupId) {
+            return delegate.getGroupProperties(groupId);
+        }
+
+        @Override
+        public boolean updateCompatibility(String groupId, Compatibility compatibility, @Nullable Compatibility previous) {
+            return delegate.updateCompatibility(groupId, compatibility, previous);
+        }
+
+        @Override
+        public List<SchemaWithVersion> getSchemas(String groupId) {
+            return delegate.getSchemas(groupId);
+        }
+
+        @Override
+        public VersionInfo addSchema(String groupId, SchemaInfo schemaInfo) {
+            return delegate.addSchema(groupId, schemaInfo);
+        }
+
+        @Override
+        public void deleteSchemaVersion(String groupId, VersionInfo versionInfo) {
+            delegate.deleteSchemaVersion(groupId, versionInfo);
+        }
+
+        @Override
+        public SchemaInfo getSchemaForVersion(String groupId, VersionInfo versionInfo) {
+            return delegate.getSchemaForVersion(groupId, versionInfo);
+        }
+
+        @Override
+        public EncodingInfo getEncodingInfo(String groupId, EncodingId encodingId) {
+            return delegate.getEncodingInfo(groupId, encodingId);
+        }
+
+        @Override
+        public EncodingId getEncodingId(String groupId, VersionInfo versionInfo, String codecType) {
+            return delegate.getEncodingId(groupId, versionInfo, codecType);
+        }
+
+        @Override
+        public SchemaWithVersion getLatestSchemaVersion(String groupId, @Nullable String schemaType) {
+            return delegate.getLatestSchemaVersion(groupId, schemaType);
+        }
+
+        @Override
+        public VersionInfo getVersionForSchema(String groupId, SchemaInfo schemaInfo) {
+            return delegate.getVersionForSchema(groupId, schemaInfo);
+        }
+
+        @Override
+        public List<SchemaWithVersion> getSchemaVersions(String groupId, @Nullable String schemaType) {
+            return delegate.getSchemaVersions(groupId, schemaType);
+        }
+
+        @Override
+        public boolean validateSchema(String groupId, SchemaInfo schemaInfo) {
+            return delegate.validateSchema(groupId, schemaInfo);
+        }
+
+        @Override
+        public boolean canReadUsing(String groupId, SchemaInfo schemaInfo) {
+            return delegate.canReadUsing(groupId, schemaInfo);
+        }
+
+        @Override
+        public List<CodecType> getCodecTypes(String groupId) {
+            return delegate.getCodecTypes(groupId);
+        }
+
+        @Override
+        public void addCodecType(String groupId, CodecType codecType) {
+            delegate.addCodecType(groupId, codecType);
+        }
+
+        @Override
+        public List<GroupHistoryRecord> getGroupHistory(String groupId) {
+            return delegate.getGroupHistory(groupId);
+        }
+
+        @Override
+        public Map<String, VersionInfo> getSchemaReferences(SchemaInfo schemaInfo) {
+            return delegate.getSchemaReferences(schemaInfo);
+        }
+
+        @Override
+        public void close() {
+            release(lease);
+        }
+    }
+}
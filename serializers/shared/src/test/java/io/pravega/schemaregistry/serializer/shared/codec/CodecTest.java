@@ -9,14 +9,24 @@
  */
 package io.pravega.schemaregistry.serializer.shared.codec;
 
+import com.github.luben.zstd.ZstdDictTrainer;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import io.pravega.common.io.EnhancedByteArrayOutputStream;
+import io.pravega.test.common.AssertExtensions;
+import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
 
 import static org.junit.Assert.*;
 
@@ -54,4 +64,153 @@ public class CodecTest {
         decoded.get(decodedArray);
         assertTrue(Arrays.equals(decodedArray, testStringBytes));
     }
+
+    @Test
+    public void testStreamingCodec() throws IOException {
+        byte[] testStringBytes = "this is a test string".getBytes(Charsets.UTF_8);
+        Codec gzip = Codecs.GzipCompressor.getCodec();
+        assertTrue(gzip instanceof StreamingEncoder);
+        assertTrue(gzip instanceof StreamingDecoder);
+
+        // data encoded through the stream is decoded by the buffer decode and vice versa.
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (OutputStream encodingStream = ((StreamingEncoder) gzip).encodingStream(byteArrayOutputStream)) {
+            encodingStream.write(testStringBytes, 0, 4);
+            encodingStream.write(testStringBytes, 4, testStringBytes.length - 4);
+        }
+        ByteBuffer decoded = gzip.decode(ByteBuffer.wrap(byteArrayOutputStream.toByteArray()), ImmutableMap.of());
+        assertTrue(Arrays.equals(decoded.array(), testStringBytes));
+
+        byteArrayOutputStream = new ByteArrayOutputStream();
+        gzip.encode(ByteBuffer.wrap(testStringBytes), byteArrayOutputStream);
+        ByteBuffer encoded = ByteBuffer.allocateDirect(byteArrayOutputStream.size());
+        encoded.put(byteArrayOutputStream.toByteArray());
+        encoded.flip();
+        try (InputStream decodingStream = ((StreamingDecoder) gzip).decodingStream(encoded, ImmutableMap.of())) {
+            assertTrue(Arrays.equals(IOUtils.toByteArray(decodingStream), testStringBytes));
+        }
+        
+        // snappy encodes blocks of data, so it is not a streaming codec.
+        assertFalse(Codecs.SnappyCompressor.getCodec() instanceof StreamingEncoder);
+    }
+
+    @Test
+    public void testLz4AndZstdCodecs() throws IOException {
+        byte[] testStringBytes = "this is a test string, this is a test string, this is a test string".getBytes(Charsets.UTF_8);
+        for (Codec codec : Arrays.asList(Codecs.Lz4Compressor.getCodec(), Codecs.lz4(9), 
+                Codecs.ZstdCompressor.getCodec(), Codecs.zstd(19))) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            codec.encode(ByteBuffer.wrap(testStringBytes), byteArrayOutputStream);
+            assertTrue(byteArrayOutputStream.size() < testStringBytes.length);
+            
+            // decode with the default codec of the codec type, which is the one registered with the deserializers.
+            Codec decoder = codec.getName().equals(Codecs.Lz4Compressor.getCodec().getName()) 
+                    ? Codecs.Lz4Compressor.getCodec() : Codecs.ZstdCompressor.getCodec();
+            ByteBuffer decoded = decoder.decode(ByteBuffer.wrap(byteArrayOutputStream.toByteArray()), ImmutableMap.of());
+            assertTrue(Arrays.equals(decoded.array(), testStringBytes));
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(byteArrayOutputStream.size());
+            direct.put(byteArrayOutputStream.toByteArray());
+            direct.flip();
+            decoded = decoder.decode(direct, ImmutableMap.of());
+            assertTrue(Arrays.equals(decoded.array(), testStringBytes));
+        }
+        
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> Codecs.lz4(18));
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> Codecs.zstd(0));
+    }
+
+    @Test
+    public void testZstdDictionary() throws IOException {
+        ZstdDictTrainer trainer = new ZstdDictTrainer(1024 * 1024, 1024);
+        for (int i = 0; i < 1000; i++) {
+            trainer.addSample(String.format("{\"id\": %d, \"name\": \"name%d\", \"address\": \"street %d\"}", i, i, i)
+                                    .getBytes(Charsets.UTF_8));
+        }
+        byte[] dictionary = trainer.trainSamples();
+        Codec codec = Codecs.zstd(3, dictionary);
+        // each dictionary is a separate codec type.
+        assertNotEquals(Codecs.ZstdCompressor.getCodec().getName(), codec.getName());
+        assertEquals(codec.getName(), Codecs.zstd(19, dictionary).getName());
+        assertNotEquals(codec.getName(), Codecs.zstd(3, Arrays.copyOf(dictionary, dictionary.length - 1)).getName());
+        assertFalse(codec.getCodecType().getProperties().isEmpty());
+        assertNull(Codecs.getDerivedDecoder(Codecs.ZstdCompressor.getCodec().getName()));
+
+        byte[] testStringBytes = "{\"id\": 1001, \"name\": \"name1001\", \"address\": \"street 1001\"}".getBytes(Charsets.UTF_8);
+        ByteArrayOutputStream withDictionary = new ByteArrayOutputStream();
+        codec.encode(ByteBuffer.wrap(testStringBytes), withDictionary);
+        ByteArrayOutputStream withoutDictionary = new ByteArrayOutputStream();
+        Codecs.zstd(3).encode(ByteBuffer.wrap(testStringBytes), withoutDictionary);
+        assertTrue(withDictionary.size() < withoutDictionary.size());
+
+        // the dictionary is read from the codec properties.
+        ByteBuffer decoded = Codecs.getDerivedDecoder(codec.getName()).decode(ByteBuffer.wrap(withDictionary.toByteArray()), 
+                codec.getCodecType().getProperties());
+        assertTrue(Arrays.equals(decoded.array(), testStringBytes));
+    }
+
+    @Test
+    public void testInvalidDecodedLength() throws IOException {
+        for (Codec codec : Arrays.asList(Codecs.Lz4Compressor.getCodec(), Codecs.ZstdCompressor.getCodec())) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            codec.encode(ByteBuffer.wrap(new byte[100]), byteArrayOutputStream);
+            byte[] encoded = byteArrayOutputStream.toByteArray();
+
+            ByteBuffer negative = ByteBuffer.wrap(encoded.clone());
+            negative.putInt(0, -1);
+            AssertExtensions.assertThrows(IOException.class, () -> codec.decode(negative, ImmutableMap.of()));
+            ByteBuffer huge = ByteBuffer.wrap(encoded.clone());
+            huge.putInt(0, Integer.MAX_VALUE);
+            AssertExtensions.assertThrows(IOException.class, () -> codec.decode(huge, ImmutableMap.of()));
+            // a length that does not match the decoded data is rejected.
+            ByteBuffer longer = ByteBuffer.wrap(encoded.clone());
+            longer.putInt(0, 200);
+            AssertExtensions.assertThrows(IOException.class, () -> codec.decode(longer, ImmutableMap.of()));
+            AssertExtensions.assertThrows(IOException.class, () -> codec.decode(ByteBuffer.wrap(new byte[2]), ImmutableMap.of()));
+        }
+    }
+
+    @Test
+    public void testGzipCompatibility() throws IOException {
+        byte[] testStringBytes = "this is a test string, this is a test string, this is a test string".getBytes(Charsets.UTF_8);
+        Codec gzip = Codecs.GzipCompressor.getCodec();
+        for (Codec codec : Arrays.asList(gzip, Codecs.gzip(1), Codecs.gzip(9))) {
+            // the deflaters and inflaters of the thread are reused across events.
+            for (int i = 0; i < 3; i++) {
+                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                codec.encode(ByteBuffer.wrap(testStringBytes), byteArrayOutputStream);
+                try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+                    assertTrue(Arrays.equals(IOUtils.toByteArray(inputStream), testStringBytes));
+                }
+            }
+        }
+        // the level only affects the writer, so all levels share the codec type of the default gzip codec.
+        assertEquals(gzip.getCodecType(), Codecs.gzip(9).getCodecType());
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (OutputStream outputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            outputStream.write(testStringBytes);
+        }
+        byte[] encoded = byteArrayOutputStream.toByteArray();
+        for (int i = 0; i < 3; i++) {
+            ByteBuffer decoded = gzip.decode(ByteBuffer.wrap(encoded), ImmutableMap.of());
+            assertTrue(Arrays.equals(decoded.array(), testStringBytes));
+        }
+        
+        // corrupt the crc in the trailer
+        encoded[encoded.length - 8]++;
+        AssertExtensions.assertThrows(ZipException.class, () -> gzip.decode(ByteBuffer.wrap(encoded), ImmutableMap.of()));
+        AssertExtensions.assertThrows(ZipException.class, () -> gzip.decode(ByteBuffer.wrap(testStringBytes), ImmutableMap.of()));
+        // a reader which stops before the end of the payload still gets the trailer verified when it closes the stream.
+        AssertExtensions.assertThrows(ZipException.class, () -> {
+            try (InputStream decodingStream = ((StreamingDecoder) gzip).decodingStream(ByteBuffer.wrap(encoded), ImmutableMap.of())) {
+                assertEquals(testStringBytes[0], decodingStream.read());
+            }
+        });
+        encoded[encoded.length - 8]--;
+        try (InputStream decodingStream = ((StreamingDecoder) gzip).decodingStream(ByteBuffer.wrap(encoded), ImmutableMap.of())) {
+            assertEquals(testStringBytes[0], decodingStream.read());
+        }
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> Codecs.gzip(10));
+    }
 }
@@ -19,14 +19,23 @@ import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class CacheTest {
     @Test
@@ -60,4 +69,63 @@ public class CacheTest {
         assertTrue(cache.getMapForCache().containsKey(encodingId2));
         assertTrue(cache.getMapForCache().containsKey(encodingId3));
     }
+
+    @Test
+    public void testIndexedLookup() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        EncodingInfo encodingInfo = new EncodingInfo(new VersionInfo("name", 0, 0),
+                new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[0]), ImmutableMap.of()), 
+                Codecs.SnappyCompressor.getCodec().getCodecType());
+        doAnswer(x -> encodingInfo).when(client).getEncodingInfo(eq(groupId), any());
+        // create a cache with max size 1 so that entries are evicted from the loading cache. 
+        EncodingCache cache = new EncodingCache(groupId, client, 1);
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(3));
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(0));
+        verify(client, times(2)).getEncodingInfo(eq(groupId), any());
+        
+        // resolved encoding ids are served from the index even after they are evicted from the loading cache.
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(3));
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(0));
+        verify(client, times(2)).getEncodingInfo(eq(groupId), any());
+        
+        // ids that are not indexed go through the loading cache.
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(-1));
+        assertEquals(encodingInfo, cache.getGroupEncodingInfo(-1));
+        verify(client, times(3)).getEncodingInfo(eq(groupId), any());
+    }
+
+    @Test
+    public void testFileCache() throws IOException {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        EncodingId encodingId = new EncodingId(0);
+        EncodingInfo encodingInfo = new EncodingInfo(new VersionInfo("name", 0, 0),
+                new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[]{1}), ImmutableMap.of()), 
+                Codecs.SnappyCompressor.getCodec().getCodecType());
+        doAnswer(x -> encodingInfo).when(client).getEncodingInfo(eq(groupId), eq(encodingId));
+        Path directory = Files.createTempDirectory("encodings");
+        try {
+            EncodingCache cache = new EncodingCache(groupId, client);
+            cache.useFileCache(new EncodingFileCache(directory, "tcp://localhost:9092", "ns", groupId));
+            assertEquals(encodingInfo, cache.getGroupEncodingInfo(encodingId));
+            verify(client, times(1)).getEncodingInfo(any(), any());
+
+            // a new cache, as after a restart, reads the encoding from the directory. 
+            EncodingCache restarted = new EncodingCache(groupId, client);
+            restarted.useFileCache(new EncodingFileCache(directory, "tcp://localhost:9092", "ns", groupId));
+            assertEquals(encodingInfo, restarted.getGroupEncodingInfo(encodingId));
+            verify(client, times(1)).getEncodingInfo(any(), any());
+
+            // entries are scoped by the registry uri, namespace and group. 
+            EncodingCache otherNamespace = new EncodingCache(groupId, client);
+            otherNamespace.useFileCache(new EncodingFileCache(directory, "tcp://localhost:9092", "ns2", groupId));
+            assertEquals(encodingInfo, otherNamespace.getGroupEncodingInfo(encodingId));
+            verify(client, times(2)).getEncodingInfo(any(), any());
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
 }
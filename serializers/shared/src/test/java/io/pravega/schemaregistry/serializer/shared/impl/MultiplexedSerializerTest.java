@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.test.common.AssertExtensions;
+import org.apache.commons.lang3.SerializationException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class MultiplexedSerializerTest {
+    @Test
+    public void testDispatch() {
+        AbstractSerializer<Animal> animalSerializer = mockSerializer(0);
+        AbstractSerializer<Animal> dogSerializer = mockSerializer(1);
+        AbstractSerializer<Animal> petSerializer = mockSerializer(2);
+        MultiplexedSerializer<Animal> serializer = new MultiplexedSerializer<>(ImmutableMap.of(
+                Animal.class, animalSerializer, Dog.class, dogSerializer, Pet.class, petSerializer));
+
+        assertEquals(1, serializer.serialize(new Dog()).get());
+        // subclasses are serialized with the serializer of the most specific registered class.
+        assertEquals(1, serializer.serialize(new Puppy()).get());
+        assertEquals(1, serializer.serialize(new Dog() { }).get());
+        assertEquals(0, serializer.serialize(new Cat()).get());
+        assertEquals(2, serializer.serialize(new PetCat()).get());
+        // resolved serializers are cached for the class.
+        assertEquals(1, serializer.serialize(new Puppy()).get());
+        // events are serialized into supplied buffers with the same serializer.
+        ByteBuffer target = ByteBuffer.allocate(2);
+        assertEquals(1, serializer.serialize(new Puppy(), target));
+        assertEquals(2, serializer.serialize(new PetCat(), target));
+        assertEquals(1, target.get(0));
+        assertEquals(2, target.get(1));
+
+        MultiplexedSerializer<Animal> dogsOnly = new MultiplexedSerializer<>(ImmutableMap.of(Dog.class, dogSerializer));
+        AssertExtensions.assertThrows(SerializationException.class, () -> dogsOnly.serialize(new Cat()));
+
+        MultiplexedSerializer<Animal> ambiguous = new MultiplexedSerializer<>(ImmutableMap.of(
+                Cat.class, animalSerializer, Pet.class, petSerializer));
+        AssertExtensions.assertThrows(SerializationException.class, () -> ambiguous.serialize(new PetCat()));
+        assertEquals(0, ambiguous.serialize(new Cat()).get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private AbstractSerializer<Animal> mockSerializer(int id) {
+        AbstractSerializer<Animal> serializer = mock(AbstractSerializer.class);
+        doAnswer(x -> ByteBuffer.wrap(new byte[]{(byte) id})).when(serializer).serialize(any());
+        doAnswer(x -> {
+            ((ByteBuffer) x.getArgument(1)).put((byte) id);
+            return 1;
+        }).when(serializer).serialize(any(), any(ByteBuffer.class));
+        return serializer;
+    }
+
+    private interface Animal {
+    }
+
+    private interface Pet extends Animal {
+    }
+
+    private static class Dog implements Animal {
+    }
+
+    private static class Puppy extends Dog {
+    }
+
+    private static class Cat implements Animal {
+    }
+
+    private static class PetCat extends Cat implements Pet {
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.EncodingId;
+import io.pravega.schemaregistry.contract.data.EncodingInfo;
+import io.pravega.schemaregistry.contract.data.SchemaInfo;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.contract.data.VersionInfo;
+import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SchemaBundleTest {
+    @Test
+    public void testExportAndLoad() throws IOException {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        String groupId = "groupId";
+        CodecType snappy = Codecs.SnappyCompressor.getCodec().getCodecType();
+        VersionInfo version0 = new VersionInfo("name", 0, 0);
+        SchemaInfo schema0 = new SchemaInfo("name", SerializationFormat.Avro, ByteBuffer.wrap(new byte[]{1, 2}), ImmutableMap.of());
+        VersionInfo version1 = new VersionInfo("name", 1, 1);
+        SchemaInfo schema1 = new SchemaInfo("name", SerializationFormat.custom("mytype"), ByteBuffer.wrap(new byte[]{3}),
+                ImmutableMap.of("a", "b"));
+        doAnswer(x -> Collections.singletonList(snappy)).when(client).getCodecTypes(eq(groupId));
+        doAnswer(x -> new EncodingInfo(version0, schema0, CodecType.NONE)).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(0)));
+        doAnswer(x -> new EncodingInfo(version0, schema0, snappy)).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(1)));
+        doAnswer(x -> new EncodingInfo(version1, schema1, CodecType.NONE)).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(2)));
+        doAnswer(x -> new EncodingInfo(version1, schema1, snappy)).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(3)));
+        doThrow(new ResourceNotFoundException("not found")).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(4)));
+
+        // only the encodings that exist are exported, and no encoding ids are generated.
+        SchemaBundle bundle = SchemaBundle.export(client, groupId);
+        assertEquals(4, bundle.getEncodings().size());
+        assertEquals(new EncodingInfo(version1, schema1, snappy), bundle.getEncodings().get(new EncodingId(3)));
+        verify(client, never()).getEncodingId(any(), any(), any());
+        clearInvocations(client);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        bundle.writeTo(outputStream);
+        SchemaBundle read = SchemaBundle.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(bundle, read);
+
+        // encodings in the bundle are served from the cache, others are fetched from the registry service.
+        EncodingInfo encodingInfo4 = new EncodingInfo(version1, schema1, CodecType.NONE);
+        doReturn(encodingInfo4).when(client).getEncodingInfo(eq(groupId), eq(new EncodingId(4)));
+        EncodingCache cache = new EncodingCache(groupId, client);
+        cache.preload(read);
+        assertEquals(new EncodingInfo(version0, schema0, CodecType.NONE), cache.getGroupEncodingInfo(new EncodingId(0)));
+        verify(client, never()).getEncodingInfo(any(), any());
+        assertEquals(encodingInfo4, cache.getGroupEncodingInfo(new EncodingId(4)));
+        verify(client, times(1)).getEncodingInfo(any(), any());
+    }
+
+    @Test
+    public void testDeserializerInitFromBundle() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        CodecType snappy = Codecs.SnappyCompressor.getCodec().getCodecType();
+        SchemaBundle bundle = new SchemaBundle("groupId", ImmutableList.of(snappy), ImmutableMap.of());
+        SerializerConfig config = SerializerConfig.builder().groupId("groupId").registryClient(client)
+                                                  .createGroup(SerializationFormat.Avro).schemaBundle(bundle).build();
+
+        // readers that start from a bundle neither create the group nor read the codec types from the service.
+        SerializerFactoryHelper.initForDeserializer(config);
+        verify(client, never()).addGroup(any(), any());
+        verify(client, never()).getCodecTypes(any());
+        assertTrue(SerializerFactoryHelper.getEncodingCache(config, client).isLoadedFromBundle());
+    }
+}
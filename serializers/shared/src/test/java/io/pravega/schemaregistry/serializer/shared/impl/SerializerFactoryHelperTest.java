@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.contract.data.CodecType;
+import io.pravega.schemaregistry.contract.data.SerializationFormat;
+import io.pravega.schemaregistry.serializer.shared.codec.Codecs;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.pravega.schemaregistry.client.exceptions.RegistryExceptions.ResourceNotFoundException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class SerializerFactoryHelperTest {
+    @Test
+    public void testInitForSerializerAsync() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        CodecType codecType = Codecs.GzipCompressor.getCodec().getCodecType();
+        CompletableFuture<Void> groupCreated = new CompletableFuture<>();
+        doAnswer(x -> {
+            groupCreated.join();
+            return true;
+        }).when(client).addGroup(eq("groupId"), any());
+        // the codec cannot be registered before the group is created.
+        AtomicInteger addCodecCalls = new AtomicInteger();
+        doAnswer(x -> {
+            if (addCodecCalls.incrementAndGet() == 1) {
+                throw new ResourceNotFoundException("group not found");
+            }
+            return null;
+        }).when(client).addCodecType(eq("groupId"), eq(codecType));
+
+        SerializerConfig config = SerializerConfig.builder().groupId("groupId").registryClient(client)
+                                                  .createGroup(SerializationFormat.Avro).registerCodec(true)
+                                                  .encoder(Codecs.GzipCompressor.getCodec()).build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // the codec is registered while the group is created, and again once the group is created.
+            CompletableFuture<Void> ready = SerializerFactoryHelper.initForSerializerAsync(client, config, executor);
+            verify(client, timeout(10000)).addCodecType(eq("groupId"), eq(codecType));
+            assertFalse(ready.isDone());
+            groupCreated.complete(null);
+            ready.join();
+            assertEquals(2, addCodecCalls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.serializer.shared.impl;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pravega.schemaregistry.client.AsyncSchemaRegistryClient;
+import io.pravega.schemaregistry.client.SchemaRegistryClient;
+import io.pravega.schemaregistry.client.SchemaRegistryClientConfig;
+import io.pravega.schemaregistry.common.CredentialProvider;
+import org.junit.Test;
+
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SharedClientsTest {
+    @Test
+    public void testSharedClients() throws Exception {
+        SharedClients sharedClients = new SharedClients();
+        SchemaRegistryClientConfig config = SchemaRegistryClientConfig.builder().schemaRegistryUri(URI.create("http://localhost:9092")).build();
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        AsyncSchemaRegistryClient asyncClient = mock(AsyncSchemaRegistryClient.class);
+        AtomicInteger created = new AtomicInteger();
+
+        SchemaRegistryClient ref1 = sharedClients.acquire(config, "ns", () -> {
+            created.incrementAndGet();
+            return asyncClient;
+        }, x -> client);
+        SchemaRegistryClient ref2 = sharedClients.acquire(config, "ns", () -> {
+            created.incrementAndGet();
+            return asyncClient;
+        }, x -> client);
+        assertEquals(1, created.get());
+        sharedClients.acquire(config, "ns2", () -> {
+            created.incrementAndGet();
+            return asyncClient;
+        }, x -> mock(SchemaRegistryClient.class));
+        assertEquals(2, created.get());
+
+        // references to the same client share the encoding cache for a group.
+        EncodingCache cache = sharedClients.getEncodingCache("grp", Metrics.globalRegistry, null, ref1);
+        assertSame(cache, sharedClients.getEncodingCache("grp", Metrics.globalRegistry, null, ref2));
+        assertNotSame(cache, sharedClients.getEncodingCache("grp2", Metrics.globalRegistry, null, ref2));
+        // serializers that use other meter registries or cache directories get their own cache.
+        assertNotSame(cache, sharedClients.getEncodingCache("grp", new SimpleMeterRegistry(), null, ref2));
+        EncodingCache withFiles = sharedClients.getEncodingCache("grp", Metrics.globalRegistry,
+                new EncodingFileCache(Paths.get("dir"), "", "ns", "grp"), ref2);
+        assertNotSame(cache, withFiles);
+        assertSame(withFiles, sharedClients.getEncodingCache("grp", Metrics.globalRegistry,
+                new EncodingFileCache(Paths.get("dir"), "", "ns", "grp"), ref2));
+        assertNotSame(withFiles, sharedClients.getEncodingCache("grp", Metrics.globalRegistry,
+                new EncodingFileCache(Paths.get("dir2"), "", "ns", "grp"), ref2));
+
+        ref1.getGroupProperties("grp");
+        verify(client, times(1)).getGroupProperties("grp");
+
+        // shared clients are initialized through the shared async client, others through calls on the executor.
+        AsyncInitClient initClient = sharedClients.getInitClient(ref1, Runnable::run);
+        assertSame(initClient, sharedClients.getInitClient(ref2, Runnable::run));
+        initClient.getCodecTypes("grp");
+        verify(asyncClient, times(1)).getCodecTypes("grp");
+        AsyncInitClient onExecutor = sharedClients.getInitClient(client, Runnable::run);
+        assertTrue(onExecutor instanceof ExecutorAsyncClient);
+        onExecutor.getCodecTypes("grp").join();
+        verify(client, times(1)).getCodecTypes("grp");
+
+        // configs with equal values share the client, even if their credential providers are different objects.
+        SchemaRegistryClientConfig equalConfig = SchemaRegistryClientConfig.builder().schemaRegistryUri(URI.create("http://localhost:9092"))
+                .credentialProvider(new CredentialProvider.DefaultCredentialProvider("Basic", "token")).build();
+        SchemaRegistryClient ref3 = sharedClients.acquire(equalConfig, "ns", () -> {
+            created.incrementAndGet();
+            return asyncClient;
+        }, x -> mock(SchemaRegistryClient.class));
+        SchemaRegistryClientConfig otherEqualConfig = SchemaRegistryClientConfig.builder().schemaRegistryUri(URI.create("http://localhost:9092"))
+                .credentialProvider(new CredentialProvider.DefaultCredentialProvider("Basic", "token")).build();
+        SchemaRegistryClient ref4 = sharedClients.acquire(otherEqualConfig, "ns", () -> {
+            created.incrementAndGet();
+            return asyncClient;
+        }, x -> mock(SchemaRegistryClient.class));
+        assertEquals(3, created.get());
+        ref3.close();
+        ref4.close();
+
+        // the shared client is closed when its last reference is closed.
+        ref1.close();
+        verify(client, never()).close();
+        ref1.close();
+        verify(client, never()).close();
+        ref2.close();
+        verify(client, times(1)).close();
+        sharedClients.acquire(config, "ns", () -> {
+            created.incrementAndGet();
+            return asyncClient;
+        }, x -> client);
+        assertEquals(4, created.get());
+
+        // the shared client is closed when its references are garbage collected.
+        SharedClients collected = new SharedClients();
+        SchemaRegistryClient collectedClient = mock(SchemaRegistryClient.class);
+        collected.acquire(config, "ns", () -> asyncClient, x -> collectedClient);
+        assertEquals(1, collected.size());
+        for (int i = 0; i < 100 && collected.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertEquals(0, collected.size());
+        verify(collectedClient, times(1)).close();
+    }
+}
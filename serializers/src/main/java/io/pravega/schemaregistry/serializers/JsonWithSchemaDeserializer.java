@@ -21,6 +21,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 class JsonWithSchemaDeserializer extends AbstractDeserializer<WithSchema<JsonNode>> {
     private final ObjectMapper objectMapper;
@@ -37,4 +38,13 @@ class JsonWithSchemaDeserializer extends AbstractDeserializer<WithSchema<JsonNod
         JsonNode obj = objectMapper.readTree(inputStream);
         return new WithSchema<>(writerSchemaInfo, obj, (x, y) -> (JsonNode) y);
     }
+
+    @Override
+    public final WithSchema<JsonNode> deserialize(ByteBuffer payload, SchemaInfo writerSchemaInfo, SchemaInfo readerSchemaInfo) throws IOException {
+        if (payload.hasArray()) {
+            JsonNode obj = objectMapper.readTree(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+            return new WithSchema<>(writerSchemaInfo, obj, (x, y) -> (JsonNode) y);
+        }
+        return super.deserialize(payload, writerSchemaInfo, readerSchemaInfo);
+    }
 }
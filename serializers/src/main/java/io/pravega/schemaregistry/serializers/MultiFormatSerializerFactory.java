@@ -45,6 +45,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static io.pravega.schemaregistry.serializers.WithSchema.NO_TRANSFORM;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getEncodingCache;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializer;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForSerializer;
 
@@ -106,7 +107,7 @@ class MultiFormatSerializerFactory {
                                                     BiFunction<SerializationFormat, Object, T> transform) {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         AbstractDeserializer json = new JsonGenericDeserializer(config.getGroupId(), schemaRegistryClient,
                 config.getDecoders(), encodingCache, config.isWriteEncodingHeader());
@@ -138,7 +139,7 @@ class MultiFormatSerializerFactory {
             CustomDeserializer<Object>> deserializers, BiFunction<SerializationFormat, Object, T> transform) {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         AbstractDeserializer json = new JsonGenericDeserializer(config.getGroupId(), schemaRegistryClient,
                 config.getDecoders(), encodingCache, config.isWriteEncodingHeader());
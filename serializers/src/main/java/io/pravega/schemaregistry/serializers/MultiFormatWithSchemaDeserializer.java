@@ -19,6 +19,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -39,6 +40,25 @@ class MultiFormatWithSchemaDeserializer<T> extends AbstractDeserializer<WithSche
     public final WithSchema<T> deserialize(InputStream inputStream, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
         Preconditions.checkNotNull(writerSchema);
         Object obj = genericDeserializers.get(writerSchema.getSerializationFormat()).deserialize(inputStream, writerSchema, readerSchema);
+        return withSchema(obj, writerSchema);
+    }
+
+    @Override
+    public final WithSchema<T> deserialize(ByteBuffer payload, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writerSchema);
+        Object obj = genericDeserializers.get(writerSchema.getSerializationFormat()).deserialize(payload, writerSchema, readerSchema);
+        return withSchema(obj, writerSchema);
+    }
+
+    @Override
+    public PayloadReader<WithSchema<T>> createReader(SchemaInfo writerSchema, SchemaInfo readerSchema) {
+        Preconditions.checkNotNull(writerSchema);
+        PayloadReader<?> reader = genericDeserializers.get(writerSchema.getSerializationFormat())
+                                                      .createReader(writerSchema, readerSchema);
+        return reader.map(obj -> withSchema(obj, writerSchema));
+    }
+
+    private WithSchema<T> withSchema(Object obj, SchemaInfo writerSchema) {
         if (obj instanceof WithSchema) {
             obj = ((WithSchema) obj).getObject();
         }
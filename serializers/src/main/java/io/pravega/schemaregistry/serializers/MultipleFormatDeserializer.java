@@ -19,6 +19,7 @@ import io.pravega.schemaregistry.serializer.shared.impl.SerializerConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.function.BiFunction;
 
@@ -42,4 +43,20 @@ class MultipleFormatDeserializer<T> extends AbstractDeserializer<T> {
                 genericDeserializers.get(writerSchema.getSerializationFormat())
                                     .deserialize(inputStream, writerSchema, readerSchema));
     }
+
+    @Override
+    public PayloadReader<T> createReader(SchemaInfo writerSchema, SchemaInfo readerSchema) {
+        Preconditions.checkNotNull(writerSchema);
+        SerializationFormat format = writerSchema.getSerializationFormat();
+        PayloadReader<?> reader = genericDeserializers.get(format).createReader(writerSchema, readerSchema);
+        return reader.map(obj -> transform.apply(format, obj));
+    }
+
+    @Override
+    public final T deserialize(ByteBuffer payload, SchemaInfo writerSchema, SchemaInfo readerSchema) throws IOException {
+        Preconditions.checkNotNull(writerSchema);
+        return transform.apply(writerSchema.getSerializationFormat(), 
+                genericDeserializers.get(writerSchema.getSerializationFormat())
+                                    .deserialize(payload, writerSchema, readerSchema));
+    }
 }
\ No newline at end of file
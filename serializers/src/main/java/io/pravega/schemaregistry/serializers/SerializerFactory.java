@@ -42,10 +42,13 @@ import org.apache.avro.generic.GenericRecord;
 import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import static com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.getEncodingCache;
 import static io.pravega.schemaregistry.serializer.shared.impl.SerializerFactoryHelper.initForDeserializer;
 import static io.pravega.schemaregistry.serializers.WithSchema.JSON_TRANSFORM;
 import static io.pravega.schemaregistry.serializers.WithSchema.NO_TRANSFORM;
@@ -86,6 +89,55 @@ public class SerializerFactory {
         return AvroSerializerFactory.deserializer(config, schema);
     }
 
+    /**
+     * Creates a typed avro serializer for the Schema without waiting on the registry service. The calls to the registry 
+     * service are made in the background on the executor. See {@link AvroSerializerFactory#deferredSerializer}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link AvroSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return A Serializer Implementation that can be used in {@link io.pravega.client.stream.EventStreamWriter} or
+     * {@link io.pravega.client.stream.TransactionalEventStreamWriter}.
+     */
+    public static <T> Serializer<T> avroDeferredSerializer(SerializerConfig config,
+                                                           AvroSchema<T> schema,
+                                                           Executor executor) {
+        return AvroSerializerFactory.deferredSerializer(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed avro serializer for the Schema asynchronously. The calls to the registry service are made on the 
+     * executor. See {@link AvroSerializerFactory#serializerAsync}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link AvroSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the serializer once it is ready to serialize events.
+     */
+    public static <T> CompletableFuture<Serializer<T>> avroSerializerAsync(SerializerConfig config,
+                                                                           AvroSchema<T> schema,
+                                                                           Executor executor) {
+        return AvroSerializerFactory.serializerAsync(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed avro deserializer for the Schema asynchronously. The calls to the registry service are made on the 
+     * executor. See {@link AvroSerializerFactory#deserializerAsync}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link AvroSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the deserializer.
+     */
+    public static <T> CompletableFuture<Serializer<T>> avroDeserializerAsync(SerializerConfig config,
+                                                                             AvroSchema<T> schema,
+                                                                             Executor executor) {
+        return AvroSerializerFactory.deserializerAsync(config, schema, executor);
+    }
+
     /**
      * Creates a generic avro deserializer. It has the optional parameter for schema.
      * If the schema is not supplied, the writer schema is used for deserialization into {@link GenericRecord}.
@@ -181,6 +233,55 @@ public class SerializerFactory {
         return ProtobufSerializerFactory.deserializer(config, schema);
     }
 
+    /**
+     * Creates a typed protobuf serializer for the Schema without waiting on the registry service. The calls to the registry 
+     * service are made in the background on the executor. See {@link ProtobufSerializerFactory#deferredSerializer}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link ProtobufSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return A Serializer Implementation that can be used in {@link io.pravega.client.stream.EventStreamWriter} or
+     * {@link io.pravega.client.stream.TransactionalEventStreamWriter}.
+     */
+    public static <T extends Message> Serializer<T> protobufDeferredSerializer(SerializerConfig config,
+                                                                               ProtobufSchema<T> schema,
+                                                                               Executor executor) {
+        return ProtobufSerializerFactory.deferredSerializer(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed protobuf serializer for the Schema asynchronously. The calls to the registry service are made on the 
+     * executor. See {@link ProtobufSerializerFactory#serializerAsync}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link ProtobufSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the serializer once it is ready to serialize events.
+     */
+    public static <T extends Message> CompletableFuture<Serializer<T>> protobufSerializerAsync(SerializerConfig config,
+                                                                                               ProtobufSchema<T> schema,
+                                                                                               Executor executor) {
+        return ProtobufSerializerFactory.serializerAsync(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed protobuf deserializer for the Schema asynchronously. The calls to the registry service are made on the 
+     * executor. See {@link ProtobufSerializerFactory#deserializerAsync}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link ProtobufSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the deserializer.
+     */
+    public static <T extends GeneratedMessageV3> CompletableFuture<Serializer<T>> protobufDeserializerAsync(SerializerConfig config,
+                                                                                                            ProtobufSchema<T> schema,
+                                                                                                            Executor executor) {
+        return ProtobufSerializerFactory.deserializerAsync(config, schema, executor);
+    }
+
     /**
      * Creates a generic protobuf deserializer. It has the optional parameter for schema.
      * If the schema is not supplied, the writer schema is used for deserialization into {@link DynamicMessage}.
@@ -274,6 +375,55 @@ public class SerializerFactory {
         return JsonSerializerFactory.deserializer(config, schema);
     }
 
+    /**
+     * Creates a typed json serializer for the Schema without waiting on the registry service. The calls to the registry 
+     * service are made in the background on the executor. See {@link JsonSerializerFactory#deferredSerializer}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link JSONSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return A Serializer Implementation that can be used in {@link io.pravega.client.stream.EventStreamWriter} or
+     * {@link io.pravega.client.stream.TransactionalEventStreamWriter}.
+     */
+    public static <T> Serializer<T> jsonDeferredSerializer(SerializerConfig config,
+                                                           JSONSchema<T> schema,
+                                                           Executor executor) {
+        return JsonSerializerFactory.deferredSerializer(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed json serializer for the Schema asynchronously. The calls to the registry service are made on the 
+     * executor. See {@link JsonSerializerFactory#serializerAsync}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link JSONSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the serializer once it is ready to serialize events.
+     */
+    public static <T> CompletableFuture<Serializer<T>> jsonSerializerAsync(SerializerConfig config,
+                                                                           JSONSchema<T> schema,
+                                                                           Executor executor) {
+        return JsonSerializerFactory.serializerAsync(config, schema, executor);
+    }
+
+    /**
+     * Creates a typed json deserializer for the Schema asynchronously. The calls to the registry service are made on the 
+     * executor. See {@link JsonSerializerFactory#deserializerAsync}.
+     *
+     * @param config     Serializer Config used for instantiating a new serializer.
+     * @param schema     Schema container that encapsulates {@link JSONSchema}.
+     * @param executor   Executor on which the calls to the registry service are made.
+     * @param <T>        Type of event.
+     * @return Future which is completed with the deserializer.
+     */
+    public static <T> CompletableFuture<Serializer<T>> jsonDeserializerAsync(SerializerConfig config,
+                                                                             JSONSchema<T> schema,
+                                                                             Executor executor) {
+        return JsonSerializerFactory.deserializerAsync(config, schema, executor);
+    }
+
     /**
      * Creates a generic json deserializer.
      * 
@@ -288,7 +438,7 @@ public class SerializerFactory {
 
         String groupId = config.getGroupId();
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         return new JsonWithSchemaDeserializer(groupId, schemaRegistryClient, config.getDecoders(),
                 encodingCache, config.isWriteEncodingHeader());
@@ -349,7 +499,7 @@ public class SerializerFactory {
         String groupId = config.getGroupId();
         SchemaRegistryClient schemaRegistryClient = initForDeserializer(config);
 
-        EncodingCache encodingCache = new EncodingCache(groupId, schemaRegistryClient);
+        EncodingCache encodingCache = getEncodingCache(config, schemaRegistryClient);
 
         Map<String, AbstractDeserializer<T>> deserializerMap = schemas
                 .values().stream().collect(Collectors.toMap(x -> x.getSchemaInfo().getType(),
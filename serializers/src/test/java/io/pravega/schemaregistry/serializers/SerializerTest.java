@@ -32,8 +32,12 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -137,4 +141,39 @@ public class SerializerTest {
         deserialized = deserializer.deserialize(buf);
         assertEquals(deserialized, message);
     }
+
+    @Test
+    public void testAsyncSerializers() {
+        SchemaRegistryClient client = mock(SchemaRegistryClient.class);
+        VersionInfo versionInfo = new VersionInfo("proto", 0, 0);
+        ProtobufSchema<ProtobufTest.Message2> schema = ProtobufSchema.of(ProtobufTest.Message2.class);
+
+        CompletableFuture<Void> registryAvailable = new CompletableFuture<>();
+        doAnswer(x -> {
+            registryAvailable.join();
+            return versionInfo;
+        }).when(client).getVersionForSchema(anyString(), eq(schema.getSchemaInfo()));
+        doAnswer(x -> new EncodingId(0)).when(client).getEncodingId(anyString(), eq(versionInfo), any());
+        doAnswer(x -> new EncodingInfo(versionInfo, schema.getSchemaInfo(), Codecs.None.getCodec().getCodecType())).when(client).getEncodingInfo(anyString(), eq(new EncodingId(0)));
+        doAnswer(x -> true).when(client).canReadUsing(anyString(), any());
+
+        SerializerConfig config = SerializerConfig.builder().registryClient(client).groupId("groupId").build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // the serializer is created without waiting on the registry service.
+            Serializer<ProtobufTest.Message2> deferred = SerializerFactory.protobufDeferredSerializer(config, schema, executor);
+            CompletableFuture<Serializer<ProtobufTest.Message2>> serializer = SerializerFactory.protobufSerializerAsync(config, schema, executor);
+            assertFalse(serializer.isDone());
+            registryAvailable.complete(null);
+
+            ProtobufTest.Message2 message = ProtobufTest.Message2.newBuilder().setName("name").setField1(1).build();
+            ByteBuffer serialized = serializer.join().serialize(message);
+            assertEquals(serialized, deferred.serialize(message));
+
+            Serializer<ProtobufTest.Message2> deserializer = SerializerFactory.protobufDeserializerAsync(config, schema, executor).join();
+            assertEquals(message, deserializer.deserialize(serialized));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
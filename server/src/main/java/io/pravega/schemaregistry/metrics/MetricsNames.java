@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.metrics;
+
+/**
+ * Names of metrics reported by the registry service and the tags used with them.
+ */
+public final class MetricsNames {
+    // REST layer
+    public static final String REST_REQUEST_LATENCY = "schemaregistry.rest.request.latency";
+
+    // Service
+    public static final String ADD_SCHEMA_STAGE_LATENCY = "schemaregistry.service.addSchema.stage.latency";
+    public static final String ADD_SCHEMA_WRITE_CONFLICTS = "schemaregistry.service.addSchema.writeConflicts";
+
+    // Table store
+    public static final String TABLE_READS = "schemaregistry.store.table.reads";
+    public static final String TABLE_WRITES = "schemaregistry.store.table.writes";
+    public static final String TABLE_REMOVES = "schemaregistry.store.table.removes";
+    public static final String TABLE_READ_BATCH_SIZE = "schemaregistry.store.table.read.batchSize";
+    public static final String TABLE_WRITE_BATCH_SIZE = "schemaregistry.store.table.write.batchSize";
+    public static final String TABLE_RETRIES = "schemaregistry.store.table.retries";
+    public static final String TABLE_WRITE_CONFLICTS = "schemaregistry.store.table.writeConflicts";
+    public static final String TABLE_CACHE = "schemaregistry.store.table.cache";
+
+    // Tags
+    public static final String TAG_ENDPOINT = "endpoint";
+    public static final String TAG_METHOD = "method";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_STAGE = "stage";
+
+    private MetricsNames() {
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Provides the meter registry that all registry service metrics are recorded against. 
+ * 
+ * Meters are registered with the global composite registry. Until a backing registry is added to it, meters are no-ops, 
+ * so metrics cost next to nothing when they are not exported. 
+ */
+@Slf4j
+public final class MetricsProvider {
+    private static PrometheusMeterRegistry prometheusRegistry;
+
+    private MetricsProvider() {
+    }
+
+    /**
+     * Gets the registry to register meters with.
+     *
+     * @return meter registry.
+     */
+    public static MeterRegistry getRegistry() {
+        return Metrics.globalRegistry;
+    }
+
+    /**
+     * Adds a Prometheus registry to the global registry so that all metrics can be scraped from it. 
+     * Calling it more than once returns the same Prometheus registry.
+     *
+     * @return Prometheus meter registry.
+     */
+    public static synchronized PrometheusMeterRegistry enablePrometheus() {
+        if (prometheusRegistry == null) {
+            log.info("Enabling Prometheus metrics.");
+            prometheusRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            new JvmMemoryMetrics().bindTo(prometheusRegistry);
+            new JvmThreadMetrics().bindTo(prometheusRegistry);
+            new ProcessorMetrics().bindTo(prometheusRegistry);
+            Metrics.addRegistry(prometheusRegistry);
+        }
+        return prometheusRegistry;
+    }
+
+    /**
+     * Records the time taken by the future returned by the supplier to complete, whether successfully or exceptionally.
+     *
+     * @param timer timer to record the latency with.
+     * @param futureSupplier supplier of the future to time.
+     * @param <T> Type of result.
+     * @return the future returned by the supplier.
+     */
+    public static <T> CompletableFuture<T> time(Timer timer, Supplier<CompletableFuture<T>> futureSupplier) {
+        long start = System.nanoTime();
+        return futureSupplier.get().whenComplete((r, e) -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+}
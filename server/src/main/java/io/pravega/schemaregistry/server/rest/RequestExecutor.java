@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.schemaregistry.exceptions.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Executes REST requests on bounded pools.
+ * Cheap reads and expensive writes and validations are run on separate pools so that a burst of one kind does not
+ * starve the other. Each pool admits at most its thread count plus its queue size of outstanding requests. A request
+ * stays outstanding until the future it returns completes. Requests beyond that limit are failed immediately with
+ * {@link ServiceOverloadedException} instead of being queued.
+ */
+@Slf4j
+public class RequestExecutor implements AutoCloseable {
+    private final Pool readPool;
+    private final Pool writePool;
+
+    public RequestExecutor(ServiceConfig config) {
+        this.readPool = new Pool(createExecutor("rest-read", config.getReadThreadPoolSize(), config.isVirtualThreadsEnabled()),
+                config.getReadThreadPoolSize() + config.getReadQueueSize(), true);
+        this.writePool = new Pool(createExecutor("rest-write", config.getWriteThreadPoolSize(), config.isVirtualThreadsEnabled()),
+                config.getWriteThreadPoolSize() + config.getWriteQueueSize(), true);
+    }
+
+    @VisibleForTesting
+    RequestExecutor(Executor readExecutor, int maxOutstandingReads, Executor writeExecutor, int maxOutstandingWrites) {
+        this.readPool = new Pool(readExecutor, maxOutstandingReads, false);
+        this.writePool = new Pool(writeExecutor, maxOutstandingWrites, false);
+    }
+
+    /**
+     * Creates a request executor that runs all requests on the supplied executor without any admission control.
+     * The caller retains the ownership of the executor.
+     *
+     * @param executor executor to run requests on.
+     * @return Request executor backed by the supplied executor.
+     */
+    public static RequestExecutor unbounded(Executor executor) {
+        return new RequestExecutor(executor, Integer.MAX_VALUE, executor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the executor for the given workload type.
+     *
+     * @param workload workload type.
+     * @return executor that serves the workload.
+     */
+    public Executor getExecutor(Workload workload) {
+        return getPool(workload).executor;
+    }
+
+    /**
+     * Admits the request into the pool for the workload and runs it there. If the pool has no capacity left the request
+     * is not run and the returned future is failed with {@link ServiceOverloadedException}.
+     *
+     * @param workload workload type of the request.
+     * @param request supplier of the request's future.
+     * @param <T> Type of response.
+     * @return CompletableFuture which is completed with the request's result.
+     */
+    public <T> CompletableFuture<T> execute(Workload workload, Supplier<CompletableFuture<T>> request) {
+        Pool pool = getPool(workload);
+        if (!pool.admission.tryAcquire()) {
+            log.warn("Rejecting {} request as there are {} outstanding requests.", workload, pool.maxOutstanding);
+            return Futures.failedFuture(new ServiceOverloadedException(String.format("Too many outstanding %s requests.", workload)));
+        }
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(request, pool.executor).thenCompose(x -> x);
+        } catch (RejectedExecutionException e) {
+            pool.admission.release();
+            return Futures.failedFuture(new ServiceOverloadedException(e.getMessage()));
+        }
+        return result.whenComplete((r, e) -> pool.admission.release());
+    }
+
+    @VisibleForTesting
+    int getAvailablePermits(Workload workload) {
+        return getPool(workload).admission.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        readPool.shutdown();
+        writePool.shutdown();
+    }
+
+    private Pool getPool(Workload workload) {
+        return workload == Workload.READ ? readPool : writePool;
+    }
+
+    private static ExecutorService createExecutor(String name, int size, boolean virtualThreads) {
+        if (virtualThreads) {
+            ExecutorService executor = newVirtualThreadExecutor(name);
+            if (executor != null) {
+                log.info("Using virtual threads for {} requests.", name);
+                return executor;
+            }
+        }
+        return Executors.newFixedThreadPool(size, ExecutorServiceHelpers.getThreadFactory(name));
+    }
+
+    /**
+     * Virtual threads are only available on JDK 21 onward while we compile against Java 8, so they are looked up
+     * reflectively.
+     */
+    @Nullable
+    private static ExecutorService newVirtualThreadExecutor(String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not supported by this JVM. Falling back to platform threads.");
+            return null;
+        }
+    }
+
+    /**
+     * Type of workload a request imposes on the service.
+     */
+    public enum Workload {
+        /**
+         * Lookups that are served from the store without any processing of schemas.
+         */
+        READ,
+        /**
+         * Updates and requests that parse or validate schemas.
+         */
+        WRITE
+    }
+
+    private static class Pool {
+        private final Executor executor;
+        private final Semaphore admission;
+        private final int maxOutstanding;
+        private final boolean owned;
+
+        Pool(Executor executor, int maxOutstanding, boolean owned) {
+            this.executor = executor;
+            this.maxOutstanding = maxOutstanding;
+            this.admission = new Semaphore(maxOutstanding);
+            this.owned = owned;
+        }
+
+        void shutdown() {
+            if (owned && executor instanceof ExecutorService) {
+                ExecutorServiceHelpers.shutdown((ExecutorService) executor);
+            }
+        }
+    }
+}
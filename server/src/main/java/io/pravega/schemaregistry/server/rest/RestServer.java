@@ -12,6 +12,7 @@ package io.pravega.schemaregistry.server.rest;
 import com.google.common.util.concurrent.AbstractIdleService;
 import io.pravega.common.LoggerHelpers;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.HashSet;
 import java.util.Set;
@@ -19,18 +20,28 @@ import java.util.concurrent.TimeUnit;
 import javax.ws.rs.core.UriBuilder;
 
 import io.pravega.common.security.JKSHelper;
+import io.pravega.schemaregistry.metrics.MetricsProvider;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.filter.AuthenticationFilter;
 import io.pravega.schemaregistry.server.rest.filter.NamespaceRedirectFilter;
+import io.pravega.schemaregistry.server.rest.filter.RateLimitFilter;
+import io.pravega.schemaregistry.server.rest.filter.RateLimiter;
+import io.pravega.schemaregistry.server.rest.filter.RequestMetricsFilter;
 import io.pravega.schemaregistry.server.rest.resources.GroupResourceImpl;
+import io.pravega.schemaregistry.server.rest.resources.MetricsImpl;
 import io.pravega.schemaregistry.server.rest.resources.PingImpl;
 import io.pravega.schemaregistry.server.rest.resources.SchemaResourceImpl;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
 import lombok.extern.slf4j.Slf4j;
 import org.glassfish.grizzly.GrizzlyFuture;
 import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http2.Http2AddOn;
+import org.glassfish.grizzly.http2.Http2Configuration;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.server.ServerProperties;
@@ -44,6 +55,7 @@ public class RestServer extends AbstractIdleService {
     private final ServiceConfig restServerConfig;
     private final URI baseUri;
     private final ResourceConfig resourceConfig;
+    private final RequestExecutor requestExecutor;
     private HttpServer httpServer;
 
     public RestServer(SchemaRegistryService registryService, ServiceConfig restServerConfig) {
@@ -55,9 +67,15 @@ public class RestServer extends AbstractIdleService {
         AuthHandlerManager authManager = new AuthHandlerManager(restServerConfig);
         resourceObjs.add(new AuthenticationFilter(restServerConfig.isAuthEnabled(), authManager));
         resourceObjs.add(new NamespaceRedirectFilter());
+        resourceObjs.add(new RateLimitFilter(new RateLimiter(restServerConfig), restServerConfig.getRetryAfterSeconds()));
+        resourceObjs.add(new RequestMetricsFilter(MetricsProvider.getRegistry()));
         resourceObjs.add(new PingImpl());
-        resourceObjs.add(new GroupResourceImpl(registryService, restServerConfig, authManager, executor()));
-        resourceObjs.add(new SchemaResourceImpl(registryService, restServerConfig, authManager, executor()));
+        if (restServerConfig.isPrometheusEnabled()) {
+            resourceObjs.add(new MetricsImpl(MetricsProvider.enablePrometheus()));
+        }
+        this.requestExecutor = new RequestExecutor(restServerConfig);
+        resourceObjs.add(new GroupResourceImpl(registryService, restServerConfig, authManager, requestExecutor));
+        resourceObjs.add(new SchemaResourceImpl(registryService, restServerConfig, authManager, requestExecutor));
 
         final RegistryApplication application = new RegistryApplication(resourceObjs);
         this.resourceConfig = ResourceConfig.forApplication(application);
@@ -70,7 +88,7 @@ public class RestServer extends AbstractIdleService {
      * Start REST service.
      */
     @Override
-    protected void startUp() {
+    protected void startUp() throws IOException {
         long traceId = LoggerHelpers.traceEnterWithContext(log, this.objectId, "startUp");
         try {
             log.info("Starting REST server listening on port: {}", this.restServerConfig.getPort());
@@ -79,15 +97,36 @@ public class RestServer extends AbstractIdleService {
                 contextConfigurator.setKeyStoreFile(restServerConfig.getTlsKeyStoreFilePath());
                 contextConfigurator.setKeyStorePass(JKSHelper.loadPasswordFrom(restServerConfig.getTlsKeyStorePasswordFilePath()));
                 httpServer = GrizzlyHttpServerFactory.createHttpServer(baseUri, resourceConfig, true,
-                        new SSLEngineConfigurator(contextConfigurator, false, false, false));
+                        new SSLEngineConfigurator(contextConfigurator, false, false, false), false);
             } else {
-                httpServer = GrizzlyHttpServerFactory.createHttpServer(baseUri, resourceConfig, true);
+                httpServer = GrizzlyHttpServerFactory.createHttpServer(baseUri, resourceConfig, false);
             }
+            httpServer.getListeners().forEach(this::configureListener);
+            httpServer.start();
         } finally {
             LoggerHelpers.traceLeave(log, this.objectId, "startUp", traceId);
         }
     }
 
+    private void configureListener(NetworkListener listener) {
+        TCPNIOTransport transport = listener.getTransport();
+        if (restServerConfig.getSelectorThreadCount() > 0) {
+            transport.setSelectorRunnersCount(restServerConfig.getSelectorThreadCount());
+        }
+        if (restServerConfig.getWorkerThreadPoolSize() > 0) {
+            transport.setWorkerThreadPoolConfig(ThreadPoolConfig.defaultConfig()
+                                                                .setPoolName("rest-worker")
+                                                                .setCorePoolSize(restServerConfig.getWorkerThreadPoolSize())
+                                                                .setMaxPoolSize(restServerConfig.getWorkerThreadPoolSize()));
+        }
+        listener.getKeepAlive().setMaxRequestsCount(restServerConfig.getKeepAliveMaxRequests());
+        listener.getKeepAlive().setIdleTimeoutInSeconds(restServerConfig.getKeepAliveIdleTimeoutSeconds());
+        if (restServerConfig.isHttp2Enabled()) {
+            // HTTP/2 over TLS is negotiated with ALPN, which requires a JVM that supports it. 
+            listener.registerAddOn(new Http2AddOn(Http2Configuration.builder().build()));
+        }
+    }
+
     /**
      * Gracefully stop REST service.
      */
@@ -99,6 +138,7 @@ public class RestServer extends AbstractIdleService {
             final GrizzlyFuture<HttpServer> shutdown = httpServer.shutdown(30, TimeUnit.SECONDS);
             log.info("Awaiting termination of REST server");
             shutdown.get();
+            requestExecutor.close();
             log.info("REST server terminated");
         } finally {
             LoggerHelpers.traceLeave(log, this.objectId, "shutDown", traceId);
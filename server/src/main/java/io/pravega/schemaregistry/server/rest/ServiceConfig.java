@@ -9,13 +9,18 @@
  */
 package io.pravega.schemaregistry.server.rest;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
 import io.pravega.auth.ServerConfig;
 import io.pravega.common.Exceptions;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * REST server config.
  */
@@ -34,11 +39,107 @@ public class ServiceConfig implements ServerConfig {
     private final boolean authEnabled;
     @ToString.Exclude
     private final String userPasswordFilePath;
+    /**
+     * Number of threads serving cheap read requests.
+     */
+    private final int readThreadPoolSize;
+    /**
+     * Number of threads serving writes and schema validations.
+     */
+    private final int writeThreadPoolSize;
+    /**
+     * Maximum number of read requests that can be outstanding in addition to the ones being served by read threads. 
+     * Requests beyond this limit are rejected with 503.
+     */
+    private final int readQueueSize;
+    /**
+     * Maximum number of write requests that can be outstanding in addition to the ones being served by write threads. 
+     * Requests beyond this limit are rejected with 503.
+     */
+    private final int writeQueueSize;
+    /**
+     * Value of Retry-After header, in seconds, sent with requests that are rejected because of overload.
+     */
+    private final int retryAfterSeconds;
+    /**
+     * If set, requests are run on virtual threads when the JVM supports them. 
+     */
+    private final boolean virtualThreadsEnabled;
+    /**
+     * Maximum number of requests per second for each namespace. 0 means unlimited.
+     */
+    private final int namespaceRateLimit;
+    /**
+     * Maximum number of requests per second for each group. 0 means unlimited.
+     */
+    private final int groupRateLimit;
+    /**
+     * Number of seconds worth of requests a namespace or a group can send in a single burst.
+     */
+    private final int rateLimitBurstSeconds;
+    /**
+     * Requests per second for specific namespaces which override the namespace rate limit.
+     */
+    private final Map<String, Integer> namespaceRateLimitOverrides;
+    /**
+     * Requests per second for specific groups which override the group rate limit. Groups are identified by group name
+     * in the default namespace and "namespace/group" otherwise.
+     */
+    private final Map<String, Integer> groupRateLimitOverrides;
+    /**
+     * Flag to indicate if HTTP/2 is enabled on the REST listener. Over TLS it is negotiated with ALPN, otherwise 
+     * clients can upgrade with h2c.
+     */
+    private final boolean http2Enabled;
+    /**
+     * Number of Grizzly worker threads. 0 means Grizzly default.
+     */
+    private final int workerThreadPoolSize;
+    /**
+     * Number of Grizzly selector threads. 0 means Grizzly default.
+     */
+    private final int selectorThreadCount;
+    /**
+     * Maximum number of requests served over a persistent connection before it is closed. -1 means unlimited.
+     */
+    private final int keepAliveMaxRequests;
+    /**
+     * Number of seconds an idle persistent connection is kept open. -1 means forever.
+     */
+    private final int keepAliveIdleTimeoutSeconds;
+    /**
+     * Flag to indicate if metrics are exposed for Prometheus to scrape on the /metrics endpoint.
+     */
+    private final boolean prometheusEnabled;
 
     private ServiceConfig(String host, int port, boolean tlsEnabled, String tlsCertFilePath, 
-                          String tlsKeyStoreFilePath, String tlsKeyStorePasswordFilePath, boolean authEnabled, String userPasswordFilePath) {
+                          String tlsKeyStoreFilePath, String tlsKeyStorePasswordFilePath, boolean authEnabled, String userPasswordFilePath,
+                          int readThreadPoolSize, int writeThreadPoolSize, int readQueueSize, int writeQueueSize, 
+                          int retryAfterSeconds, boolean virtualThreadsEnabled, int namespaceRateLimit, int groupRateLimit, 
+                          int rateLimitBurstSeconds, Map<String, Integer> namespaceRateLimitOverrides, 
+                          Map<String, Integer> groupRateLimitOverrides, boolean http2Enabled, int workerThreadPoolSize, 
+                          int selectorThreadCount, int keepAliveMaxRequests, int keepAliveIdleTimeoutSeconds, 
+                          boolean prometheusEnabled) {
         Exceptions.checkNotNullOrEmpty(host, "host");
         Exceptions.checkArgument(port > 0, "port", "Should be positive integer");
+        Exceptions.checkArgument(readThreadPoolSize > 0, "readThreadPoolSize", "Should be positive integer");
+        Exceptions.checkArgument(writeThreadPoolSize > 0, "writeThreadPoolSize", "Should be positive integer");
+        Exceptions.checkArgument(readQueueSize >= 0, "readQueueSize", "Should not be negative");
+        Exceptions.checkArgument(writeQueueSize >= 0, "writeQueueSize", "Should not be negative");
+        Exceptions.checkArgument(retryAfterSeconds > 0, "retryAfterSeconds", "Should be positive integer");
+        Exceptions.checkArgument(namespaceRateLimit >= 0, "namespaceRateLimit", "Should not be negative");
+        Exceptions.checkArgument(groupRateLimit >= 0, "groupRateLimit", "Should not be negative");
+        Exceptions.checkArgument(rateLimitBurstSeconds > 0, "rateLimitBurstSeconds", "Should be positive integer");
+        Preconditions.checkNotNull(namespaceRateLimitOverrides);
+        Preconditions.checkNotNull(groupRateLimitOverrides);
+        Exceptions.checkArgument(namespaceRateLimitOverrides.values().stream().allMatch(x -> x >= 0), 
+                "namespaceRateLimitOverrides", "Should not be negative");
+        Exceptions.checkArgument(groupRateLimitOverrides.values().stream().allMatch(x -> x >= 0), 
+                "groupRateLimitOverrides", "Should not be negative");
+        Exceptions.checkArgument(workerThreadPoolSize >= 0, "workerThreadPoolSize", "Should not be negative");
+        Exceptions.checkArgument(selectorThreadCount >= 0, "selectorThreadCount", "Should not be negative");
+        Exceptions.checkArgument(keepAliveMaxRequests >= -1, "keepAliveMaxRequests", "Should be -1 or greater");
+        Exceptions.checkArgument(keepAliveIdleTimeoutSeconds >= -1, "keepAliveIdleTimeoutSeconds", "Should be -1 or greater");
         if (tlsEnabled) {
             Exceptions.checkArgument(!Strings.isNullOrEmpty(tlsCertFilePath), "keyCertPath",
                     "If tls is enabled then cert file path should be non empty");
@@ -55,6 +156,23 @@ public class ServiceConfig implements ServerConfig {
         this.tlsKeyStorePasswordFilePath = tlsKeyStorePasswordFilePath;
         this.authEnabled = authEnabled;
         this.userPasswordFilePath = userPasswordFilePath;
+        this.readThreadPoolSize = readThreadPoolSize;
+        this.writeThreadPoolSize = writeThreadPoolSize;
+        this.readQueueSize = readQueueSize;
+        this.writeQueueSize = writeQueueSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.namespaceRateLimit = namespaceRateLimit;
+        this.groupRateLimit = groupRateLimit;
+        this.rateLimitBurstSeconds = rateLimitBurstSeconds;
+        this.namespaceRateLimitOverrides = ImmutableMap.copyOf(namespaceRateLimitOverrides);
+        this.groupRateLimitOverrides = ImmutableMap.copyOf(groupRateLimitOverrides);
+        this.http2Enabled = http2Enabled;
+        this.workerThreadPoolSize = workerThreadPoolSize;
+        this.selectorThreadCount = selectorThreadCount;
+        this.keepAliveMaxRequests = keepAliveMaxRequests;
+        this.keepAliveIdleTimeoutSeconds = keepAliveIdleTimeoutSeconds;
+        this.prometheusEnabled = prometheusEnabled;
     }
 
     public static final class ServiceConfigBuilder {
@@ -62,5 +180,22 @@ public class ServiceConfig implements ServerConfig {
         private int port = 9092;
         private boolean tlsEnabled = false;
         private boolean authEnabled = false;
+        private int readThreadPoolSize = 20;
+        private int writeThreadPoolSize = 10;
+        private int readQueueSize = 1000;
+        private int writeQueueSize = 100;
+        private int retryAfterSeconds = 1;
+        private boolean virtualThreadsEnabled = false;
+        private int namespaceRateLimit = 0;
+        private int groupRateLimit = 0;
+        private int rateLimitBurstSeconds = 1;
+        private Map<String, Integer> namespaceRateLimitOverrides = Collections.emptyMap();
+        private Map<String, Integer> groupRateLimitOverrides = Collections.emptyMap();
+        private boolean http2Enabled = false;
+        private int workerThreadPoolSize = 0;
+        private int selectorThreadCount = 0;
+        private int keepAliveMaxRequests = 256;
+        private int keepAliveIdleTimeoutSeconds = 30;
+        private boolean prometheusEnabled = false;
     }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest.filter;
+
+import com.google.common.collect.ImmutableSet;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.Provider;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rate limiting filter.
+ * Rejects requests that exceed the rate limit of their namespace or group with 429 (Too Many Requests) before they
+ * reach the resources.
+ *
+ * The filter runs after the request is matched to a resource so that the namespace path param is already converted
+ * to query param by {@link NamespaceRedirectFilter} and the group name is available as path param.
+ * Health checks and metrics scrapes are not limited, so that a busy service is not reported as unavailable.
+ */
+@Provider
+@Priority(Priorities.USER)
+@Slf4j
+public class RateLimitFilter implements ContainerRequestFilter {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final String NAMESPACE = "namespace";
+    private static final String GROUP_NAME = "groupName";
+    private static final Set<String> EXEMPT_PATHS = ImmutableSet.of("ping", "metrics");
+
+    private final RateLimiter rateLimiter;
+    private final int retryAfterSeconds;
+
+    public RateLimitFilter(RateLimiter rateLimiter, int retryAfterSeconds) {
+        this.rateLimiter = rateLimiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext containerRequest) throws WebApplicationException {
+        UriInfo uriInfo = containerRequest.getUriInfo();
+        if (rateLimiter.isEnabled() && !isExempt(uriInfo)) {
+            String namespace = uriInfo.getQueryParameters().getFirst(NAMESPACE);
+            String group = uriInfo.getPathParameters().getFirst(GROUP_NAME);
+            if (!rateLimiter.tryAcquire(namespace, group)) {
+                log.debug("Request {} {} rejected as it exceeds the rate limit.", containerRequest.getMethod(), uriInfo.getPath());
+                containerRequest.abortWith(Response.status(TOO_MANY_REQUESTS)
+                                                   .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds).build());
+            }
+        }
+    }
+
+    private boolean isExempt(UriInfo uriInfo) {
+        List<PathSegment> pathSegments = uriInfo.getPathSegments();
+        return !pathSegments.isEmpty() && EXEMPT_PATHS.contains(pathSegments.get(0).getPath());
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest.filter;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.pravega.schemaregistry.server.rest.ServiceConfig;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter that tracks request rates per namespace and per group.
+ *
+ * Each namespace and each group gets its own bucket which is refilled at the configured rate and can hold up to
+ * burst seconds worth of tokens. A rate of 0 means the requests are not limited. Limits are enforced per registry
+ * service instance.
+ *
+ * Group limits are keyed by the group name for groups in the default namespace and by "namespace/group" for
+ * groups in other namespaces.
+ *
+ * A bucket which has been idle for longer than the burst is full, which is the state of a new bucket, so idle buckets
+ * are evicted to bound the memory used for namespaces and groups that are no longer accessed.
+ */
+public class RateLimiter {
+    private static final TokenBucket UNLIMITED = new TokenBucket(0, 0, 0L);
+
+    private final int namespaceRate;
+    private final int groupRate;
+    private final int burstSeconds;
+    private final Map<String, Integer> namespaceRateOverrides;
+    private final Map<String, Integer> groupRateOverrides;
+    private final LoadingCache<String, TokenBucket> namespaceBuckets;
+    private final LoadingCache<String, TokenBucket> groupBuckets;
+    private final LongSupplier clock;
+
+    public RateLimiter(ServiceConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    RateLimiter(ServiceConfig config, LongSupplier clock) {
+        this.namespaceRate = config.getNamespaceRateLimit();
+        this.groupRate = config.getGroupRateLimit();
+        this.burstSeconds = config.getRateLimitBurstSeconds();
+        this.namespaceRateOverrides = config.getNamespaceRateLimitOverrides();
+        this.groupRateOverrides = config.getGroupRateLimitOverrides();
+        this.clock = clock;
+        this.namespaceBuckets = newBuckets(namespaceRateOverrides, namespaceRate);
+        this.groupBuckets = newBuckets(groupRateOverrides, groupRate);
+    }
+
+    /**
+     * Checks whether any rate limit is configured.
+     *
+     * @return true if some namespace or group is rate limited, false otherwise.
+     */
+    public boolean isEnabled() {
+        return namespaceRate > 0 || groupRate > 0 || !namespaceRateOverrides.isEmpty() || !groupRateOverrides.isEmpty();
+    }
+
+    /**
+     * Takes a token from the bucket of the namespace and from the bucket of the group. Either both tokens are taken or
+     * none is, so rejected requests do not count against the limits.
+     *
+     * @param namespace namespace of the request. Null or empty for default namespace.
+     * @param group group of the request. Null if request is not against a group.
+     * @return true if the request is within the rate limits, false if it should be rejected.
+     */
+    public boolean tryAcquire(String namespace, String group) {
+        String ns = Strings.nullToEmpty(namespace);
+        long now = clock.getAsLong();
+        TokenBucket namespaceBucket = namespaceBuckets.getUnchecked(ns);
+        if (!namespaceBucket.tryAcquire(now)) {
+            return false;
+        }
+        if (Strings.isNullOrEmpty(group)) {
+            return true;
+        }
+        String groupKey = ns.isEmpty() ? group : ns + "/" + group;
+        if (!groupBuckets.getUnchecked(groupKey).tryAcquire(now)) {
+            namespaceBucket.release();
+            return false;
+        }
+        return true;
+    }
+
+    @VisibleForTesting
+    long size() {
+        namespaceBuckets.cleanUp();
+        groupBuckets.cleanUp();
+        return namespaceBuckets.size() + groupBuckets.size();
+    }
+
+    private LoadingCache<String, TokenBucket> newBuckets(Map<String, Integer> overrides, int defaultRate) {
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return clock.getAsLong();
+            }
+        };
+        return CacheBuilder.newBuilder().ticker(ticker).expireAfterAccess(burstSeconds, TimeUnit.SECONDS)
+                           .build(CacheLoader.from(key -> {
+                               int rate = overrides.getOrDefault(key, defaultRate);
+                               return rate > 0 ? new TokenBucket(rate, burstSeconds, clock.getAsLong()) : UNLIMITED;
+                           }));
+    }
+
+    /**
+     * Lock free token bucket. Rather than counting tokens, it tracks the time at which the bucket will be full again
+     * (generic cell rate algorithm) which lets a single compare and set take a token and account for the refill.
+     */
+    @VisibleForTesting
+    static class TokenBucket {
+        private final long nanosPerToken;
+        private final long capacityNanos;
+        private final AtomicLong fullAt;
+
+        TokenBucket(int rate, int burstSeconds, long now) {
+            this.nanosPerToken = rate > 0 ? TimeUnit.SECONDS.toNanos(1) / rate : 0L;
+            this.capacityNanos = TimeUnit.SECONDS.toNanos(burstSeconds);
+            this.fullAt = new AtomicLong(now);
+        }
+
+        boolean tryAcquire(long now) {
+            if (nanosPerToken == 0L) {
+                return true;
+            }
+            while (true) {
+                long current = fullAt.get();
+                long next = (current - now < 0 ? now : current) + nanosPerToken;
+                if (next - now > capacityNanos) {
+                    return false;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Returns a token that was taken by {@link #tryAcquire}.
+         */
+        void release() {
+            if (nanosPerToken != 0L) {
+                fullAt.addAndGet(-nanosPerToken);
+            }
+        }
+    }
+}
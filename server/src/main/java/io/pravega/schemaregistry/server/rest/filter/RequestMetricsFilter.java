@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pravega.schemaregistry.metrics.MetricsNames;
+import org.glassfish.jersey.server.ExtendedUriInfo;
+import org.glassfish.jersey.server.model.ResourceMethod;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.Provider;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of each request, tagged with the resource method that served it and the response status.
+ * The request is timed from before authentication until its response is written, so it includes the time spent 
+ * waiting for asynchronous resources to resume the response. 
+ */
+@Provider
+@PreMatching
+@Priority(Priorities.AUTHENTICATION - 100)
+public class RequestMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String START_TIME = RequestMetricsFilter.class.getName() + ".startTime";
+    private static final String UNMATCHED = "unmatched";
+
+    private final MeterRegistry registry;
+
+    public RequestMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        requestContext.setProperty(START_TIME, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object start = requestContext.getProperty(START_TIME);
+        if (start == null) {
+            return;
+        }
+        Timer.builder(MetricsNames.REST_REQUEST_LATENCY)
+             .tag(MetricsNames.TAG_ENDPOINT, getEndpoint(requestContext.getUriInfo()))
+             .tag(MetricsNames.TAG_METHOD, requestContext.getMethod())
+             .tag(MetricsNames.TAG_STATUS, Integer.toString(responseContext.getStatus()))
+             .publishPercentileHistogram()
+             .register(registry)
+             .record(System.nanoTime() - (long) start, TimeUnit.NANOSECONDS);
+    }
+
+    private String getEndpoint(UriInfo uriInfo) {
+        if (uriInfo instanceof ExtendedUriInfo) {
+            ResourceMethod method = ((ExtendedUriInfo) uriInfo).getMatchedResourceMethod();
+            if (method != null && method.getInvocable().getHandlingMethod() != null) {
+                return method.getInvocable().getHandlingMethod().getName();
+            }
+        }
+        return UNMATCHED;
+    }
+}
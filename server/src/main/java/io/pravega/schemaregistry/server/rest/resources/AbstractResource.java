@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.server.rest.resources;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import io.opentelemetry.api.trace.SpanKind;
 import io.pravega.auth.AuthException;
 import io.pravega.auth.AuthHandler;
 import io.pravega.auth.AuthorizationException;
@@ -19,16 +20,20 @@ import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
 import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
 import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException;
+import io.pravega.schemaregistry.exceptions.ServiceOverloadedException;
+import io.pravega.schemaregistry.server.rest.RequestExecutor;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthContext;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.schemaregistry.tracing.TracingHelper;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.shaded.com.google.common.base.Charsets;
 
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
@@ -51,6 +56,8 @@ import static io.pravega.schemaregistry.server.rest.resources.AuthResources.NAME
 abstract class AbstractResource {
     @Context
     HttpHeaders headers;
+    @Context
+    ResourceInfo resourceInfo;
 
     @Getter
     private final SchemaRegistryService registryService;
@@ -59,27 +66,56 @@ abstract class AbstractResource {
     @Getter
     private final AuthHandlerManager authManager;
     @Getter
-    private final Executor executorService;
+    private final RequestExecutor requestExecutor;
 
-    AbstractResource(SchemaRegistryService registryService, ServiceConfig config, AuthHandlerManager authManager, Executor executorService) {
+    AbstractResource(SchemaRegistryService registryService, ServiceConfig config, AuthHandlerManager authManager, 
+                     RequestExecutor requestExecutor) {
         this.registryService = registryService;
         this.config = config;
         this.authManager = authManager;
-        this.executorService = executorService;
+        this.requestExecutor = requestExecutor;
+    }
+
+    Executor getExecutorService() {
+        return requestExecutor.getExecutor(RequestExecutor.Workload.READ);
     }
-    
+
     CompletableFuture<Response> withAuthorization(AuthHandler.Permissions permissions,
                                                   String resource, AsyncResponse response,
                                                   Supplier<CompletableFuture<Response>> future,
                                                   SecurityContext securityContext, 
                                                   Supplier<String> logSupplier) {
-        return CompletableFuture.runAsync(() -> authorize(securityContext, resource, permissions), executorService)
-                         .thenCompose(v -> future.get())
-                         .exceptionally(e -> {
-                             Throwable unwrap = Exceptions.unwrap(e);
-                             response.resume(handleExceptions(unwrap, logSupplier));
-                             throw new CompletionException(e);
-                         });
+        RequestExecutor.Workload workload = permissions.equals(AuthHandler.Permissions.READ) ? 
+                RequestExecutor.Workload.READ : RequestExecutor.Workload.WRITE;
+        return withAuthorization(permissions, workload, resource, response, future, securityContext, logSupplier);
+    }
+
+    CompletableFuture<Response> withAuthorization(AuthHandler.Permissions permissions, RequestExecutor.Workload workload,
+                                                  String resource, AsyncResponse response,
+                                                  Supplier<CompletableFuture<Response>> future,
+                                                  SecurityContext securityContext, 
+                                                  Supplier<String> logSupplier) {
+        // javax.ws.rs.core.Context is imported for injection, so the tracing context is fully qualified.
+        io.opentelemetry.context.Context parent = headers == null ? io.opentelemetry.context.Context.current() : TracingHelper.extract(headers);
+        Supplier<CompletableFuture<Response>> request = () -> {
+            authorize(securityContext, resource, permissions);
+            return future.get();
+        };
+        // the request runs on the request executor, so it is wrapped to run with the span of the request as current.
+        return TracingHelper.withSpan(getSpanName(), parent, SpanKind.SERVER, 
+                () -> requestExecutor.execute(workload, io.opentelemetry.context.Context.current().wrapSupplier(request)))
+                            .exceptionally(e -> {
+                                Throwable unwrap = Exceptions.unwrap(e);
+                                response.resume(handleExceptions(unwrap, logSupplier));
+                                throw new CompletionException(e);
+                            });
+    }
+
+    private String getSpanName() {
+        if (resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+            return getClass().getSimpleName();
+        }
+        return getClass().getSimpleName() + "." + resourceInfo.getResourceMethod().getName();
     }
 
     private boolean authorize(SecurityContext securityContext, String resource, AuthHandler.Permissions permission)
@@ -178,6 +214,11 @@ abstract class AbstractResource {
         } else if (unwrap instanceof SerializationFormatMismatchException) {
             log.warn("Request {} failed with SerializationFormat Mismatch.", logSupplier.get());
             response = Response.status(Response.Status.EXPECTATION_FAILED).entity(unwrap.getMessage()).build();
+        } else if (unwrap instanceof ServiceOverloadedException) {
+            log.warn("Request {} rejected as the service is overloaded.", logSupplier.get());
+            response = Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                               .header(HttpHeaders.RETRY_AFTER, config.getRetryAfterSeconds())
+                               .entity(unwrap.getMessage()).build();
         } else if (unwrap instanceof CodecTypeNotRegisteredException) {
             log.warn("Request {} failed with Codec type not registered.", logSupplier.get());
             response = Response.status(Response.Status.PRECONDITION_FAILED).entity(unwrap.getMessage()).build();
@@ -34,6 +34,7 @@ import io.pravega.schemaregistry.contract.generated.rest.model.ValidateRequest;
 import io.pravega.schemaregistry.contract.generated.rest.model.VersionInfo;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
 import io.pravega.schemaregistry.contract.v1.ApiV1;
+import io.pravega.schemaregistry.server.rest.RequestExecutor;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.auth.AuthContext;
@@ -42,6 +43,7 @@ import io.pravega.schemaregistry.storage.ContinuationToken;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import java.util.AbstractMap;
@@ -52,10 +54,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.pravega.auth.AuthHandler.Permissions.READ;
 import static io.pravega.auth.AuthHandler.Permissions.READ_UPDATE;
+import static io.pravega.schemaregistry.server.rest.RequestExecutor.Workload.WRITE;
 import static javax.ws.rs.core.Response.Status;
 
 /**
@@ -64,10 +68,17 @@ import static javax.ws.rs.core.Response.Status;
 @Slf4j
 public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsApiAsync {
     private static final int DEFAULT_LIST_GROUPS_LIMIT = 100;
+    private static final int DEFAULT_WATCH_TIMEOUT_MILLIS = 30000;
+    private static final int MAX_WATCH_TIMEOUT_MILLIS = 60000;
     
     public GroupResourceImpl(SchemaRegistryService registryService, ServiceConfig config, 
                              AuthHandlerManager authHandlerManager, Executor executor) {
-        super(registryService, config, authHandlerManager, executor);
+        this(registryService, config, authHandlerManager, RequestExecutor.unbounded(executor));
+    }
+
+    public GroupResourceImpl(SchemaRegistryService registryService, ServiceConfig config,
+                             AuthHandlerManager authHandlerManager, RequestExecutor requestExecutor) {
+        super(registryService, config, authHandlerManager, requestExecutor);
     }
 
     @Override
@@ -106,13 +117,13 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         // the filteredWithTokenAndLimit keeps fetching in a loop until it has collected "limit" number of results 
         // or there are no more remaining results to be fetched. 
         CompletableFuture<Map.Entry<ContinuationToken, List<Map.Entry<String, GroupProperties>>>> future = 
-                FuturesUtility.filteredWithTokenAndLimit(
+                getRequestExecutor().execute(RequestExecutor.Workload.READ, () -> FuturesUtility.filteredWithTokenAndLimit(
                         (ContinuationToken t, Integer l) ->
                                 getRegistryService().listGroups(namespace, t, l)
                                                     .thenApply(mwt -> new AbstractMap.SimpleEntry<>(mwt.getToken(),
                                                             new ArrayList<>(mwt.getList()))),
                         authorizedPredicate,
-                        ContinuationToken.fromString(continuationToken), toFetch, getExecutorService());
+                        ContinuationToken.fromString(continuationToken), toFetch, getExecutorService()));
 
         future.thenAccept(result -> {
             String contToken = result.getKey() == null ?
@@ -287,7 +298,7 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
-        withAuthorization(READ, resource, asyncResponse,
+        withAuthorization(READ, WRITE, resource, asyncResponse,
                 () -> getRegistryService().validateSchema(namespace, group, 
                         ModelHelper.decode(validateRequest.getSchemaInfo()),
                         ModelHelper.decode(validateRequest.getCompatibility()))
@@ -309,7 +320,7 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
                 getGroupResource(group, namespace);
 
-        withAuthorization(READ, resource, asyncResponse,
+        withAuthorization(READ, WRITE, resource, asyncResponse,
                 () -> getRegistryService().canRead(namespace, group, ModelHelper.decode(schemaInfo))
                           .thenApply(canRead -> {
                               log.info("For group {} {}, can read using schema response = {}", namespace, group, canRead);
@@ -522,7 +533,7 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
         String resource = Strings.isNullOrEmpty(namespace) ? getGroupCodecResource(group) :
                 getGroupCodecResource(group, namespace);
 
-        withAuthorization(READ, resource, asyncResponse,
+        withAuthorization(READ, WRITE, resource, asyncResponse,
                 () -> getRegistryService().addCodecType(namespace, group, ModelHelper.decode(codecType))
                                      .thenApply(v -> {
                                          log.info("codecType {} added to group {} {}", codecType, namespace, group);
@@ -534,4 +545,38 @@ public class GroupResourceImpl extends AbstractResource implements ApiV1.GroupsA
                     return response;
                 });
     }
+
+    @Override
+    public void watchGroup(String namespace, String group, String etag, Integer timeoutMillis, SecurityContext securityContext, 
+                           AsyncResponse asyncResponse) {
+        log.debug("watchGroup called for group {} {} with etag {}", namespace, group, etag);
+        String resource = Strings.isNullOrEmpty(namespace) ? getGroupResource(group) :
+                getGroupResource(group, namespace);
+        long timeout = timeoutMillis == null ? DEFAULT_WATCH_TIMEOUT_MILLIS : Math.min(Math.max(timeoutMillis, 0), MAX_WATCH_TIMEOUT_MILLIS);
+        String lastSeen = etag == null ? null : unquote(etag);
+        Supplier<String> logSupplier = () -> String.format("watchGroup for group %s %s failed with exception:", namespace, group);
+
+        // only the authorization runs on the request executor. The watch itself waits without holding a thread or 
+        // an admission permit of the request executor. 
+        withAuthorization(READ, resource, asyncResponse, () -> CompletableFuture.completedFuture(Response.ok().build()),
+                securityContext, logSupplier)
+                .thenCompose(authorized -> getRegistryService().watchGroup(namespace, group, lastSeen, timeout)
+                        .handle((current, e) -> {
+                            if (e != null) {
+                                return handleExceptions(Exceptions.unwrap(e), logSupplier);
+                            } else if (current.equals(lastSeen)) {
+                                return Response.notModified(new EntityTag(current)).build();
+                            } else {
+                                return Response.ok().tag(new EntityTag(current)).build();
+                            }
+                        }))
+                .thenApply(response -> {
+                    asyncResponse.resume(response);
+                    return response;
+                });
+    }
+
+    private static String unquote(String etag) {
+        return etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"") ? etag.substring(1, etag.length() - 1) : etag;
+    }
 }
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest.resources;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+/*
+Implementation of the metrics endpoint which serves the registry metrics in Prometheus text format for scraping. 
+ */
+@Path("/metrics")
+public class MetricsImpl {
+    private final PrometheusMeterRegistry registry;
+
+    public MetricsImpl(PrometheusMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Implementation of Prometheus scrape API.
+     *
+     * @return Response 200 OK with all metrics in Prometheus text format.
+     */
+    @GET
+    @Produces(TextFormat.CONTENT_TYPE_004)
+    public Response scrape() {
+        return Response.status(Status.OK).entity(registry.scrape()).build();
+    }
+}
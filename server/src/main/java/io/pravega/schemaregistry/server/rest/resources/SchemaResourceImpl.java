@@ -13,6 +13,7 @@ import io.pravega.schemaregistry.contract.generated.rest.model.AddedTo;
 import io.pravega.schemaregistry.contract.generated.rest.model.SchemaInfo;
 import io.pravega.schemaregistry.contract.transform.ModelHelper;
 import io.pravega.schemaregistry.contract.v1.ApiV1;
+import io.pravega.schemaregistry.server.rest.RequestExecutor;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
@@ -36,7 +37,12 @@ public class SchemaResourceImpl extends AbstractResource implements ApiV1.Schema
     private SchemaRegistryService registryService;
 
     public SchemaResourceImpl(SchemaRegistryService registryService, ServiceConfig config, AuthHandlerManager authManager, Executor executor) {
-        super(registryService, config, authManager, executor);
+        this(registryService, config, authManager, RequestExecutor.unbounded(executor));
+    }
+
+    public SchemaResourceImpl(SchemaRegistryService registryService, ServiceConfig config, AuthHandlerManager authManager, 
+                              RequestExecutor requestExecutor) {
+        super(registryService, config, authManager, requestExecutor);
     }
 
     @Override
@@ -9,6 +9,7 @@
  */
 package io.pravega.schemaregistry.service;
 
+import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import io.pravega.common.util.Property;
 import io.pravega.common.util.TypedProperties;
@@ -17,6 +18,8 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
@@ -45,6 +48,23 @@ public final class Config {
 
     public static final String SERVICE_HOST;
     public static final int SERVICE_PORT;
+    public static final int REST_READ_THREAD_POOL_SIZE;
+    public static final int REST_WRITE_THREAD_POOL_SIZE;
+    public static final int REST_READ_QUEUE_SIZE;
+    public static final int REST_WRITE_QUEUE_SIZE;
+    public static final int REST_RETRY_AFTER_SECONDS;
+    public static final boolean REST_VIRTUAL_THREADS_ENABLED;
+    public static final int REST_NAMESPACE_RATE_LIMIT;
+    public static final int REST_GROUP_RATE_LIMIT;
+    public static final int REST_RATE_LIMIT_BURST_SECONDS;
+    public static final Map<String, Integer> REST_NAMESPACE_RATE_LIMIT_OVERRIDES;
+    public static final Map<String, Integer> REST_GROUP_RATE_LIMIT_OVERRIDES;
+    public static final boolean REST_HTTP2_ENABLED;
+    public static final int REST_WORKER_THREAD_POOL_SIZE;
+    public static final int REST_SELECTOR_THREAD_COUNT;
+    public static final int REST_KEEP_ALIVE_MAX_REQUESTS;
+    public static final int REST_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS;
+    public static final boolean REST_PROMETHEUS_ENABLED;
     public static final int THREAD_POOL_SIZE;
     public static final String STORE_TYPE;
     public static final int MAX_CHUNK_SIZE_BYTES;
@@ -75,6 +95,23 @@ public final class Config {
     private static final String NULL_VALUE = "{null}";
     private static final Property<String> PROPERTY_REST_IP = Property.named("service.rest.published.host.nameOrIp", "0.0.0.0");
     private static final Property<Integer> PROPERTY_REST_PORT = Property.named("service.rest.listener.port", 9092);
+    private static final Property<Integer> PROPERTY_REST_READ_THREAD_POOL_SIZE = Property.named("service.rest.threadPool.read.size", 20);
+    private static final Property<Integer> PROPERTY_REST_WRITE_THREAD_POOL_SIZE = Property.named("service.rest.threadPool.write.size", 10);
+    private static final Property<Integer> PROPERTY_REST_READ_QUEUE_SIZE = Property.named("service.rest.queue.read.size", 1000);
+    private static final Property<Integer> PROPERTY_REST_WRITE_QUEUE_SIZE = Property.named("service.rest.queue.write.size", 100);
+    private static final Property<Integer> PROPERTY_REST_RETRY_AFTER_SECONDS = Property.named("service.rest.overload.retryAfter.seconds", 1);
+    private static final Property<Boolean> PROPERTY_REST_VIRTUAL_THREADS_ENABLED = Property.named("service.rest.virtualThreads.enable", false);
+    private static final Property<Integer> PROPERTY_REST_NAMESPACE_RATE_LIMIT = Property.named("service.rest.rateLimit.namespace.perSecond", 0);
+    private static final Property<Integer> PROPERTY_REST_GROUP_RATE_LIMIT = Property.named("service.rest.rateLimit.group.perSecond", 0);
+    private static final Property<Integer> PROPERTY_REST_RATE_LIMIT_BURST_SECONDS = Property.named("service.rest.rateLimit.burst.seconds", 1);
+    private static final Property<String> PROPERTY_REST_NAMESPACE_RATE_LIMIT_OVERRIDES = Property.named("service.rest.rateLimit.namespace.overrides", "");
+    private static final Property<String> PROPERTY_REST_GROUP_RATE_LIMIT_OVERRIDES = Property.named("service.rest.rateLimit.group.overrides", "");
+    private static final Property<Boolean> PROPERTY_REST_HTTP2_ENABLED = Property.named("service.rest.http2.enable", false);
+    private static final Property<Integer> PROPERTY_REST_WORKER_THREAD_POOL_SIZE = Property.named("service.rest.threadPool.worker.size", 0);
+    private static final Property<Integer> PROPERTY_REST_SELECTOR_THREAD_COUNT = Property.named("service.rest.threadPool.selector.size", 0);
+    private static final Property<Integer> PROPERTY_REST_KEEP_ALIVE_MAX_REQUESTS = Property.named("service.rest.keepAlive.maxRequests", 256);
+    private static final Property<Integer> PROPERTY_REST_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS = Property.named("service.rest.keepAlive.idleTimeout.seconds", 30);
+    private static final Property<Boolean> PROPERTY_REST_PROMETHEUS_ENABLED = Property.named("service.rest.metrics.prometheus.enable", false);
 
     private static final Property<String> PROPERTY_STORE_TYPE = Property.named("store.type.name", "Pravega");
     private static final Property<String> PROPERTY_PRAVEGA_CONTROLLER_URL = Property.named("store.pravega.controller.connect.uri", "tcp://localhost:9090");
@@ -110,6 +147,23 @@ public final class Config {
 
         SERVICE_HOST = p.get(PROPERTY_REST_IP);
         SERVICE_PORT = p.getInt(PROPERTY_REST_PORT);
+        REST_READ_THREAD_POOL_SIZE = p.getInt(PROPERTY_REST_READ_THREAD_POOL_SIZE);
+        REST_WRITE_THREAD_POOL_SIZE = p.getInt(PROPERTY_REST_WRITE_THREAD_POOL_SIZE);
+        REST_READ_QUEUE_SIZE = p.getInt(PROPERTY_REST_READ_QUEUE_SIZE);
+        REST_WRITE_QUEUE_SIZE = p.getInt(PROPERTY_REST_WRITE_QUEUE_SIZE);
+        REST_RETRY_AFTER_SECONDS = p.getInt(PROPERTY_REST_RETRY_AFTER_SECONDS);
+        REST_VIRTUAL_THREADS_ENABLED = p.getBoolean(PROPERTY_REST_VIRTUAL_THREADS_ENABLED);
+        REST_NAMESPACE_RATE_LIMIT = p.getInt(PROPERTY_REST_NAMESPACE_RATE_LIMIT);
+        REST_GROUP_RATE_LIMIT = p.getInt(PROPERTY_REST_GROUP_RATE_LIMIT);
+        REST_RATE_LIMIT_BURST_SECONDS = p.getInt(PROPERTY_REST_RATE_LIMIT_BURST_SECONDS);
+        REST_NAMESPACE_RATE_LIMIT_OVERRIDES = parseRateLimits(p.get(PROPERTY_REST_NAMESPACE_RATE_LIMIT_OVERRIDES));
+        REST_GROUP_RATE_LIMIT_OVERRIDES = parseRateLimits(p.get(PROPERTY_REST_GROUP_RATE_LIMIT_OVERRIDES));
+        REST_HTTP2_ENABLED = p.getBoolean(PROPERTY_REST_HTTP2_ENABLED);
+        REST_WORKER_THREAD_POOL_SIZE = p.getInt(PROPERTY_REST_WORKER_THREAD_POOL_SIZE);
+        REST_SELECTOR_THREAD_COUNT = p.getInt(PROPERTY_REST_SELECTOR_THREAD_COUNT);
+        REST_KEEP_ALIVE_MAX_REQUESTS = p.getInt(PROPERTY_REST_KEEP_ALIVE_MAX_REQUESTS);
+        REST_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS = p.getInt(PROPERTY_REST_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS);
+        REST_PROMETHEUS_ENABLED = p.getBoolean(PROPERTY_REST_PROMETHEUS_ENABLED);
 
         PRAVEGA_CONTROLLER_URI = p.get(PROPERTY_PRAVEGA_CONTROLLER_URL);
         PRAVEGA_CREDENTIALS_AUTH_METHOD = p.get(PROPERTY_PRAVEGA_CREDENTIALS_AUTH_METHOD);
@@ -216,6 +270,16 @@ public final class Config {
         return resolved;
     }
 
+    /**
+     * Parses rate limits expressed as comma separated list of name=requestsPerSecond pairs.
+     */
+    private static Map<String, Integer> parseRateLimits(String value) {
+        Map<String, Integer> result = new HashMap<>();
+        Splitter.on(',').omitEmptyStrings().trimResults().withKeyValueSeparator('=').split(value)
+                .forEach((k, v) -> result.put(k, Integer.parseInt(v.trim())));
+        return result;
+    }
+
     private static ServiceConfig createServiceConfig() {
         return ServiceConfig.builder()
                             .host(Config.SERVICE_HOST)
@@ -226,6 +290,23 @@ public final class Config {
                                    .tlsCertFilePath(Config.TLS_CERT_FILE)
                                    .tlsKeyStoreFilePath(Config.TLS_KEY_FILE)
                                    .tlsKeyStorePasswordFilePath(Config.TLS_KEY_PASSWORD_FILE)
+                                   .readThreadPoolSize(Config.REST_READ_THREAD_POOL_SIZE)
+                                   .writeThreadPoolSize(Config.REST_WRITE_THREAD_POOL_SIZE)
+                                   .readQueueSize(Config.REST_READ_QUEUE_SIZE)
+                                   .writeQueueSize(Config.REST_WRITE_QUEUE_SIZE)
+                                   .retryAfterSeconds(Config.REST_RETRY_AFTER_SECONDS)
+                                   .virtualThreadsEnabled(Config.REST_VIRTUAL_THREADS_ENABLED)
+                                   .namespaceRateLimit(Config.REST_NAMESPACE_RATE_LIMIT)
+                                   .groupRateLimit(Config.REST_GROUP_RATE_LIMIT)
+                                   .rateLimitBurstSeconds(Config.REST_RATE_LIMIT_BURST_SECONDS)
+                                   .namespaceRateLimitOverrides(Config.REST_NAMESPACE_RATE_LIMIT_OVERRIDES)
+                                   .groupRateLimitOverrides(Config.REST_GROUP_RATE_LIMIT_OVERRIDES)
+                                   .http2Enabled(Config.REST_HTTP2_ENABLED)
+                                   .workerThreadPoolSize(Config.REST_WORKER_THREAD_POOL_SIZE)
+                                   .selectorThreadCount(Config.REST_SELECTOR_THREAD_COUNT)
+                                   .keepAliveMaxRequests(Config.REST_KEEP_ALIVE_MAX_REQUESTS)
+                                   .keepAliveIdleTimeoutSeconds(Config.REST_KEEP_ALIVE_IDLE_TIMEOUT_SECONDS)
+                                   .prometheusEnabled(Config.REST_PROMETHEUS_ENABLED)
                                    .build();
     }
 
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Data;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signals for changes to groups made through this service instance. Each watch request registers a {@link Watch} 
+ * for the duration of the request, and a group is only tracked while it has registered watches.
+ */
+class GroupWatchers {
+    // the sets are only accessed within the atomic compute methods of the map. 
+    private final ConcurrentHashMap<GroupKey, Set<Watch>> watches = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a watch on the group. The watch must be closed once the watch request completes.
+     *
+     * @param namespace namespace of the group.
+     * @param group name of group.
+     * @return Watch on the group.
+     */
+    Watch watch(@Nullable String namespace, String group) {
+        Watch watch = new Watch(new GroupKey(namespace, group));
+        watches.compute(watch.key, (k, v) -> {
+            Set<Watch> set = v == null ? new HashSet<>() : v;
+            set.add(watch);
+            return set;
+        });
+        return watch;
+    }
+
+    /**
+     * Notifies all watches of the group that the group has been updated.
+     *
+     * @param namespace namespace of the group.
+     * @param group name of group.
+     */
+    void notifyChanged(@Nullable String namespace, String group) {
+        List<Watch> toNotify = new ArrayList<>();
+        watches.computeIfPresent(new GroupKey(namespace, group), (k, v) -> {
+            toNotify.addAll(v);
+            return v;
+        });
+        toNotify.forEach(Watch::signal);
+    }
+
+    private void remove(Watch watch) {
+        watches.computeIfPresent(watch.key, (k, v) -> {
+            v.remove(watch);
+            return v.isEmpty() ? null : v;
+        });
+    }
+
+    @VisibleForTesting
+    int size() {
+        return watches.size();
+    }
+
+    /**
+     * Watch registered by a single watch request.
+     */
+    class Watch implements AutoCloseable {
+        private final GroupKey key;
+        @GuardedBy("this")
+        private CompletableFuture<Void> changed;
+
+        private Watch(GroupKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Gets a future which is completed with the next update to the group through this service instance.
+         * Callers should get the future before reading the state of the group so that updates made after the read 
+         * are not missed. Every call returns a new future so that futures which are waited upon once are not 
+         * retained by the watch.
+         *
+         * @return Future which is completed when the group is next updated.
+         */
+        synchronized CompletableFuture<Void> nextChange() {
+            changed = new CompletableFuture<>();
+            return changed;
+        }
+
+        private void signal() {
+            CompletableFuture<Void> toComplete;
+            synchronized (this) {
+                toComplete = changed;
+            }
+            if (toComplete != null) {
+                toComplete.complete(null);
+            }
+        }
+
+        @Override
+        public void close() {
+            remove(this);
+        }
+    }
+
+    @Data
+    private static class GroupKey {
+        @Nullable
+        private final String namespace;
+        private final String group;
+    }
+}
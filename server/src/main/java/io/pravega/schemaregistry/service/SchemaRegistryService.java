@@ -19,6 +19,9 @@ import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.protobuf.DescriptorProtos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.context.Context;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.Retry;
@@ -40,11 +43,14 @@ import io.pravega.schemaregistry.contract.data.VersionInfo;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
 import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
 import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException;
+import io.pravega.schemaregistry.metrics.MetricsNames;
+import io.pravega.schemaregistry.metrics.MetricsProvider;
 import io.pravega.schemaregistry.rules.CompatibilityChecker;
 import io.pravega.schemaregistry.rules.CompatibilityCheckerFactory;
 import io.pravega.schemaregistry.storage.ContinuationToken;
 import io.pravega.schemaregistry.storage.SchemaStore;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.schemaregistry.tracing.TracingHelper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.Schema;
 import org.everit.json.schema.loader.SchemaLoader;
@@ -56,12 +62,14 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.pravega.schemaregistry.contract.data.BackwardAndForward.BackwardTransitive;
@@ -76,10 +84,17 @@ import static io.pravega.schemaregistry.contract.data.BackwardAndForward.Backwar
  */
 @Slf4j
 public class SchemaRegistryService {
+    private static final Counter ADD_SCHEMA_WRITE_CONFLICTS = MetricsProvider.getRegistry().counter(MetricsNames.ADD_SCHEMA_WRITE_CONFLICTS);
     private static final Retry.RetryAndThrowConditionally RETRY = Retry.withExpBackoff(1, 2, Integer.MAX_VALUE, 100)
                                                                        .retryWhen(x -> Exceptions.unwrap(x) instanceof StoreExceptions.WriteConflictException);
+    private static final Timer NORMALIZE_LATENCY = addSchemaStageTimer("normalize");
+    private static final Timer LOOKUP_LATENCY = addSchemaStageTimer("lookup");
+    private static final Timer VALIDATE_LATENCY = addSchemaStageTimer("validate");
+    private static final Timer WRITE_LATENCY = addSchemaStageTimer("write");
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final VersionInfo EMPTY_VERSION = new VersionInfo("", -1, -1);
+    // interval at which watches re-read the group's etag to observe updates made through other service instances.
+    private static final long WATCH_RECHECK_MILLIS = 5000L;
 
     static {
         OBJECT_MAPPER.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
@@ -90,9 +105,12 @@ public class SchemaRegistryService {
 
     private final ScheduledExecutorService executor;
 
+    private final GroupWatchers watchers;
+
     public SchemaRegistryService(SchemaStore store, ScheduledExecutorService executor) {
         this.store = store;
         this.executor = executor;
+        this.watchers = new GroupWatchers();
     }
 
     /**
@@ -214,6 +232,7 @@ public class SchemaRegistryService {
                                          .whenComplete((r, e) -> {
                                              if (e == null) {
                                                  log.debug("Group {} {} updateCompatibility successful.", namespace, group);
+                                                 watchers.notifyChanged(namespace, group);
                                              } else {
                                                  log.warn("getGroupProperties for group {} {} request failed with error", namespace, group, e);
                                              }
@@ -264,37 +283,49 @@ public class SchemaRegistryService {
         Preconditions.checkArgument(group != null);
         Preconditions.checkArgument(schemaInfo != null);
         log.debug("addSchema called for group {} {}. schema {}", namespace, group, schemaInfo.getType());
-        SchemaInfo schema = normalizeSchemaBinary(schemaInfo);
+        SchemaInfo schema = NORMALIZE_LATENCY.record(() -> normalizeSchemaBinary(schemaInfo));
         // 1. get group policy
         // 2. get checker for serialization format.
         // validate schema against group compatibility policy on schema
         // 3. conditionally update the schema
-        return RETRY.runAsync(() ->
-                store.getGroupEtag(namespace, group)
-                     .thenCompose(etag ->
+        // Each attempt is traced in its own span. The callbacks are wrapped so that the spans of the store calls they 
+        // make are attached to the attempt's span.
+        return TracingHelper.withSpan("SchemaRegistryService.addSchema", () -> RETRY.runAsync(Context.current().wrapSupplier(
+                () -> TracingHelper.withSpan("SchemaRegistryService.addSchema.attempt", () -> {
+            long lookupStart = System.nanoTime();
+            return store.getGroupEtag(namespace, group)
+                     .thenCompose(Context.current().wrapFunction(etag ->
                              store.getGroupProperties(namespace, group)
-                                  .thenCompose(prop -> {
-                                      return Futures.exceptionallyComposeExpecting(store.getSchemaVersion(namespace, group, schema, getFingerprint(schema)),
+                                  .thenCompose(Context.current().wrapFunction(prop -> {
+                                      CompletableFuture<VersionInfo> existing = store.getSchemaVersion(namespace, group, schema, getFingerprint(schema))
+                                              .whenComplete((r, e) -> LOOKUP_LATENCY.record(System.nanoTime() - lookupStart, TimeUnit.NANOSECONDS));
+                                      return Futures.exceptionallyComposeExpecting(existing,
                                               e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException,
-                                              () -> { // Schema doesnt exist. Validate and add it
-                                                  return validateSchema(namespace, group, schema, prop.getCompatibility())
-                                                          .thenCompose(valid -> {
+                                              Context.current().wrapSupplier(() -> { // Schema doesnt exist. Validate and add it
+                                                  return MetricsProvider.time(VALIDATE_LATENCY, () -> validateSchema(namespace, group, schema, prop.getCompatibility()))
+                                                          .thenCompose(Context.current().wrapFunction(valid -> {
                                                               if (!valid) {
                                                                   throw new IncompatibleSchemaException(String.format("%s is incompatible", schema.getType()));
                                                               }
                                                               // we will compute the fingerprint from normalized form.
-                                                              return store.addSchema(namespace, group, schemaInfo, schema,
-                                                                      getFingerprint(schema), prop, etag);
-                                                          });
-                                              });
-                                  })), executor)
-                    .whenComplete((r, e) -> {
-                        if (e == null) {
-                            log.debug("Group {} {}, schema {} added successfully.", namespace, group, schema.getType());
-                        } else {
-                            log.warn("Group {} {}, schema {} add failed with error", namespace, group, e);
-                        }
-                    });
+                                                              return MetricsProvider.time(WRITE_LATENCY, () -> store.addSchema(namespace, group, schemaInfo, schema,
+                                                                      getFingerprint(schema), prop, etag))
+                                                                      .whenComplete((r, e) -> {
+                                                                          if (e != null && Exceptions.unwrap(e) instanceof StoreExceptions.WriteConflictException) {
+                                                                              ADD_SCHEMA_WRITE_CONFLICTS.increment();
+                                                                          }
+                                                                      });
+                                                          }));
+                                              }));
+                                  }))));
+        })), executor)).whenComplete((r, e) -> {
+            if (e == null) {
+                log.debug("Group {} {}, schema {} added successfully.", namespace, group, schema.getType());
+                watchers.notifyChanged(namespace, group);
+            } else {
+                log.warn("Group {} {}, schema {} add failed with error", namespace, group, e);
+            }
+        });
     }
 
     /**
@@ -356,6 +387,7 @@ public class SchemaRegistryService {
                                                       .whenComplete((r, e) -> {
                                                           if (e == null) {
                                                               log.debug("Group {} {}, schema for verison {} deleted.", namespace, group, schemaId);
+                                                              watchers.notifyChanged(namespace, group);
                                                           } else {
                                                               log.warn("Group {} {}, get schema version {} failed with error", namespace, group, schemaId, e);
                                                           }
@@ -379,6 +411,7 @@ public class SchemaRegistryService {
                                                       .whenComplete((r, e) -> {
                                                           if (e == null) {
                                                               log.debug("Group {} {}, schema for verison {}/{} deleted.", namespace, group, schemaType, version);
+                                                              watchers.notifyChanged(namespace, group);
                                                           } else {
                                                               log.warn("Group {} {}, get schema version {}/{} failed with error", namespace, group, schemaType, version, e);
                                                           }
@@ -588,6 +621,7 @@ public class SchemaRegistryService {
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, group deleted", namespace, group);
+                            watchers.notifyChanged(namespace, group);
                         } else {
                             log.warn("Group {} {}, group delete failed with error", namespace, group, e);
                         }
@@ -634,6 +668,7 @@ public class SchemaRegistryService {
                     .whenComplete((r, e) -> {
                         if (e == null) {
                             log.debug("Group {} {}, addCodecType {} successful", namespace, group, codecType);
+                            watchers.notifyChanged(namespace, group);
                         } else {
                             log.warn("Group {} {}, addCodecType {} failed with error", namespace, group, codecType, e);
                         }
@@ -641,6 +676,57 @@ public class SchemaRegistryService {
 
     }
 
+    /**
+     * Waits for the group to change. The entity tag of the group changes with every update to the group. The returned
+     * future is completed with the current entity tag of the group as soon as it differs from the supplied entity tag, 
+     * or when the timeout elapses. 
+     * Updates made through this service instance are observed immediately. Updates made through other instances are
+     * observed when the entity tag is re-read, which happens periodically while waiting.
+     *
+     * @param namespace     namespace for which the request is scoped to.
+     * @param group         Name of group.
+     * @param etag          Entity tag of the group last seen by the caller. If null, the current entity tag is returned
+     *                      immediately.
+     * @param timeoutMillis Maximum time to wait for a change.
+     * @return CompletableFuture which holds the current entity tag of the group.
+     */
+    public CompletableFuture<String> watchGroup(String namespace, String group, @Nullable String etag, long timeoutMillis) {
+        Preconditions.checkArgument(group != null);
+        Preconditions.checkArgument(timeoutMillis >= 0, "timeout should not be negative");
+        log.debug("Group {} {}, watchGroup with etag {}.", namespace, group, etag);
+        GroupWatchers.Watch watch = watchers.watch(namespace, group);
+        return watchUntil(watch, namespace, group, etag, System.currentTimeMillis() + timeoutMillis)
+                .whenComplete((r, e) -> {
+                    watch.close();
+                    if (e == null) {
+                        log.debug("Group {} {}, watchGroup completed with etag {}.", namespace, group, r);
+                    } else {
+                        log.warn("Group {} {}, watchGroup failed with error", namespace, group, e);
+                    }
+                });
+    }
+
+    private CompletableFuture<String> watchUntil(GroupWatchers.Watch watch, String namespace, String group, 
+                                                 @Nullable String etag, long deadline) {
+        // get the signal before reading the etag so that an update after the read is not missed. 
+        CompletableFuture<Void> changed = watch.nextChange();
+        return store.getGroupEtag(namespace, group)
+                    .thenCompose(current -> {
+                        String currentEtag = String.valueOf(current.etag());
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (!currentEtag.equals(etag) || remaining <= 0) {
+                            return CompletableFuture.completedFuture(currentEtag);
+                        }
+                        CompletableFuture<Void> recheck = Futures.delayedFuture(
+                                Duration.ofMillis(Math.min(remaining, WATCH_RECHECK_MILLIS)), executor);
+                        return CompletableFuture.anyOf(changed, recheck)
+                                                .thenCompose(v -> {
+                                                    recheck.cancel(false);
+                                                    return watchUntil(watch, namespace, group, etag, deadline);
+                                                });
+                    });
+    }
+
     private boolean isValidCompatibilityForFormat(SerializationFormat serializationFormat, Compatibility compatibility) {
         switch (serializationFormat) {
             case Avro:
@@ -880,6 +966,13 @@ public class SchemaRegistryService {
         return new SchemaInfo(schemaInfo.getType(), schemaInfo.getSerializationFormat(), schemaBinary, schemaInfo.getProperties());
     }
 
+    private static Timer addSchemaStageTimer(String stage) {
+        return Timer.builder(MetricsNames.ADD_SCHEMA_STAGE_LATENCY)
+                    .tag(MetricsNames.TAG_STAGE, stage)
+                    .publishPercentileHistogram()
+                    .register(MetricsProvider.getRegistry());
+    }
+
     private void validateJsonSchema(String schemaString) {
         try {
             // 1. try draft 3
@@ -16,6 +16,11 @@ import com.google.common.util.concurrent.AbstractService;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCountUtil;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import io.pravega.client.ClientConfig;
 import io.pravega.client.connection.impl.ConnectionPoolImpl;
 import io.pravega.client.connection.impl.SocketConnectionFactoryImpl;
@@ -35,7 +40,10 @@ import io.pravega.controller.store.host.HostStoreException;
 import io.pravega.controller.store.stream.StoreException;
 import io.pravega.controller.util.RetryHelper;
 import io.pravega.schemaregistry.ResultPage;
+import io.pravega.schemaregistry.metrics.MetricsNames;
+import io.pravega.schemaregistry.metrics.MetricsProvider;
 import io.pravega.schemaregistry.storage.StoreExceptions;
+import io.pravega.schemaregistry.tracing.TracingHelper;
 import lombok.Data;
 import lombok.NonNull;
 import lombok.SneakyThrows;
@@ -66,6 +74,14 @@ import static io.pravega.controller.server.WireCommandFailedException.Reason.Con
 public class TableStore extends AbstractService {
     public static final String SCHEMA_REGISTRY_SCOPE = "_schemaregistry";
     private static final int NUM_OF_RETRIES = 15; // approximately 1 minute worth of retries
+    private static final Counter READS = MetricsProvider.getRegistry().counter(MetricsNames.TABLE_READS);
+    private static final Counter WRITES = MetricsProvider.getRegistry().counter(MetricsNames.TABLE_WRITES);
+    private static final Counter REMOVES = MetricsProvider.getRegistry().counter(MetricsNames.TABLE_REMOVES);
+    private static final DistributionSummary READ_BATCH_SIZE = MetricsProvider.getRegistry().summary(MetricsNames.TABLE_READ_BATCH_SIZE);
+    private static final DistributionSummary WRITE_BATCH_SIZE = MetricsProvider.getRegistry().summary(MetricsNames.TABLE_WRITE_BATCH_SIZE);
+    private static final Counter RETRIES = MetricsProvider.getRegistry().counter(MetricsNames.TABLE_RETRIES);
+    private static final Counter WRITE_CONFLICTS = MetricsProvider.getRegistry().counter(MetricsNames.TABLE_WRITE_CONFLICTS);
+    private static final String TABLE_ATTRIBUTE = "table";
     /**
      * Segment helper to make KVT wire command calls to segment store. 
      */
@@ -104,7 +120,9 @@ public class TableStore extends AbstractService {
         numOfRetries = NUM_OF_RETRIES;
         this.cache = CacheBuilder.newBuilder()
                                  .maximumSize(10000)
+                                 .recordStats()
                                  .build();
+        GuavaCacheMetrics.monitor(MetricsProvider.getRegistry(), cache, MetricsNames.TABLE_CACHE);
 
         tokenCache = CacheBuilder.newBuilder()
                     .maximumSize(100)
@@ -186,6 +204,8 @@ public class TableStore extends AbstractService {
                     TableSegmentEntry.notExists(x.getKey(), x.getValue().getRecord()) :
                     TableSegmentEntry.versioned(x.getKey(), x.getValue().getRecord(), x.getValue().getVersion().toLong());
         }).collect(Collectors.toList());
+        WRITES.increment();
+        WRITE_BATCH_SIZE.record(entries.size());
         return withRetries(() -> {
             return segmentHelper.updateTableEntries(tableName, entries, getToken(tableName), RequestTag.NON_EXISTENT_ID)
                                 .thenApply(list -> list.stream().map(x -> new Version(x.getSegmentVersion()))
@@ -207,6 +227,8 @@ public class TableStore extends AbstractService {
     public CompletableFuture<List<VersionedRecord<byte[]>>> getEntries(String tableName, List<byte[]> tableKeys, boolean throwOnNotFound) {
         log.info("get entries called for : {} key : {}", tableName, tableKeys);
         List<TableSegmentKey> keys = tableKeys.stream().map(TableSegmentKey::unversioned).collect(Collectors.toList());
+        READS.increment();
+        READ_BATCH_SIZE.record(keys.size());
 
         CompletableFuture<List<VersionedRecord<byte[]>>> result = new CompletableFuture<>();
         String message = "get entries for table: %s";
@@ -245,6 +267,7 @@ public class TableStore extends AbstractService {
     public CompletableFuture<Void> removeEntry(String tableName, byte[] key) {
         log.trace("remove entry called for : {} key : {}", tableName, key);
         List<TableSegmentKey> keys = Collections.singletonList(TableSegmentKey.unversioned(key));
+        REMOVES.increment();
         return withRetries(() -> segmentHelper.removeTableKeys(
                 tableName, keys, getToken(tableName), RequestTag.NON_EXISTENT_ID),
                 () -> String.format("remove entry: key: %s table: %s", key, tableName), tableName)
@@ -362,7 +385,8 @@ public class TableStore extends AbstractService {
 
     private <T> Supplier<CompletableFuture<T>> exceptionalCallback(Supplier<CompletableFuture<T>> future, Supplier<String> errorMessageSupplier,
                                                                    String tableName, boolean throwOriginalOnCfe) {
-        return () -> CompletableFuture.completedFuture(null).thenComposeAsync(v -> future.get(), executor).exceptionally(t -> {
+        Span span = Span.current();
+        return () -> CompletableFuture.completedFuture(null).thenComposeAsync(v -> future.get(), Context.taskWrapping(executor)).exceptionally(t -> {
             String errorMessage = errorMessageSupplier.get();
             Throwable cause = Exceptions.unwrap(t);
             Throwable toThrow;
@@ -390,6 +414,7 @@ public class TableStore extends AbstractService {
                         toThrow = StoreExceptions.create(StoreExceptions.Type.DATA_NOT_FOUND, wcfe, errorMessage);
                         break;
                     case TableKeyBadVersion:
+                        WRITE_CONFLICTS.increment();
                         toThrow = StoreExceptions.create(StoreExceptions.Type.WRITE_CONFLICT, wcfe, errorMessage);
                         break;
                     default:
@@ -403,6 +428,11 @@ public class TableStore extends AbstractService {
                 toThrow = StoreExceptions.create(StoreExceptions.Type.UNKNOWN, cause, errorMessage);
             }
 
+            if (toThrow instanceof StoreExceptions.StoreConnectionException) {
+                // the call will be retried by withRetries.
+                RETRIES.increment();
+                span.addEvent("retry");
+            }
             throw new CompletionException(toThrow);
         });
     }
@@ -413,8 +443,11 @@ public class TableStore extends AbstractService {
 
     private <T> CompletableFuture<T> withRetries(Supplier<CompletableFuture<T>> futureSupplier, Supplier<String> errorMessage,
                                                  String tableName, boolean throwOriginalOnCfe) {
-        return RetryHelper.withRetriesAsync(exceptionalCallback(futureSupplier, errorMessage, tableName, throwOriginalOnCfe),
-                e -> Exceptions.unwrap(e) instanceof StoreExceptions.StoreConnectionException, numOfRetries, executor)
+        return TracingHelper.withSpan("TableStore.withRetries", () -> {
+            Span.current().setAttribute(TABLE_ATTRIBUTE, tableName);
+            return RetryHelper.withRetriesAsync(exceptionalCallback(futureSupplier, errorMessage, tableName, throwOriginalOnCfe),
+                    e -> Exceptions.unwrap(e) instanceof StoreExceptions.StoreConnectionException, numOfRetries, executor);
+        })
                           .exceptionally(e -> {
                               Throwable t = Exceptions.unwrap(e);
                               if (t instanceof RetriesExhaustedException) {
@@ -17,6 +17,8 @@ import com.google.common.collect.Lists;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.util.JsonFormat;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.ByteArraySegment;
@@ -38,6 +40,7 @@ import io.pravega.schemaregistry.storage.Etag;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import io.pravega.schemaregistry.common.ChunkUtil;
 import io.pravega.schemaregistry.storage.impl.group.records.TableRecords;
+import io.pravega.schemaregistry.tracing.TracingHelper;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigInteger;
@@ -105,6 +108,8 @@ public class Group<V> {
             Retry.withExpBackoff(1, 2, Integer.MAX_VALUE, 100)
                  .retryWhen(x -> Exceptions.unwrap(x) instanceof StoreExceptions.WriteConflictException);
     private static final CodecType NONE_CODEC_TYPE = new CodecType("");
+    private static final String VERSIONS_ATTRIBUTE = "versions";
+    private static final String CHUNKS_ATTRIBUTE = "chunks";
 
     private final GroupTable<V> groupTable;
     private final ScheduledExecutorService executor;
@@ -176,14 +181,17 @@ public class Group<V> {
         } else {
             List<SchemaIdChunkKey> keys = IntStream.range(1, sr.getNumberOfChunks()).boxed().map(y -> 
                     new SchemaIdChunkKey(sr.getId(), y)).collect(Collectors.toList());
-            return groupTable.getEntries(keys, SchemaChunkRecord.class)
-                    .thenApply(chunks -> {
-                        List<ByteArraySegment> chunkList = new ArrayList<>();
-                        chunkList.add(sr.getSchemaChunk());
-                        chunks.forEach(x -> chunkList.add(x.getChunkPayload()));
-                        return new SchemaInfo(sr.getType(), sr.getSerializationFormat(), ChunkUtil.combine(chunkList),
-                                sr.getProperties());
-                    });
+            return TracingHelper.withSpan("Group.getSchemaInfo", () -> {
+                Span.current().setAttribute(CHUNKS_ATTRIBUTE, sr.getNumberOfChunks());
+                return groupTable.getEntries(keys, SchemaChunkRecord.class)
+                        .thenApply(chunks -> {
+                            List<ByteArraySegment> chunkList = new ArrayList<>();
+                            chunkList.add(sr.getSchemaChunk());
+                            chunks.forEach(x -> chunkList.add(x.getChunkPayload()));
+                            return new SchemaInfo(sr.getType(), sr.getSerializationFormat(), ChunkUtil.combine(chunkList),
+                                    sr.getProperties());
+                        });
+            });
         }
     }
 
@@ -696,7 +704,16 @@ public class Group<V> {
     private CompletableFuture<VersionInfo> findVersion(List<VersionInfo> versions, SchemaInfo toFind) {
         AtomicReference<VersionInfo> found = new AtomicReference<>();
         Iterator<VersionInfo> iterator = versions.iterator();
-        return Futures.loop(() -> iterator.hasNext() && found.get() == null, () -> {
+        return TracingHelper.withSpan("Group.findVersion", () -> {
+            Span.current().setAttribute(VERSIONS_ATTRIBUTE, versions.size());
+            return findVersion(iterator, toFind, found);
+        });
+    }
+
+    private CompletableFuture<VersionInfo> findVersion(Iterator<VersionInfo> iterator, SchemaInfo toFind, 
+                                                       AtomicReference<VersionInfo> found) {
+        // the loop body runs on the executor, so it is wrapped to attach the schema reads to the span of the lookup.
+        return Futures.loop(() -> iterator.hasNext() && found.get() == null, Context.current().wrapSupplier(() -> {
             VersionInfo version = iterator.next();
             return Futures.exceptionallyExpecting(getSchema(version.getId(), true)
                     .thenAccept(schema -> {
@@ -714,7 +731,7 @@ public class Group<V> {
                             found.set(version);
                         }
                     }), e -> Exceptions.unwrap(e) instanceof StoreExceptions.DataNotFoundException, null);
-        }, executor).thenApply(v -> found.get());
+        }), executor).thenApply(v -> found.get());
     }
 
     private String getSchemaString(SchemaInfo schemaInfo) {
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.tracing;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.pravega.common.Exceptions;
+
+import javax.ws.rs.core.HttpHeaders;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Helper methods to trace asynchronous calls with OpenTelemetry spans. 
+ * 
+ * The tracer is looked up from {@link GlobalOpenTelemetry} so spans are no-ops unless an OpenTelemetry SDK is installed,
+ * for example with the OpenTelemetry java agent. 
+ * 
+ * The current span is held in a thread local context. A span started with {@link #withSpan} is current only while its 
+ * future is being created. Callbacks that run on other threads once the future completes need to be wrapped with 
+ * {@link Context#wrapFunction} and the like, or run on an executor wrapped with {@link Context#taskWrapping}, so that 
+ * spans they start are attached to the same trace. 
+ */
+public final class TracingHelper {
+    private static final String INSTRUMENTATION_NAME = "io.pravega.schemaregistry";
+    private static final TextMapGetter<HttpHeaders> HEADERS_GETTER = new TextMapGetter<HttpHeaders>() {
+        @Override
+        public Iterable<String> keys(HttpHeaders carrier) {
+            return carrier.getRequestHeaders().keySet();
+        }
+
+        @Override
+        public String get(HttpHeaders carrier, String key) {
+            List<String> values = carrier.getRequestHeader(key);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    };
+
+    private TracingHelper() {
+    }
+
+    /**
+     * Extracts the trace context propagated by the caller in request headers.
+     *
+     * @param headers request headers.
+     * @return Context with the caller's span, or the current context if the caller did not propagate any.
+     */
+    public static Context extract(HttpHeaders headers) {
+        return GlobalOpenTelemetry.getPropagators().getTextMapPropagator().extract(Context.current(), headers, HEADERS_GETTER);
+    }
+
+    /**
+     * Starts a span as child of the current span and makes it current while the supplier creates the future. The span 
+     * is ended when the future completes.
+     *
+     * @param name name of the span.
+     * @param futureSupplier supplier of the future to trace.
+     * @param <T> Type of result.
+     * @return the future returned by the supplier.
+     */
+    public static <T> CompletableFuture<T> withSpan(String name, Supplier<CompletableFuture<T>> futureSupplier) {
+        return withSpan(name, Context.current(), SpanKind.INTERNAL, futureSupplier);
+    }
+
+    /**
+     * Starts a span as child of the span in the parent context and makes it current while the supplier creates the future. 
+     * The span is ended when the future completes.
+     *
+     * @param name name of the span.
+     * @param parent context holding the parent span.
+     * @param kind kind of span.
+     * @param futureSupplier supplier of the future to trace.
+     * @param <T> Type of result.
+     * @return the future returned by the supplier.
+     */
+    public static <T> CompletableFuture<T> withSpan(String name, Context parent, SpanKind kind, 
+                                                    Supplier<CompletableFuture<T>> futureSupplier) {
+        Span span = getTracer().spanBuilder(name).setParent(parent).setSpanKind(kind).startSpan();
+        CompletableFuture<T> future;
+        try (Scope ignored = span.makeCurrent()) {
+            future = futureSupplier.get();
+        } catch (Throwable e) {
+            end(span, e);
+            throw e;
+        }
+        return future.whenComplete((r, e) -> end(span, e));
+    }
+
+    private static Tracer getTracer() {
+        return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    private static void end(Span span, Throwable e) {
+        if (e != null) {
+            Throwable unwrap = Exceptions.unwrap(e);
+            span.recordException(unwrap);
+            span.setStatus(StatusCode.ERROR, unwrap.getClass().getSimpleName());
+        }
+        span.end();
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsProviderTest {
+    @Test
+    public void testTime() {
+        Timer timer = new SimpleMeterRegistry().timer("test");
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        CompletableFuture<Integer> timed = MetricsProvider.time(timer, () -> future);
+        assertEquals(0L, timer.count());
+        future.complete(1);
+        assertEquals(1, timed.join().intValue());
+        assertEquals(1L, timer.count());
+
+        // failures are timed too
+        AssertExtensions.assertThrows("", () -> MetricsProvider.time(timer, () -> Futures.failedFuture(new RuntimeException())).join(), 
+                e -> e instanceof RuntimeException);
+        assertEquals(2L, timer.count());
+    }
+
+    @Test
+    public void testPrometheus() {
+        PrometheusMeterRegistry registry = MetricsProvider.enablePrometheus();
+        assertSame(registry, MetricsProvider.enablePrometheus());
+        
+        MetricsProvider.getRegistry().counter(MetricsNames.TABLE_READS).increment();
+        assertTrue(registry.scrape().contains("schemaregistry_store_table_reads_total"));
+    }
+}
@@ -12,6 +12,8 @@ package io.pravega.schemaregistry.server.rest;
 import io.pravega.test.common.AssertExtensions;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -24,6 +26,28 @@ public class ConfigTest {
         assertEquals(config.getPort(), 9092);
         assertFalse(config.isAuthEnabled());
         assertFalse(config.isTlsEnabled());
+        assertEquals(config.getReadThreadPoolSize(), 20);
+        assertEquals(config.getWriteThreadPoolSize(), 10);
+        assertFalse(config.isVirtualThreadsEnabled());
+        assertEquals(config.getNamespaceRateLimit(), 0);
+        assertEquals(config.getGroupRateLimit(), 0);
+        assertTrue(config.getGroupRateLimitOverrides().isEmpty());
+        assertFalse(config.isHttp2Enabled());
+        assertEquals(config.getKeepAliveMaxRequests(), 256);
+        
+        // invalid request execution config
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ServiceConfig.builder().readThreadPoolSize(0).build());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ServiceConfig.builder().writeQueueSize(-1).build());
+        
+        // invalid rate limit config
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ServiceConfig.builder().groupRateLimit(-1).build());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ServiceConfig.builder().rateLimitBurstSeconds(0).build());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> 
+                ServiceConfig.builder().namespaceRateLimitOverrides(Collections.singletonMap("ns", -1)).build());
+        
+        // invalid listener config
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ServiceConfig.builder().workerThreadPoolSize(-1).build());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> ServiceConfig.builder().keepAliveIdleTimeoutSeconds(-2).build());
     }
 
     @Test
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest;
+
+import io.pravega.schemaregistry.exceptions.ServiceOverloadedException;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.assertEquals;
+
+public class RequestExecutorTest {
+    private ScheduledExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testAdmission() {
+        RequestExecutor requestExecutor = new RequestExecutor(executor, 1, executor, 2);
+        CompletableFuture<Integer> pendingRead = new CompletableFuture<>();
+        CompletableFuture<Integer> read = requestExecutor.execute(RequestExecutor.Workload.READ, () -> pendingRead);
+        assertEquals(0, requestExecutor.getAvailablePermits(RequestExecutor.Workload.READ));
+
+        // read pool is full. 
+        AssertExtensions.assertThrows("Request should have been rejected",
+                () -> requestExecutor.execute(RequestExecutor.Workload.READ, () -> CompletableFuture.completedFuture(1)).join(),
+                e -> e instanceof ServiceOverloadedException);
+        
+        // writes are admitted independently of reads.
+        assertEquals(2, requestExecutor.execute(RequestExecutor.Workload.WRITE, () -> CompletableFuture.completedFuture(2)).join().intValue());
+        
+        // completing the outstanding read frees up the capacity.
+        pendingRead.complete(1);
+        assertEquals(1, read.join().intValue());
+        assertEquals(1, requestExecutor.getAvailablePermits(RequestExecutor.Workload.READ));
+        assertEquals(3, requestExecutor.execute(RequestExecutor.Workload.READ, () -> CompletableFuture.completedFuture(3)).join().intValue());
+        
+        // failed requests also release their capacity.
+        AssertExtensions.assertThrows("Request should have failed",
+                () -> requestExecutor.execute(RequestExecutor.Workload.READ, () -> {
+                    throw new IllegalArgumentException();
+                }).join(), e -> e instanceof IllegalArgumentException);
+        assertEquals(1, requestExecutor.getAvailablePermits(RequestExecutor.Workload.READ));
+    }
+
+    @Test
+    public void testConfiguredPools() {
+        ServiceConfig config = ServiceConfig.builder().readThreadPoolSize(2).writeThreadPoolSize(1)
+                                            .readQueueSize(0).writeQueueSize(0).virtualThreadsEnabled(true).build();
+        try (RequestExecutor requestExecutor = new RequestExecutor(config)) {
+            assertEquals(2, requestExecutor.getAvailablePermits(RequestExecutor.Workload.READ));
+            assertEquals(1, requestExecutor.getAvailablePermits(RequestExecutor.Workload.WRITE));
+            assertEquals(1, requestExecutor.execute(RequestExecutor.Workload.WRITE, () -> CompletableFuture.completedFuture(1)).join().intValue());
+        }
+    }
+}
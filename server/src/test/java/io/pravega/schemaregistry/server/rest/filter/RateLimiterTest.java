@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.server.rest.filter;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.schemaregistry.server.rest.ServiceConfig;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+    @Test
+    public void testTokenBucket() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        RateLimiter.TokenBucket bucket = new RateLimiter.TokenBucket(2, 2, 0L);
+        // full bucket allows a burst of rate * burst seconds requests.
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bucket.tryAcquire(0L));
+        }
+        assertFalse(bucket.tryAcquire(0L));
+        
+        // bucket is refilled at the rate.
+        assertTrue(bucket.tryAcquire(second / 2));
+        assertFalse(bucket.tryAcquire(second / 2));
+        
+        // bucket does not fill beyond its capacity.
+        long later = 100 * second;
+        for (int i = 0; i < 4; i++) {
+            assertTrue(bucket.tryAcquire(later));
+        }
+        assertFalse(bucket.tryAcquire(later));
+
+        // released tokens can be taken again.
+        bucket.release();
+        assertTrue(bucket.tryAcquire(later));
+        assertFalse(bucket.tryAcquire(later));
+    }
+
+    @Test
+    public void testRateLimiter() {
+        AtomicLong clock = new AtomicLong(0L);
+        ServiceConfig disabled = ServiceConfig.builder().build();
+        assertFalse(new RateLimiter(disabled, clock::get).isEnabled());
+
+        ServiceConfig config = ServiceConfig.builder().namespaceRateLimit(3).groupRateLimit(1)
+                                            .namespaceRateLimitOverrides(ImmutableMap.of("unlimited", 0))
+                                            .groupRateLimitOverrides(ImmutableMap.of("ns/hot", 2)).build();
+        RateLimiter rateLimiter = new RateLimiter(config, clock::get);
+        assertTrue(rateLimiter.isEnabled());
+
+        // group limit. the namespace token of a rejected request is returned.
+        assertTrue(rateLimiter.tryAcquire(null, "g1"));
+        assertFalse(rateLimiter.tryAcquire(null, "g1"));
+        // groups in different namespaces are limited independently
+        assertTrue(rateLimiter.tryAcquire("ns", "g1"));
+        // group override
+        assertTrue(rateLimiter.tryAcquire("ns", "hot"));
+        assertTrue(rateLimiter.tryAcquire("ns", "hot"));
+        // namespace limit
+        assertFalse(rateLimiter.tryAcquire("ns", "g2"));
+        assertTrue(rateLimiter.tryAcquire(null, null));
+        assertTrue(rateLimiter.tryAcquire("", null));
+        assertFalse(rateLimiter.tryAcquire(null, null));
+        // namespace override
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimiter.tryAcquire("unlimited", null));
+        }
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(rateLimiter.tryAcquire(null, "g1"));
+        assertTrue(rateLimiter.tryAcquire("ns", "g2"));
+
+        // idle buckets are evicted.
+        assertTrue(rateLimiter.size() > 0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0L, rateLimiter.size());
+    }
+}
@@ -11,6 +11,7 @@ package io.pravega.schemaregistry.server.rest.resources;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.schemaregistry.ResultPage;
 import io.pravega.schemaregistry.contract.data.CodecType;
@@ -37,10 +38,12 @@ import io.pravega.schemaregistry.exceptions.CodecTypeNotRegisteredException;
 import io.pravega.schemaregistry.exceptions.IncompatibleSchemaException;
 import io.pravega.schemaregistry.exceptions.PreconditionFailedException;
 import io.pravega.schemaregistry.exceptions.SerializationFormatMismatchException;
+import io.pravega.schemaregistry.metrics.MetricsNames;
 import io.pravega.schemaregistry.server.rest.RegistryApplication;
 import io.pravega.schemaregistry.server.rest.ServiceConfig;
 import io.pravega.schemaregistry.server.rest.auth.AuthHandlerManager;
 import io.pravega.schemaregistry.server.rest.filter.NamespaceRedirectFilter;
+import io.pravega.schemaregistry.server.rest.filter.RequestMetricsFilter;
 import io.pravega.schemaregistry.service.SchemaRegistryService;
 import io.pravega.schemaregistry.storage.StoreExceptions;
 import org.glassfish.jersey.test.JerseyTest;
@@ -82,6 +85,7 @@ public class SchemaRegistryResourceTest extends JerseyTest {
     private static final String NAMESPACE_FORMAT = "v1/namespace/%s/groups";
     private SchemaRegistryService service;
     private ScheduledExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
 
     @Override
     protected Application configure() {
@@ -90,6 +94,8 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         service = mock(SchemaRegistryService.class);
         final Set<Object> resourceObjs = new HashSet<>();
         resourceObjs.add(new NamespaceRedirectFilter());
+        meterRegistry = new SimpleMeterRegistry();
+        resourceObjs.add(new RequestMetricsFilter(meterRegistry));
         ServiceConfig config = ServiceConfig.builder().build();
         AuthHandlerManager authHandlerManager = new AuthHandlerManager(config);
         resourceObjs.add(new GroupResourceImpl(service, config, authHandlerManager, executor));
@@ -118,6 +124,8 @@ public class SchemaRegistryResourceTest extends JerseyTest {
         assertEquals(response.getStatus(), 200);
         ListGroupsResponse list = response.readEntity(ListGroupsResponse.class);
         assertEquals(list.getGroups().size(), 1);
+        assertEquals(1L, meterRegistry.get(MetricsNames.REST_REQUEST_LATENCY).tag(MetricsNames.TAG_ENDPOINT, "listGroups")
+                                      .tag(MetricsNames.TAG_STATUS, "200").timer().count());
 
         // Runtime Exception
         doAnswer(x ->
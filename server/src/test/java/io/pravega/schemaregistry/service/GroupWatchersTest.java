@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.service;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class GroupWatchersTest {
+    @Test
+    public void testWatch() {
+        GroupWatchers watchers = new GroupWatchers();
+        // groups without watches are not tracked. 
+        watchers.notifyChanged(null, "mygroup");
+        assertEquals(0, watchers.size());
+
+        GroupWatchers.Watch watch1 = watchers.watch(null, "mygroup");
+        GroupWatchers.Watch watch2 = watchers.watch(null, "mygroup");
+        GroupWatchers.Watch other = watchers.watch("ns", "mygroup");
+        assertEquals(2, watchers.size());
+
+        CompletableFuture<Void> changed1 = watch1.nextChange();
+        CompletableFuture<Void> changed2 = watch2.nextChange();
+        CompletableFuture<Void> otherChanged = other.nextChange();
+        watchers.notifyChanged(null, "mygroup");
+        assertTrue(changed1.isDone());
+        assertTrue(changed2.isDone());
+        assertFalse(otherChanged.isDone());
+
+        // every wait gets its own future. 
+        CompletableFuture<Void> next = watch1.nextChange();
+        assertNotSame(changed1, next);
+        assertFalse(next.isDone());
+        watchers.notifyChanged(null, "mygroup");
+        assertTrue(next.isDone());
+
+        // groups are dropped once their last watch is closed. 
+        watch1.close();
+        assertEquals(2, watchers.size());
+        watch2.close();
+        assertEquals(1, watchers.size());
+        other.close();
+        assertEquals(0, watchers.size());
+    }
+}
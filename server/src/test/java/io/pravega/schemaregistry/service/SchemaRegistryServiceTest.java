@@ -49,8 +49,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -707,4 +709,26 @@ public class SchemaRegistryServiceTest {
         schema = service.getSchema(namespace, group, v.getId()).join();
         assertNotEquals(schema, secondOrder);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWatchGroup() {
+        AtomicInteger version = new AtomicInteger(0);
+        doAnswer(x -> CompletableFuture.completedFuture((Etag) version::get)).when(store).getGroupEtag(any(), anyString());
+        doAnswer(x -> CompletableFuture.completedFuture(null)).when(store).addCodecType(any(), anyString(), any());
+
+        // without an etag the current etag is returned immediately. 
+        assertEquals("0", service.watchGroup(null, "mygroup", null, 60000L).join());
+        // the current etag is returned once the timeout elapses.
+        assertEquals("0", service.watchGroup(null, "mygroup", "0", 0L).join());
+
+        CompletableFuture<String> watch = service.watchGroup(null, "mygroup", "0", 60000L);
+        assertFalse(watch.isDone());
+        // updates to other groups do not complete the watch.
+        service.addCodecType(null, "othergroup", new CodecType("gzip")).join();
+        assertFalse(watch.isDone());
+
+        version.incrementAndGet();
+        service.addCodecType(null, "mygroup", new CodecType("gzip")).join();
+        assertEquals("1", watch.join());
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.schemaregistry.tracing;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.test.common.AssertExtensions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TracingHelperTest {
+    private InMemorySpanExporter exporter;
+
+    @Before
+    public void setUp() {
+        exporter = InMemorySpanExporter.create();
+        GlobalOpenTelemetry.resetForTest();
+        OpenTelemetrySdk.builder()
+                        .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+                        .buildAndRegisterGlobal();
+    }
+
+    @After
+    public void tearDown() {
+        GlobalOpenTelemetry.resetForTest();
+    }
+
+    @Test
+    public void testWithSpan() {
+        CompletableFuture<Integer> inner = new CompletableFuture<>();
+        CompletableFuture<Integer> outer = TracingHelper.withSpan("outer", () -> {
+            // wrapFunction captures the span of outer so the span started from the callback is its child even though it 
+            // runs after outer's supplier has returned.
+            Function<Integer, CompletableFuture<Integer>> callback = Context.current().wrapFunction(x -> TracingHelper.withSpan("inner", () -> inner));
+            return CompletableFuture.completedFuture(1).thenComposeAsync(callback);
+        });
+        assertTrue(exporter.getFinishedSpanItems().isEmpty());
+        inner.complete(1);
+        outer.join();
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        SpanData innerSpan = spans.get(0);
+        SpanData outerSpan = spans.get(1);
+        assertEquals("inner", innerSpan.getName());
+        assertEquals("outer", outerSpan.getName());
+        assertEquals(outerSpan.getSpanId(), innerSpan.getParentSpanId());
+        assertEquals(outerSpan.getTraceId(), innerSpan.getTraceId());
+        assertEquals(StatusCode.UNSET, outerSpan.getStatus().getStatusCode());
+    }
+
+    @Test
+    public void testWithSpanFailure() {
+        AssertExtensions.assertThrows("", () -> TracingHelper.withSpan("failed", 
+                () -> Futures.failedFuture(new IllegalArgumentException())).join(), 
+                e -> e instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("", () -> TracingHelper.withSpan("thrown", () -> {
+                    throw new IllegalStateException();
+                }), e -> e instanceof IllegalStateException);
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        spans.forEach(span -> {
+            assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+            assertEquals(1, span.getEvents().size());
+        });
+    }
+}